@@ -0,0 +1,54 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading values out of a {@code Probable} through {@code stream()} and {@code deepGet()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessBenchmark extends DebugLoggingState {
+
+  private final Probable<String> value = Probable.of("benchmark");
+  private final Probable<String> nothing = Probable.nothing();
+  private final Probable<Probable<Probable<String>>> nested = Probable.of(Probable.of(value));
+  private final Optional<String> optional = Optional.of("benchmark");
+
+  @Benchmark
+  public long stream() {
+    return value.stream().count();
+  }
+
+  @Benchmark
+  public long streamOnNothing() {
+    return nothing.stream().count();
+  }
+
+  @Benchmark
+  public long optionalStream() {
+    return optional.stream().count();
+  }
+
+  @Benchmark
+  public String deepGet() {
+    return nested.deepGet();
+  }
+
+  @Benchmark
+  public String nestedGet() {
+    return nested.get().get().get();
+  }
+
+}
@@ -0,0 +1,43 @@
+package com.compilit.probably.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the regular JMH command line options, but always adds the GC profiler and
+ * writes the results as a JSON baseline into the {@code baselines} directory (or the directory given through the
+ * {@code probably.baselines} system property), so consecutive runs can be compared to spot regressions.
+ */
+public final class BenchmarkRunner {
+
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+    var commandLineOptions = new CommandLineOptions(args);
+    var baselineDirectory = Path.of(System.getProperty("probably.baselines", "baselines"));
+    Files.createDirectories(baselineDirectory);
+    var baseline = baselineDirectory.resolve(
+      String.format("probably-%s.json", LocalDateTime.now().format(TIMESTAMP_FORMAT))
+    );
+    var options = new OptionsBuilder().parent(commandLineOptions)
+                                      .addProfiler(GCProfiler.class)
+                                      .resultFormat(ResultFormatType.JSON)
+                                      .result(baseline.toString())
+                                      .build();
+    new Runner(options).run();
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbableCodec;
+import com.compilit.probably.ProbableOutcome;
+import com.compilit.probably.ProbableValueCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading a batch of 1000 Probables, one in ten of them a Failure with an Exception, with a
+ * {@link ProbableCodec}, against Java serialization of the same data in a {@link Serializable} class. Probables
+ * themselves are not Serializable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+  private final ProbableCodec<String> codec = ProbableCodec.of(ProbableValueCodec.strings());
+  private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+  private List<Probable<String>> probables;
+  private ArrayList<SerializedProbable> serializable;
+  private byte[] serialized;
+
+  @Setup(Level.Trial)
+  public void createProbables() throws IOException {
+    probables = IntStream.range(0, 1000)
+                         .mapToObj(i -> i % 10 == 0
+                           ? Probable.<String>failure(new IllegalStateException("record " + i + " was rejected"),
+                                                      "record was rejected")
+                           : Probable.of("record " + i))
+                         .collect(Collectors.toList());
+    serializable = probables.stream()
+                            .map(SerializedProbable::new)
+                            .collect(Collectors.toCollection(ArrayList::new));
+    serialized = javaSerialize();
+    codec.writeBatch(probables, buffer.clear());
+  }
+
+  @Benchmark
+  public Probable<Integer> codecWrite() {
+    return codec.writeBatch(probables, buffer.clear());
+  }
+
+  @Benchmark
+  public Probable<List<Probable<String>>> codecRead() {
+    return codec.readBatch(buffer.position(0));
+  }
+
+  @Benchmark
+  public byte[] javaSerializationWrite() throws IOException {
+    return javaSerialize();
+  }
+
+  @Benchmark
+  public Object javaSerializationRead() throws IOException, ClassNotFoundException {
+    try (var input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return input.readObject();
+    }
+  }
+
+  private byte[] javaSerialize() throws IOException {
+    var bytes = new ByteArrayOutputStream(serialized == null ? 1024 : serialized.length);
+    try (var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(serializable);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static final class SerializedProbable implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ProbableOutcome outcome;
+    private final String value;
+    private final String message;
+    private final String exceptionClass;
+    private final String exceptionMessage;
+
+    private SerializedProbable(Probable<String> probable) {
+      outcome = ProbableOutcome.of(probable);
+      value = probable.get();
+      message = probable.getMessage();
+      var exception = probable.getException();
+      exceptionClass = exception == null ? null : exception.getClass().getName();
+      exceptionMessage = exception == null ? null : exception.getMessage();
+    }
+  }
+
+}
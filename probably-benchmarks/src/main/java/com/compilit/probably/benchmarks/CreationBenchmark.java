@@ -0,0 +1,67 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code Probable.of(Supplier)} for successful and throwing suppliers against {@code Optional} and plain
+ * try/catch code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreationBenchmark extends DebugLoggingState {
+
+  private final String input = "42";
+  private final Supplier<Integer> successfulSupplier = () -> Integer.valueOf(input);
+  private final Supplier<Integer> failingSupplier = () -> Integer.valueOf("not a number");
+
+  @Benchmark
+  public Probable<Integer> probableOfSuccessfulSupplier() {
+    return Probable.of(successfulSupplier);
+  }
+
+  @Benchmark
+  public Probable<Integer> probableOfFailingSupplier() {
+    return Probable.of(failingSupplier);
+  }
+
+  @Benchmark
+  public Optional<Integer> optionalOfSuccessfulSupplier() {
+    try {
+      return Optional.ofNullable(successfulSupplier.get());
+    } catch (Exception exception) {
+      return Optional.empty();
+    }
+  }
+
+  @Benchmark
+  public Integer tryCatchSuccessfulSupplier() {
+    try {
+      return successfulSupplier.get();
+    } catch (Exception exception) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer tryCatchFailingSupplier() {
+    try {
+      return failingSupplier.get();
+    } catch (Exception exception) {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.compilit.probably.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbableEvents;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base state for all suites that runs every benchmark without any event listener, with the default logging listener
+ * and the {@code Probable} logger on INFO, and with the logging listener and the logger on DEBUG.
+ */
+@State(Scope.Benchmark)
+public abstract class DebugLoggingState {
+
+  @Param({"none", "info", "debug"})
+  public String events;
+
+  @Setup
+  public void configureLogging() {
+    Logger logger = (Logger) LoggerFactory.getLogger(Probable.class);
+    logger.setLevel("debug".equals(events) ? Level.DEBUG : Level.INFO);
+    ProbableEvents.clearListeners();
+    if (!"none".equals(events)) {
+      ProbableEvents.addListener(ProbableEvents.loggingListener());
+    }
+  }
+
+}
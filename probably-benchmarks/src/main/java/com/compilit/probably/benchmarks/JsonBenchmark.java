@@ -0,0 +1,63 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbableJson;
+import com.compilit.probably.ProbableJsonValueCodec;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading a stream of 1000 Probables, one in ten of them a Failure with an Exception, as newline
+ * delimited JSON with a {@link ProbableJson}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+  private final ProbableJson<String> json = ProbableJson.of(ProbableJsonValueCodec.strings());
+  private final StringBuilder output = new StringBuilder(128 * 1024);
+  private List<Probable<String>> probables;
+  private String written;
+
+  @Setup(Level.Trial)
+  public void createProbables() {
+    probables = IntStream.range(0, 1000)
+                         .mapToObj(i -> i % 10 == 0
+                           ? Probable.<String>failure(new IllegalStateException("record " + i + " was rejected"),
+                                                      "record was rejected")
+                           : Probable.of("record " + i))
+                         .collect(Collectors.toList());
+    json.writeStream(probables.stream(), output);
+    written = output.toString();
+  }
+
+  @Benchmark
+  public Probable<Long> writeStream() {
+    output.setLength(0);
+    return json.writeStream(probables.stream(), output);
+  }
+
+  @Benchmark
+  public List<Probable<String>> readStream() {
+    return json.readStream(new StringReader(written)).collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,65 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+/**
+ * Measures {@code Probable.log()} on enabled and disabled levels against logging the same information directly. The
+ * logger of this class runs on the same level as the {@code Probable} logger, so both sides build and dispatch the same
+ * events.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogBenchmark extends DebugLoggingState {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LogBenchmark.class);
+
+  private final Probable<String> value = Probable.of("benchmark");
+  private final Probable<String> failure = Probable.failure("benchmark failure %s", 42);
+
+  @Setup
+  public void alignLogLevel() {
+    var probableLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Probable.class);
+    ((ch.qos.logback.classic.Logger) LOGGER).setLevel(probableLogger.getEffectiveLevel());
+  }
+
+  @Benchmark
+  public Probable<String> log() {
+    return value.log();
+  }
+
+  @Benchmark
+  public Probable<String> logFailure() {
+    return failure.log("request {}", 42);
+  }
+
+  @Benchmark
+  public Probable<String> logDisabledLevel() {
+    return value.log(Level.TRACE, "request {}", 42);
+  }
+
+  @Benchmark
+  public void slf4jDirect() {
+    LOGGER.info("request {}: {}", 42, value.get());
+  }
+
+  @Benchmark
+  public void slf4jDirectDisabledLevel() {
+    LOGGER.trace("request {}: {}", 42, value.get());
+  }
+
+}
@@ -0,0 +1,47 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares eagerly formatted failure messages with the deferred formatting done by the {@code Probable} constructor.
+ * Run with {@code -prof gc} to see the allocation rate of each variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageFormattingBenchmark {
+
+  private static final String TEMPLATE = "Record %s rejected: %s";
+
+  private final Long recordId = 42L;
+  private final String reason = "missing field";
+
+  @Benchmark
+  public Probable<String> eagerFormat() {
+    return Probable.failure(String.format(TEMPLATE, recordId, reason));
+  }
+
+  @Benchmark
+  public Probable<String> deferredFormatNeverRead() {
+    return Probable.failure(TEMPLATE, recordId, reason);
+  }
+
+  @Benchmark
+  public String deferredFormatRead() {
+    return Probable.failure(TEMPLATE, recordId, reason).getMessage();
+  }
+
+}
@@ -0,0 +1,76 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbableEvents;
+import com.compilit.probably.ProbableMetrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a chain of operations with {@link ProbableMetrics} disabled and enabled, without any event listener, to
+ * show what enabled metrics cost, on one and on several threads. Whether disabled metrics cost anything cannot be
+ * shown within one build; compare {@code TransformationBenchmark} with a build from before the metrics for that.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+  @Param({"false", "true"})
+  public boolean metrics;
+
+  private final String input = "benchmark";
+
+  @Setup
+  public void configureMetrics() {
+    ProbableEvents.clearListeners();
+    if (metrics) {
+      ProbableMetrics.enable();
+    } else {
+      ProbableMetrics.disable();
+    }
+  }
+
+  @TearDown
+  public void resetMetrics() {
+    ProbableMetrics.disable();
+    ProbableMetrics.reset();
+  }
+
+  @Benchmark
+  public Probable<Integer> chain() {
+    return Probable.of(input)
+                   .map(String::length)
+                   .test(x -> x > 0, "empty")
+                   .flatMap(x -> Probable.of(x * 2));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Probable<Integer> chainContended() {
+    return chain();
+  }
+
+  @Benchmark
+  public Probable<Integer> chainFailing() {
+    return Probable.<String>failure("benchmark failure")
+                   .map(String::length)
+                   .test(x -> x > 0, "empty");
+  }
+
+}
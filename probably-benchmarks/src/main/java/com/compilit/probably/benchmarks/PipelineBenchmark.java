@@ -0,0 +1,48 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbablePipeline;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a fluent chain of {@code Probable} operations with the same steps recorded in a {@code ProbablePipeline}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark extends DebugLoggingState {
+
+  private static final ProbablePipeline<String, Integer> PIPELINE = Probable.<String>pipeline()
+                                                                            .map(String::trim)
+                                                                            .test(x -> !x.isEmpty(), "value is empty")
+                                                                            .flatMap(x -> Probable.of(x.length()))
+                                                                            .test(x -> x < 100, "value is too long")
+                                                                            .map(x -> x * 2);
+
+  private final String input = " benchmark ";
+
+  @Benchmark
+  public Probable<Integer> fluentChain() {
+    return Probable.of(input)
+                   .map(String::trim)
+                   .test(x -> !x.isEmpty(), "value is empty")
+                   .flatMap(x -> Probable.of(x.length()))
+                   .test(x -> x < 100, "value is too long")
+                   .map(x -> x * 2);
+  }
+
+  @Benchmark
+  public Probable<Integer> pipeline() {
+    return PIPELINE.apply(input);
+  }
+
+}
@@ -0,0 +1,78 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbableEvents;
+import com.compilit.probably.ProbableTrace;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a chain of operations with {@link ProbableTrace} disabled, enabled, and enabled with call sites, without any
+ * event listener, to show the cost per step and the memory per traced Probable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraceBenchmark {
+
+  @Param({"off", "on", "callSites"})
+  public String trace;
+
+  private final String input = "benchmark";
+
+  @Setup
+  public void configureTrace() {
+    ProbableEvents.clearListeners();
+    if ("callSites".equals(trace)) {
+      ProbableTrace.enableWithCallSites();
+    } else if ("on".equals(trace)) {
+      ProbableTrace.enable();
+    } else {
+      ProbableTrace.disable();
+    }
+  }
+
+  @TearDown
+  public void disableTrace() {
+    ProbableTrace.disable();
+  }
+
+  @Benchmark
+  public Probable<Integer> chain() {
+    return Probable.of(input)
+                   .map(String::length)
+                   .test(x -> x > 0, "empty")
+                   .flatMap(x -> Probable.of(x * 2));
+  }
+
+  @Benchmark
+  public Probable<Integer> longChain() {
+    var probable = Probable.of(0);
+    for (int i = 0; i < 32; i++) {
+      probable = probable.map(x -> x + 1);
+    }
+    return probable;
+  }
+
+  @Benchmark
+  public Probable<Integer> chainFailing() {
+    return Probable.of(input)
+                   .map(String::length)
+                   .test(x -> x > 100, "too short");
+  }
+
+}
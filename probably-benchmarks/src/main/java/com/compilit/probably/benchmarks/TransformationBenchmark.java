@@ -0,0 +1,110 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code map}, {@code flatMap}, {@code test} and {@code thenAccept} on values and failures against the
+ * equivalent {@code Optional} chain and plain code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformationBenchmark extends DebugLoggingState {
+
+  private final String input = "benchmark";
+  private final Probable<String> value = Probable.of(input);
+  private final Probable<String> failure = Probable.failure("benchmark failure");
+  private final Optional<String> optional = Optional.of(input);
+
+  @Benchmark
+  public Probable<Integer> map() {
+    return value.map(String::length);
+  }
+
+  @Benchmark
+  public Probable<Integer> mapOnFailure() {
+    return failure.map(String::length);
+  }
+
+  @Benchmark
+  public Optional<Integer> optionalMap() {
+    return optional.map(String::length);
+  }
+
+  @Benchmark
+  public Probable<Integer> flatMap() {
+    return value.flatMap(x -> Probable.of(x.length()));
+  }
+
+  @Benchmark
+  public Optional<Integer> optionalFlatMap() {
+    return optional.flatMap(x -> Optional.of(x.length()));
+  }
+
+  @Benchmark
+  public Probable<String> testPassing() {
+    return value.test(x -> !x.isEmpty(), "value is empty");
+  }
+
+  @Benchmark
+  public Probable<String> testFailing() {
+    return value.test(String::isEmpty, "value is not empty");
+  }
+
+  @Benchmark
+  public Optional<String> optionalFilter() {
+    return optional.filter(x -> !x.isEmpty());
+  }
+
+  @Benchmark
+  public Probable<String> thenAccept(Blackhole blackhole) {
+    return value.thenAccept(blackhole::consume);
+  }
+
+  @Benchmark
+  public void optionalIfPresent(Blackhole blackhole) {
+    optional.ifPresent(blackhole::consume);
+  }
+
+  @Benchmark
+  public Probable<Integer> chain() {
+    return value.map(String::trim)
+                .test(x -> !x.isEmpty(), "value is empty")
+                .flatMap(x -> Probable.of(x.length()))
+                .map(x -> x * 2);
+  }
+
+  @Benchmark
+  public Optional<Integer> optionalChain() {
+    return optional.map(String::trim)
+                   .filter(x -> !x.isEmpty())
+                   .flatMap(x -> Optional.of(x.length()))
+                   .map(x -> x * 2);
+  }
+
+  @Benchmark
+  public Integer tryCatchChain() {
+    try {
+      var trimmed = input.trim();
+      if (trimmed.isEmpty()) {
+        return null;
+      }
+      return trimmed.length() * 2;
+    } catch (Exception exception) {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an accumulating {@code validate().check()} chain against the equivalent first-failure {@code test} chain,
+ * when every rule passes and when several rules fail.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark extends DebugLoggingState {
+
+  private final String input = "benchmark";
+  private final String invalidInput = "";
+
+  @Benchmark
+  public Probable<String> validateAllPass() {
+    return Probable.validate(input)
+                   .check(x -> !x.isEmpty(), "value is empty")
+                   .check(x -> x.length() < 100, "value is too long")
+                   .check(x -> x.startsWith("bench"), "value does not start with %s", "bench")
+                   .check(x -> x.indexOf(' ') < 0, "value contains a space")
+                   .check(x -> x.chars().allMatch(Character::isLetter), "value contains other characters")
+                   .result();
+  }
+
+  @Benchmark
+  public Probable<String> validateSimple() {
+    return Probable.validate(input)
+                   .check(x -> !x.isEmpty(), "value is empty")
+                   .check(x -> x.length() < 100, "value is too long")
+                   .result();
+  }
+
+  @Benchmark
+  public Probable<String> testSimple() {
+    return Probable.of(input)
+                   .test(x -> !x.isEmpty(), "value is empty")
+                   .test(x -> x.length() < 100, "value is too long");
+  }
+
+  @Benchmark
+  public Probable<String> testChainAllPass() {
+    return Probable.of(input)
+                   .test(x -> !x.isEmpty(), "value is empty")
+                   .test(x -> x.length() < 100, "value is too long")
+                   .test(x -> x.startsWith("bench"), "value does not start with bench")
+                   .test(x -> x.indexOf(' ') < 0, "value contains a space")
+                   .test(x -> x.chars().allMatch(Character::isLetter), "value contains other characters");
+  }
+
+  @Benchmark
+  public Probable<String> validateFailing() {
+    return Probable.validate(invalidInput)
+                   .check(x -> !x.isEmpty(), "value is empty")
+                   .check(x -> x.length() < 100, "value is too long")
+                   .check(x -> x.startsWith("bench"), "value does not start with %s", "bench")
+                   .check(x -> x.indexOf(' ') < 0, "value contains a space")
+                   .check(x -> x.length() > 3, "value is too short")
+                   .result();
+  }
+
+}
@@ -0,0 +1,70 @@
+package com.compilit.probably.benchmarks;
+
+import com.compilit.probably.Probable;
+import com.compilit.probably.ProbableValidationReport;
+import com.compilit.probably.ProbableValidator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures validating a batch of records with a {@link ProbableValidator}, sequentially and in parallel, against
+ * applying the same rules to every record with a {@code test} chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark extends DebugLoggingState {
+
+  @Param({"0", "10"})
+  public int invalidPercentage;
+
+  private final ProbableValidator<String> validator = Probable.<String>validator()
+                                                             .rule("notEmpty", x -> !x.isEmpty(), "value is empty")
+                                                             .rule("short", x -> x.length() < 12, "value is too long")
+                                                             .rule("prefix", x -> x.startsWith("r"), "wrong prefix")
+                                                             .rule("noSpace", x -> x.indexOf(' ') < 0, "has a space");
+  private List<String> records;
+
+  @Setup
+  public void createRecords() {
+    records = IntStream.range(0, 10_000)
+                       .mapToObj(i -> i % 100 < invalidPercentage ? "invalid record " + i : "r" + i)
+                       .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public ProbableValidationReport<String> validator() {
+    return validator.validate(records);
+  }
+
+  @Benchmark
+  public ProbableValidationReport<String> validatorInParallel() {
+    return validator.validateInParallel(records);
+  }
+
+  @Benchmark
+  public void testChains(Blackhole blackhole) {
+    for (var record : records) {
+      blackhole.consume(Probable.of(record)
+                                .test(x -> !x.isEmpty(), "value is empty")
+                                .test(x -> x.length() < 12, "value is too long")
+                                .test(x -> x.startsWith("r"), "wrong prefix")
+                                .test(x -> x.indexOf(' ') < 0, "has a space"));
+    }
+  }
+
+}
@@ -0,0 +1,236 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An {@code AsyncProbable} is the asynchronous counterpart of a {@code Probable}. It wraps a
+ * {@code CompletableFuture<Probable<T>>} and offers the same operations, but every operation is applied without
+ * blocking, on the {@code Executor} it was created with. The wrapped future always completes normally: any Exception
+ * thrown by a supplier, by an operation or by the wrapped {@code CompletionStage}, and a supplier that is rejected by
+ * the executor, results in a Probable.Failure, exactly like the synchronous API does.
+ *
+ * @param <T> the type of the value of the eventual Probable.
+ */
+public final class AsyncProbable<T> {
+
+  private final CompletableFuture<Probable<T>> future;
+  private final Executor executor;
+
+  private AsyncProbable(CompletableFuture<Probable<T>> future, Executor executor) {
+    this.future = future;
+    this.executor = executor;
+  }
+
+  /**
+   * Run the supplier on the given executor and wrap its outcome like {@link Probable#of(Supplier)} does. If the
+   * executor rejects the supplier, the AsyncProbable is completed with a Probable.Failure right away.
+   *
+   * @param supplier the content-supplying function.
+   * @param executor the executor on which the supplier and all subsequent operations run.
+   * @param <T>      the type of the value.
+   * @return an AsyncProbable that completes with a Probable.Value, Probable.Nothing, or Probable.Failure.
+   * @throws NullPointerException if the supplier or the executor is {@code null}
+   */
+  public static <T> AsyncProbable<T> of(Supplier<T> supplier, Executor executor) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    Objects.requireNonNull(executor, () -> paramRequired("executor"));
+    try {
+      return new AsyncProbable<>(CompletableFuture.supplyAsync(() -> Probable.of(supplier), executor), executor);
+    } catch (RejectedExecutionException e) {
+      Probable<T> failure = Probable.failure(e, exceptionWasThrown(e));
+      return new AsyncProbable<>(CompletableFuture.completedFuture(failure), executor);
+    }
+  }
+
+  /**
+   * Wrap an existing asynchronous process, for example a call of a non-blocking client. A stage that completes
+   * exceptionally results in a Probable.Failure.
+   *
+   * @param stage    the stage that produces the nullable value.
+   * @param executor the executor on which all subsequent operations run.
+   * @param <T>      the type of the value.
+   * @return an AsyncProbable that completes with a Probable.Value, Probable.Nothing, or Probable.Failure.
+   * @throws NullPointerException if the stage or the executor is {@code null}
+   */
+  public static <T> AsyncProbable<T> of(CompletionStage<T> stage, Executor executor) {
+    Objects.requireNonNull(stage, () -> paramRequired("stage"));
+    Objects.requireNonNull(executor, () -> paramRequired("executor"));
+    var future = stage.toCompletableFuture().handle((value, throwable) -> {
+      if (throwable != null) {
+        return AsyncProbable.<T>recover(throwable);
+      }
+      return Probable.of(value);
+    });
+    return new AsyncProbable<>(future, executor);
+  }
+
+  /**
+   * Wrap an already known Probable.
+   *
+   * @param probable the Probable to wrap.
+   * @param executor the executor on which all subsequent operations run.
+   * @param <T>      the type of the value.
+   * @return an already completed AsyncProbable.
+   * @throws NullPointerException if the probable or the executor is {@code null}
+   */
+  public static <T> AsyncProbable<T> of(Probable<T> probable, Executor executor) {
+    Objects.requireNonNull(probable, () -> paramRequired("probable"));
+    Objects.requireNonNull(executor, () -> paramRequired("executor"));
+    return new AsyncProbable<>(CompletableFuture.completedFuture(probable), executor);
+  }
+
+  /**
+   * @param future   a future that is completed with a Probable by the caller.
+   * @param executor the executor on which all subsequent operations run.
+   * @param <T>      the type of the value.
+   * @return an AsyncProbable that completes with the Probable of the future.
+   */
+  static <T> AsyncProbable<T> completedBy(CompletableFuture<Probable<T>> future, Executor executor) {
+    return new AsyncProbable<>(recovering(future), executor);
+  }
+
+  /**
+   * Asynchronously apply {@link Probable#map(Function)}.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> AsyncProbable<R> map(Function<? super T, ? extends R> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    return then(probable -> probable.map(mappingFunction));
+  }
+
+  /**
+   * Asynchronously apply {@link Probable#flatMap(Function)}.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> AsyncProbable<R> flatMap(Function<? super T, ? extends Probable<? extends R>> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    return then(probable -> probable.flatMap(mappingFunction));
+  }
+
+  /**
+   * Chain another asynchronous process, without blocking while it runs. The mapping function is only applied if this
+   * AsyncProbable completes with a value, otherwise its Probable.Failure or Probable.Nothing is propagated.
+   *
+   * @param mappingFunction the asynchronous operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> AsyncProbable<R> flatMapAsync(Function<? super T, AsyncProbable<R>> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    var next = future.thenComposeAsync(probable -> {
+      if (!probable.hasValue()) {
+        return CompletableFuture.completedFuture(probable.map(value -> (R) value));
+      }
+      return mappingFunction.apply(probable.get()).future;
+    }, executor);
+    return new AsyncProbable<>(recovering(next), executor);
+  }
+
+  /**
+   * Asynchronously apply {@link Probable#test(Predicate)}.
+   *
+   * @param predicate the validation you wish to perform on the value
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the predicate is {@code null}
+   */
+  public AsyncProbable<T> test(Predicate<T> predicate) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    return then(probable -> probable.test(predicate));
+  }
+
+  /**
+   * Asynchronously apply {@link Probable#test(Predicate, String)}.
+   *
+   * @param predicate      the validation you wish to perform on the value
+   * @param failureMessage the message you wish to pass in case the predicate resolves to false
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
+   */
+  public AsyncProbable<T> test(Predicate<T> predicate, String failureMessage) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    return then(probable -> probable.test(predicate, failureMessage));
+  }
+
+  /**
+   * Asynchronously apply {@link Probable#or(Supplier)}. The supplier is only called if the eventual Probable has no
+   * value.
+   *
+   * @param probableSupplier the alternative Probable
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the probableSupplier is {@code null}
+   */
+  public AsyncProbable<T> or(Supplier<? extends Probable<? extends T>> probableSupplier) {
+    Objects.requireNonNull(probableSupplier, () -> paramRequired("probableSupplier"));
+    return then(probable -> probable.or(probableSupplier));
+  }
+
+  /**
+   * Asynchronously apply {@link Probable#thenAccept(Consumer)}.
+   *
+   * @param consumer the consumer to be performed, if a value is present
+   * @return a new AsyncProbable
+   * @throws NullPointerException if the consumer is {@code null}
+   */
+  public AsyncProbable<T> thenAccept(Consumer<? super T> consumer) {
+    Objects.requireNonNull(consumer, () -> paramRequired("consumer"));
+    return then(probable -> probable.thenAccept(consumer));
+  }
+
+  /**
+   * @return a CompletableFuture that completes with the eventual Probable. Completing or cancelling it does not affect
+   * this AsyncProbable.
+   */
+  public CompletableFuture<Probable<T>> toCompletableFuture() {
+    return future.thenApply(Function.identity());
+  }
+
+  /**
+   * Block until the eventual Probable is known. Meant for the edges of an application, like tests or a main method.
+   *
+   * @return the eventual Probable.
+   */
+  public Probable<T> join() {
+    return future.join();
+  }
+
+  private <R> AsyncProbable<R> then(Function<Probable<T>, Probable<R>> operation) {
+    return new AsyncProbable<>(recovering(future.thenApplyAsync(operation, executor)), executor);
+  }
+
+  private static <R> CompletableFuture<Probable<R>> recovering(CompletableFuture<Probable<R>> future) {
+    return future.exceptionally(AsyncProbable::recover);
+  }
+
+  private static <R> Probable<R> recover(Throwable throwable) {
+    var cause = throwable instanceof CompletionException && throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    if (cause instanceof Exception) {
+      return Probable.failure((Exception) cause, exceptionWasThrown((Exception) cause));
+    }
+    throw new CompletionException(cause);
+  }
+
+}
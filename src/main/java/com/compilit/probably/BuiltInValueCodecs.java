@@ -0,0 +1,139 @@
+package com.compilit.probably;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+final class BuiltInValueCodecs {
+
+  static final ProbableValueCodec<String> STRINGS = new ProbableValueCodec<>() {
+    @Override
+    public void write(String value, ByteBuffer buffer) {
+      ProbableCodec.putString(value, buffer);
+    }
+
+    @Override
+    public String read(ByteBuffer buffer) {
+      return ProbableCodec.getString(buffer, ProbableCodec.getVarInt(buffer));
+    }
+  };
+
+  static final ProbableValueCodec<Integer> INTS = new ProbableValueCodec<>() {
+    @Override
+    public void write(Integer value, ByteBuffer buffer) {
+      ProbableCodec.putVarInt((value << 1) ^ (value >> 31), buffer);
+    }
+
+    @Override
+    public Integer read(ByteBuffer buffer) {
+      var zigZag = ProbableCodec.getVarInt(buffer);
+      return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+  };
+
+  static final ProbableValueCodec<Long> LONGS = new ProbableValueCodec<>() {
+    @Override
+    public void write(Long value, ByteBuffer buffer) {
+      var zigZag = (value << 1) ^ (value >> 63);
+      while ((zigZag & ~0x7FL) != 0) {
+        buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+        zigZag >>>= 7;
+      }
+      buffer.put((byte) zigZag);
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer) {
+      var zigZag = 0L;
+      for (int shift = 0; shift < Long.SIZE; shift += 7) {
+        var b = buffer.get();
+        zigZag |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+      }
+      throw new IllegalArgumentException(Messages.CODEC_MALFORMED_NUMBER);
+    }
+  };
+
+  static final ProbableValueCodec<Double> DOUBLES = new ProbableValueCodec<>() {
+    @Override
+    public void write(Double value, ByteBuffer buffer) {
+      var bits = Double.doubleToRawLongBits(value);
+      buffer.putLong(buffer.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+    }
+
+    @Override
+    public Double read(ByteBuffer buffer) {
+      var bits = buffer.getLong();
+      return Double.longBitsToDouble(buffer.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+    }
+  };
+
+  static final ProbableJsonValueCodec<String> JSON_STRINGS = new ProbableJsonValueCodec<>() {
+    @Override
+    public void write(String value, Appendable json) throws IOException {
+      ProbableJson.writeString(value, json);
+    }
+
+    @Override
+    public String read(Object json) {
+      return (String) json;
+    }
+  };
+
+  static final ProbableJsonValueCodec<Integer> JSON_INTS = new ProbableJsonValueCodec<>() {
+    @Override
+    public void write(Integer value, Appendable json) throws IOException {
+      json.append(value.toString());
+    }
+
+    @Override
+    public Integer read(Object json) {
+      return Math.toIntExact((Long) json);
+    }
+  };
+
+  static final ProbableJsonValueCodec<Long> JSON_LONGS = new ProbableJsonValueCodec<>() {
+    @Override
+    public void write(Long value, Appendable json) throws IOException {
+      json.append(value.toString());
+    }
+
+    @Override
+    public Long read(Object json) {
+      return (Long) json;
+    }
+  };
+
+  static final ProbableJsonValueCodec<Double> JSON_DOUBLES = new ProbableJsonValueCodec<>() {
+    @Override
+    public void write(Double value, Appendable json) throws IOException {
+      if (value.isNaN() || value.isInfinite()) {
+        throw new IllegalArgumentException(String.format(Messages.JSON_NOT_A_NUMBER, value));
+      }
+      json.append(value.toString());
+    }
+
+    @Override
+    public Double read(Object json) {
+      return ((Number) json).doubleValue();
+    }
+  };
+
+  static final ProbableJsonValueCodec<Boolean> JSON_BOOLEANS = new ProbableJsonValueCodec<>() {
+    @Override
+    public void write(Boolean value, Appendable json) throws IOException {
+      json.append(value.toString());
+    }
+
+    @Override
+    public Boolean read(Object json) {
+      return (Boolean) json;
+    }
+  };
+
+  private BuiltInValueCodecs() {
+  }
+
+}
@@ -0,0 +1,34 @@
+package com.compilit.probably;
+
+/**
+ * A {@code FailureCode} identifies the reason of a {@code Probable.Failure} without the need of an Exception. It is
+ * meant to be implemented by an enum, so callers can branch on the code with a switch, but int-backed codes can be
+ * created through {@link #of(int, String)}. The message template is only formatted with the arguments of the
+ * {@code Probable.Failure} when its message is requested.
+ */
+public interface FailureCode {
+
+  /**
+   * @return the numeric value of this code, which is stable across systems (as opposed to an enum ordinal).
+   */
+  int getCode();
+
+  /**
+   * @return the non-{@code null} message template, which may contain format specifiers like '%s'.
+   */
+  String getMessageTemplate();
+
+  /**
+   * Create an int-backed {@code FailureCode}. Two codes created by this method are equal if their numeric values are
+   * equal.
+   *
+   * @param code            the numeric value of the code.
+   * @param messageTemplate the message template, which may contain format specifiers like '%s'.
+   * @return a new FailureCode.
+   * @throws NullPointerException if the messageTemplate is {@code null}
+   */
+  static FailureCode of(int code, String messageTemplate) {
+    return new SimpleFailureCode(code, messageTemplate);
+  }
+
+}
@@ -0,0 +1,274 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@code LazyProbable} describes a {@code Probable} that has not been computed yet. The supplying process only runs
+ * on the first access to the outcome ({@link #get()}, {@link #hasValue()}, {@link #getMessage()}, etc.), and runs at
+ * most once, even when accessed by multiple threads. The outcome is published without locking; threads that access the
+ * outcome while another thread is computing it wait for that computation instead of starting their own. Anything
+ * that propagates out of the process instead of being turned into a Probable.Failure is the exception to running at
+ * most once: an Error, or an Exception thrown by the supplier of {@link #or(Supplier)}, which the regular
+ * {@link Probable#or(Supplier)} does not catch either. It leaves no outcome behind, and the next access runs the
+ * process again.
+ * <p>
+ * Operations like {@code map}, {@code flatMap}, {@code test} and {@code or} are queued instead of applied. They return
+ * a new {@code LazyProbable} that applies the operation through the regular {@code Probable} API when it is resolved,
+ * so the outcome is exactly the same as with the eager API. Branches that are never resolved never cost anything.
+ * </p>
+ *
+ * @param <T> the type of the value of the resolved Probable.
+ */
+public final class LazyProbable<T> {
+
+  private static final VarHandle STATE;
+
+  static {
+    try {
+      STATE = MethodHandles.lookup().findVarHandle(LazyProbable.class, "state", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private volatile Supplier<? extends Probable<T>> source;
+  private volatile Object state;
+
+  LazyProbable(Supplier<? extends Probable<T>> source) {
+    this.source = source;
+  }
+
+  /**
+   * Resolve this LazyProbable. The first call runs the supplying process and all queued operations, every other call
+   * returns the same Probable.
+   *
+   * @return the resolved Probable.
+   */
+  public Probable<T> resolve() {
+    while (true) {
+      var current = state;
+      if (current instanceof Probable<?>) {
+        return (Probable<T>) current;
+      }
+      if (current == null) {
+        var resolution = new Resolution();
+        if (STATE.compareAndSet(this, null, resolution)) {
+          return compute(resolution);
+        }
+      } else {
+        var resolution = (Resolution) current;
+        if (resolution.owner == Thread.currentThread()) {
+          return Probable.failure(Messages.RECURSIVE_RESOLUTION);
+        }
+        try {
+          resolution.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return Probable.failure(e, Messages.INTERRUPTED_WHILE_RESOLVING);
+        }
+      }
+    }
+  }
+
+  private Probable<T> compute(Resolution resolution) {
+    try {
+      Probable<T> result = source.get();
+      if (result == null) {
+        result = Probable.nothing();
+      }
+      state = result;
+      source = null;
+      return result;
+    } finally {
+      if (state == resolution) {
+        state = null;
+      }
+      resolution.release();
+    }
+  }
+
+  /**
+   * @return true if the supplying process has already been run.
+   */
+  public boolean isResolved() {
+    return state instanceof Probable<?>;
+  }
+
+  /**
+   * Resolves this LazyProbable and returns its nullable value.
+   *
+   * @return the nullable value of the resolved Probable.
+   */
+  public T get() {
+    return resolve().get();
+  }
+
+  /**
+   * Resolves this LazyProbable and returns its message.
+   *
+   * @return the message of the resolved Probable.
+   */
+  public String getMessage() {
+    return resolve().getMessage();
+  }
+
+  /**
+   * Resolves this LazyProbable and returns its exception.
+   *
+   * @return the nullable exception of the resolved Probable.
+   */
+  public Exception getException() {
+    return resolve().getException();
+  }
+
+  /**
+   * Resolves this LazyProbable and finds out if it contains a value.
+   *
+   * @return true if the resolved Probable has a value.
+   */
+  public boolean hasValue() {
+    return resolve().hasValue();
+  }
+
+  /**
+   * Resolves this LazyProbable and finds out if it contains no value.
+   *
+   * @return true if the resolved Probable has no value.
+   */
+  public boolean isEmpty() {
+    return resolve().isEmpty();
+  }
+
+  /**
+   * Resolves this LazyProbable and finds out if it has failed.
+   *
+   * @return true if the resolved Probable is an instance of Probable.Failure.
+   */
+  public boolean hasFailed() {
+    return resolve().hasFailed();
+  }
+
+  /**
+   * Resolves this LazyProbable and returns its value, or the other value if it has none.
+   *
+   * @param other the default value you wish to return in case the resolved Probable does not have any.
+   * @return the value of the resolved Probable or the other.
+   */
+  public T orElse(T other) {
+    return resolve().orElse(other);
+  }
+
+  /**
+   * Queue a {@link Probable#map(Function)} operation.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new LazyProbable that applies the mapping function when it is resolved.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> LazyProbable<R> map(Function<? super T, ? extends R> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    return new LazyProbable<>(() -> resolve().map(mappingFunction));
+  }
+
+  /**
+   * Queue a {@link Probable#flatMap(Function)} operation.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new LazyProbable that applies the mapping function when it is resolved.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> LazyProbable<R> flatMap(Function<? super T, ? extends Probable<? extends R>> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    return new LazyProbable<>(() -> resolve().flatMap(mappingFunction));
+  }
+
+  /**
+   * Queue a {@link Probable#test(Predicate)} operation.
+   *
+   * @param predicate the validation you wish to perform on the value
+   * @return a new LazyProbable that applies the predicate when it is resolved.
+   * @throws NullPointerException if the predicate is {@code null}
+   */
+  public LazyProbable<T> test(Predicate<T> predicate) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    return new LazyProbable<>(() -> resolve().test(predicate));
+  }
+
+  /**
+   * Queue a {@link Probable#test(Predicate, String)} operation.
+   *
+   * @param predicate      the validation you wish to perform on the value
+   * @param failureMessage the message you wish to pass in case the predicate resolves to false
+   * @return a new LazyProbable that applies the predicate when it is resolved.
+   * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
+   */
+  public LazyProbable<T> test(Predicate<T> predicate, String failureMessage) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    return new LazyProbable<>(() -> resolve().test(predicate, failureMessage));
+  }
+
+  /**
+   * Queue a fallback. The other LazyProbable is only resolved if this one turns out to have no value.
+   *
+   * @param otherProbable the alternative LazyProbable.
+   * @return a new LazyProbable that resolves to this Probable if it has a value, otherwise to the other Probable.
+   * @throws NullPointerException if the otherProbable is {@code null}
+   */
+  public LazyProbable<T> or(LazyProbable<T> otherProbable) {
+    Objects.requireNonNull(otherProbable, () -> paramRequired("otherProbable"));
+    return new LazyProbable<>(() -> resolve().or(otherProbable::resolve));
+  }
+
+  /**
+   * Queue a fallback. The supplier is only called if this LazyProbable turns out to have no value. Like with
+   * {@link Probable#or(Supplier)}, an Exception thrown by the supplier is not caught; it is thrown by the access that
+   * resolves the LazyProbable, and the next access calls the supplier again.
+   *
+   * @param probableSupplier the supplier of the alternative Probable.
+   * @return a new LazyProbable that resolves to this Probable if it has a value, otherwise to the supplied Probable.
+   * @throws NullPointerException if the probableSupplier is {@code null}
+   */
+  public LazyProbable<T> or(Supplier<? extends Probable<? extends T>> probableSupplier) {
+    Objects.requireNonNull(probableSupplier, () -> paramRequired("probableSupplier"));
+    return new LazyProbable<>(() -> resolve().or(probableSupplier));
+  }
+
+  /**
+   * @return the String value of the resolved value, or a placeholder if this LazyProbable is not resolved yet. Calling
+   * this method never resolves the LazyProbable.
+   */
+  @Override
+  public String toString() {
+    var current = state;
+    if (current instanceof Probable<?>) {
+      return current.toString();
+    }
+    return Messages.NOT_RESOLVED;
+  }
+
+  private static final class Resolution {
+
+    private final Thread owner = Thread.currentThread();
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private void await() throws InterruptedException {
+      latch.await();
+    }
+
+    private void release() {
+      latch.countDown();
+    }
+  }
+
+}
@@ -1,8 +1,8 @@
 package com.compilit.probably;
 
 final class Messages {
-  static final String BASE_LOG_MESSAGE = "Probable.%s(%s, %s)";
-  static final String BASE_LOG_MESSAGE_WITH_CUSTOM_MESSAGE = "Probable.%s(%s, %s), log message: %s";
+  static final String BASE_LOG_MESSAGE = "Probable.{}({}, {})";
+  static final String BASE_LOG_MESSAGE_WITH_CUSTOM_MESSAGE = BASE_LOG_MESSAGE + ", log message: ";
   static final String TRANSFORMED_INTO_STREAM = "transformed value into stream";
   static final String TRANSFORMED_INTO_EMPTY_STREAM = "transformed into empty stream";
   static final String ACCEPT_SUCCESSFUL = "accept() successful";
@@ -10,29 +10,61 @@ final class Messages {
   static final String RUN_CALLED = "run() successful";
   static final String RUN_NOT_CALLED = "run() failed";
   static final String TEST_CALL_FAILED = "test() call failed";
+  static final String TEST_PASSED = "test() called successfully, outcome: true";
+  static final String TEST_FAILED = "test() called successfully, outcome: false";
   static final String MAP_APPLIED = "map() applied";
   static final String MAP_NOT_APPLIED = "map() not applied";
   static final String FLATMAP_APPLIED = "flatMap() applied";
   static final String FLATMAP_NOT_APPLIED = "flatMap() not applied";
+  static final String PIPELINE_APPLIED = "pipeline applied";
   static final String NOTHING_TO_REPORT = "Nothing to report";
   static final String MESSAGE_FORMAT_ERROR = "Unable to format probable message, reason: %s";
+  static final String MESSAGE_REQUIRED = "message cannot be null.";
+  static final String NOT_RESOLVED = "<not resolved>";
+  static final String RECURSIVE_RESOLUTION = "LazyProbable was accessed by its own supplying process";
+  static final String INTERRUPTED_WHILE_RESOLVING = "Interrupted while waiting for the LazyProbable to be resolved";
+  static final String DEADLINE_PASSED = "Deadline of %s passed before all suppliers completed";
+  static final String INVALID_CONCURRENCY = "maxConcurrency must be at least 1, but was %d";
+  static final String FAILED_PREDICATE = "Predicate failed for this probable: %s";
+  static final String FLATMAP_RETURNED_NULL = "The mappingFunction of flatMap returned null instead of a Probable";
+  static final String INVALID_MAX_ATTEMPTS = "maxAttempts must be at least 1, but was %d";
+  static final String NEGATIVE_DURATION = "Delays and time budget of a RetryPolicy cannot be negative";
+  static final String RETRIES_EXHAUSTED = "Gave up after %d attempts: %s";
+  static final String RETRY_BUDGET_EXHAUSTED = "Time budget of %s exhausted after %d attempts: %s";
+  static final String INTERRUPTED_WHILE_RETRYING = "Interrupted while waiting for attempt %d";
+  static final String RETRY_REJECTED = "Attempt %d could not be scheduled";
+  static final String RETRYING = "attempt failed, retrying";
+  static final String TIMED_OUT = "Supplier did not complete within %s";
+  static final String INTERRUPTED_WHILE_WAITING = "Interrupted while waiting for the supplier to complete";
+  static final String CIRCUIT_OPEN = "Circuit breaker is open, the supplier was not called";
+  static final String VALIDATION_FAILED = "Validation failed with %d violation(s): %s";
+  static final String CODEC_NOT_WRITTEN = "Unable to write Probable(s): %s";
+  static final String CODEC_BUFFER_TOO_SMALL = "Unable to write Probable(s): not enough space, %d bytes remaining";
+  static final String CODEC_NOT_READ = "Unable to read Probable(s): %s";
+  static final String CODEC_UNSUPPORTED_FORMAT = "Unsupported format: no Probable(s) of version %d or lower found";
+  static final String CODEC_UNEXPECTED_BATCH = "Expected a single Probable, but found a batch";
+  static final String CODEC_UNKNOWN_TAG = "Unknown tag 0x%02x";
+  static final String CODEC_UNKNOWN_STRING = "Unknown string reference %d";
+  static final String CODEC_MALFORMED_NUMBER = "Malformed variable-length number";
+  static final String CODEC_NULL_VALUE = "The value codec read null";
+  static final String JSON_NOT_WRITTEN = "Unable to write Probable(s) as JSON: %s";
+  static final String JSON_NOT_READ = "Unable to read Probable(s) from JSON: %s";
+  static final String JSON_UNEXPECTED = "Unexpected %s at position %d";
+  static final String JSON_TOO_DEEP = "JSON is nested deeper than %d levels";
+  static final String JSON_INVALID_FIELD = "Field '%s' of the Probable is missing or invalid";
+  static final String JSON_NOT_A_NUMBER = "%s cannot be written as a JSON number";
+  static final String CIRCUIT_STATE_CHANGED = "circuit breaker changed from %s to %s";
 
   private Messages() {}
 
-  static String testCallSuccessful(boolean outcome) {
-    return String.format("test() called successfully, outcome: %b", outcome);
-  }
   static String messageFormatException(Exception exception) {
     return String.format(MESSAGE_FORMAT_ERROR, exception.getMessage());
   }
-  static <T> String failedPredicate(Probable<T> probable) {
-    return String.format("Predicate failed for this probable: %s", probable);
-  }
   static String paramRequired(String param) {
     return String.format("%s cannot be null.", param);
   }
   static String messageRequired() {
-    return paramRequired("message");
+    return MESSAGE_REQUIRED;
   }
 
   static String exceptionWasThrown(Exception e) {
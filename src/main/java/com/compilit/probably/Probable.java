@@ -1,27 +1,37 @@
 package com.compilit.probably;
 
-import static com.compilit.probably.Messages.ACCEPT_FAILED;
-import static com.compilit.probably.Messages.ACCEPT_SUCCESSFUL;
-import static com.compilit.probably.Messages.FLATMAP_APPLIED;
-import static com.compilit.probably.Messages.FLATMAP_NOT_APPLIED;
-import static com.compilit.probably.Messages.MAP_APPLIED;
-import static com.compilit.probably.Messages.MAP_NOT_APPLIED;
-import static com.compilit.probably.Messages.RUN_CALLED;
-import static com.compilit.probably.Messages.RUN_NOT_CALLED;
-import static com.compilit.probably.Messages.TEST_CALL_FAILED;
-import static com.compilit.probably.Messages.TRANSFORMED_INTO_EMPTY_STREAM;
-import static com.compilit.probably.Messages.TRANSFORMED_INTO_STREAM;
 import static com.compilit.probably.Messages.exceptionWasThrown;
 import static com.compilit.probably.Messages.messageRequired;
 import static com.compilit.probably.Messages.paramRequired;
-import static com.compilit.probably.Messages.testCallSuccessful;
-import static com.compilit.probably.ProbableLogger.logDebugEvent;
+import static com.compilit.probably.ProbableEventType.ACCEPT_FAILED;
+import static com.compilit.probably.ProbableEventType.ACCEPT_SUCCESSFUL;
+import static com.compilit.probably.ProbableEventType.FLATMAP_APPLIED;
+import static com.compilit.probably.ProbableEventType.FLATMAP_NOT_APPLIED;
+import static com.compilit.probably.ProbableEventType.MAP_APPLIED;
+import static com.compilit.probably.ProbableEventType.MAP_NOT_APPLIED;
+import static com.compilit.probably.ProbableEventType.RUN_CALLED;
+import static com.compilit.probably.ProbableEventType.RUN_NOT_CALLED;
+import static com.compilit.probably.ProbableEventType.TEST_CALL_FAILED;
+import static com.compilit.probably.ProbableEventType.TRANSFORMED_INTO_EMPTY_STREAM;
+import static com.compilit.probably.ProbableEventType.TRANSFORMED_INTO_STREAM;
+import static com.compilit.probably.ProbableEvents.publish;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,13 +58,37 @@ import org.slf4j.event.Level;
 public abstract class Probable<T> {
 
   private final T value;
-  private final String message;
+  private final String messageTemplate;
+  private final Object[] formatArguments;
   private final Exception exception;
+  private volatile String message;
   static final Logger LOGGER = LoggerFactory.getLogger(Probable.class);
+  private static final int MAX_CACHED_ENUM_CONSTANTS = 64;
+  static final Duration UNBOUNDED = Duration.ofNanos(Long.MAX_VALUE);
+  private static final Probable<?> NOTHING = new Probable.Nothing<>();
+  private static final Probable<Boolean> TRUE = new Probable.Value<>(Boolean.TRUE);
+  private static final Probable<Boolean> FALSE = new Probable.Value<>(Boolean.FALSE);
+  private static final ClassValue<Probable<?>[]> ENUM_VALUES = new ClassValue<>() {
+    @Override
+    protected Probable<?>[] computeValue(Class<?> type) {
+      var constants = type.getEnumConstants();
+      if (constants == null || constants.length > MAX_CACHED_ENUM_CONSTANTS) {
+        return new Probable<?>[0];
+      }
+      var probables = new Probable<?>[constants.length];
+      for (int i = 0; i < constants.length; i++) {
+        probables[i] = new Probable.Value<>(constants[i]);
+      }
+      return probables;
+    }
+  };
 
   /**
    * The main constructor for all Probable subtypes. All Probable subtypes should fulfil this simple contract: a
-   * Probable should have a message which conveys its context/meaning.
+   * Probable should have a message which conveys its context/meaning. The message is formatted lazily: the template and
+   * a snapshot of the format arguments are stored, and formatting only happens on the first call to
+   * {@link #getMessage()}. Threads that race on that first call may each format the message, without a lock, but
+   * formatting is pure, so they all see an equal result.
    *
    * @param value           the nullable value of the probable
    * @param exception       the nullable exception encountered during the processing of the probable
@@ -67,11 +101,22 @@ public abstract class Probable<T> {
                      String message,
                      Object... formatArguments) {
     this.value = value;
-    this.message = MessageFormatter.formatMessage(
-      Objects.requireNonNull(message, messageRequired()),
-      formatArguments
-    );
+    this.messageTemplate = Objects.requireNonNull(message, messageRequired());
     this.exception = exception;
+    if (formatArguments == null || formatArguments.length == 0) {
+      this.formatArguments = null;
+      this.message = message;
+    } else {
+      this.formatArguments = formatArguments.clone();
+    }
+  }
+
+  private Probable(Probable<T> source) {
+    this.value = source.value;
+    this.messageTemplate = source.messageTemplate;
+    this.formatArguments = source.formatArguments;
+    this.exception = source.exception;
+    this.message = source.message;
   }
 
   /**
@@ -117,7 +162,12 @@ public abstract class Probable<T> {
    * @return the message of the Probable.
    */
   public final String getMessage() {
-    return message;
+    var formattedMessage = message;
+    if (formattedMessage == null) {
+      formattedMessage = MessageFormatter.formatMessage(messageTemplate, formatArguments);
+      message = formattedMessage;
+    }
+    return formattedMessage;
   }
 
   /**
@@ -130,6 +180,54 @@ public abstract class Probable<T> {
     return exception;
   }
 
+  /**
+   * The operations this Probable went through, if tracing was enabled when it was created (see {@link ProbableTrace}).
+   * While tracing is enabled, every traced operation returns a new instance, so shared instances like
+   * {@link #nothing()} are not shared.
+   *
+   * @return the trace of this Probable, which is empty if it was created while tracing was disabled.
+   */
+  public final ProbableTrace getTrace() {
+    return ProbableTrace.of(traceOf(this));
+  }
+
+  /**
+   * A Probable.Failure can be created with a {@link FailureCode} instead of an Exception. This allows callers to branch
+   * on the reason of the failure without comparing messages or Exception types.
+   *
+   * @return the FailureCode of the Probable.Failure, or {@code null} if this Probable has none.
+   */
+  public final FailureCode getFailureCode() {
+    if (this instanceof Probable.Failure) {
+      return ((Probable.Failure<T>) this).failureCode;
+    }
+    return null;
+  }
+
+  /**
+   * A Probable.Failure that is the result of a {@link ProbableValidation} holds every rule the value did not pass.
+   *
+   * @return the violations of the Probable.Failure, or an empty List if this Probable has none.
+   */
+  public final List<ProbableViolation> getViolations() {
+    if (this instanceof Probable.Failure) {
+      return ((Probable.Failure<T>) this).violations;
+    }
+    return List.of();
+  }
+
+  /**
+   * Find out if the given Probable has failed with the given {@link FailureCode}.
+   *
+   * @param failureCode the code you wish to compare against.
+   * @return true if the Probable is an instance of Probable.Failure with an equal FailureCode.
+   * @throws NullPointerException if the failureCode is {@code null}
+   */
+  public final boolean hasFailedWith(FailureCode failureCode) {
+    Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+    return failureCode.equals(getFailureCode());
+  }
+
   /**
    * Find out of the given Probable has failed or not.
    *
@@ -160,7 +258,7 @@ public abstract class Probable<T> {
    * @throws NullPointerException if no value is present and the supplying function is {@code null}
    */
   public final T orElse(Supplier<? extends T> supplier) {
-    Objects.requireNonNull(supplier, paramRequired("supplier"));
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
     return value != null ? value : supplier.get();
   }
 
@@ -175,7 +273,7 @@ public abstract class Probable<T> {
    * @throws NullPointerException if the otherProbable is {@code null}
    */
   public final Probable<T> or(Probable<T> otherProbable) {
-    Objects.requireNonNull(otherProbable, paramRequired("otherProbable"));
+    Objects.requireNonNull(otherProbable, () -> paramRequired("otherProbable"));
     if (hasValue()) {
       return this;
     }
@@ -193,7 +291,7 @@ public abstract class Probable<T> {
    * @throws NullPointerException if the probableSupplier is {@code null}
    */
   public final Probable<T> or(Supplier<? extends Probable<? extends T>> probableSupplier) {
-    Objects.requireNonNull(probableSupplier, paramRequired("probableSupplier"));
+    Objects.requireNonNull(probableSupplier, () -> paramRequired("probableSupplier"));
     if (hasValue()) {
       return this;
     }
@@ -219,7 +317,8 @@ public abstract class Probable<T> {
   }
 
   /**
-   * In case of a Probable.Value, apply the mapping function to the value to return a different value type.
+   * In case of a Probable.Value, apply the mapping function to the value to return a different value type. A
+   * Probable.Failure is returned as is, without copying.
    *
    * @param mappingFunction, the operation you wish to apply to the value
    * @param <R>,             the return type
@@ -227,49 +326,114 @@ public abstract class Probable<T> {
    * @throws NullPointerException if the mappingFunction is {@code null}
    */
   public final <R> Probable<R> map(Function<? super T, ? extends R> mappingFunction) {
-    Objects.requireNonNull(mappingFunction, paramRequired("mappingFunction"));
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
     if (hasValue()) {
-      return failureOnException(probable -> {
+      return applied(ProbableOperation.MAP, failureOnException(probable -> {
         var newValue = mappingFunction.apply(value);
-        var newProbable = of(newValue);
-        logDebugEvent(newProbable, MAP_APPLIED);
+        Probable<R> newProbable = ofNullable(newValue);
+        publish(MAP_APPLIED, newProbable);
         return newProbable;
-      }, MAP_NOT_APPLIED);
+      }, MAP_NOT_APPLIED));
     }
-    return failureOrNothing(MAP_NOT_APPLIED);
+    return counted(ProbableOperation.MAP, failureOrNothing(MAP_NOT_APPLIED));
   }
 
   /**
-   * In case of a nested Probable.Value, apply the mapping function to the value to return a different value type.
+   * In case of a nested Probable.Value, apply the mapping function to the value to return a different value type. A
+   * Probable.Failure is returned as is, without copying.
    *
    * @param mappingFunction, the operation you wish to apply to the value
    * @param <R>,             the return type
-   * @return the final Probable
+   * @return the final Probable, or a Probable.Failure if the mappingFunction throws an Exception or returns
+   * {@code null}.
    * @throws NullPointerException if the mappingFunction is {@code null}
    */
   public final <R> Probable<R> flatMap(Function<? super T, ? extends Probable<? extends R>> mappingFunction) {
-    Objects.requireNonNull(mappingFunction, paramRequired("mappingFunction"));
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
     if (hasValue()) {
-      return failureOnException(probable -> {
-        var newProbable = mappingFunction.apply(get());
-        logDebugEvent(newProbable, FLATMAP_APPLIED);
+      return applied(ProbableOperation.FLAT_MAP, failureOnException(probable -> {
+        var newProbable = Objects.requireNonNull(mappingFunction.apply(get()), Messages.FLATMAP_RETURNED_NULL);
+        publish(FLATMAP_APPLIED, newProbable);
         return (Probable<R>) newProbable;
-      }, FLATMAP_NOT_APPLIED);
+      }, FLATMAP_NOT_APPLIED));
+    }
+    return counted(ProbableOperation.FLAT_MAP, failureOrNothing(FLATMAP_NOT_APPLIED));
+  }
+
+  /**
+   * In case of a Probable.Value, apply the mapping function to the value to continue with an unboxed
+   * {@link ProbableInt}. A Probable.Failure keeps its message, exception and FailureCode.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @return the resulting ProbableInt
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public final ProbableInt mapToInt(ToIntFunction<? super T> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return ProbableInt.empty(this);
+    }
+    try {
+      return ProbableInt.of(mappingFunction.applyAsInt(value));
+    } catch (Exception e) {
+      return ProbableInt.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  /**
+   * In case of a Probable.Value, apply the mapping function to the value to continue with an unboxed
+   * {@link ProbableLong}. A Probable.Failure keeps its message, exception and FailureCode.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @return the resulting ProbableLong
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public final ProbableLong mapToLong(ToLongFunction<? super T> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return ProbableLong.empty(this);
+    }
+    try {
+      return ProbableLong.of(mappingFunction.applyAsLong(value));
+    } catch (Exception e) {
+      return ProbableLong.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  /**
+   * In case of a Probable.Value, apply the mapping function to the value to continue with an unboxed
+   * {@link ProbableDouble}. A Probable.Failure keeps its message, exception and FailureCode.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @return the resulting ProbableDouble
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public final ProbableDouble mapToDouble(ToDoubleFunction<? super T> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return ProbableDouble.empty(this);
+    }
+    try {
+      return ProbableDouble.of(mappingFunction.applyAsDouble(value));
+    } catch (Exception e) {
+      return ProbableDouble.failure(e, exceptionWasThrown(e));
     }
-    return failureOrNothing(FLATMAP_NOT_APPLIED);
   }
 
   /**
    * Validate the value of the Probable. But only if the Probable is an instance of Probable.Value
    *
    * @param predicate the validation you wish to perform on the value
-   * @return the same Probable if it complies with the given predicate, otherwise the Probable will be changed into a
-   * Probable.Failure
+   * @return the same Probable if it complies with the given predicate or has no value, otherwise the Probable will be
+   * changed into a Probable.Failure
    * @throws NullPointerException if the predicate is {@code null}
    */
   public final Probable<T> test(Predicate<T> predicate) {
-    Objects.requireNonNull(predicate, paramRequired("predicate"));
-    return test(predicate, Messages.failedPredicate(this));
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    if (hasValue()) {
+      return applied(ProbableOperation.TEST, testValue(predicate, Messages.FAILED_PREDICATE, this));
+    }
+    return counted(ProbableOperation.TEST, this);
   }
 
   /**
@@ -279,29 +443,39 @@ public abstract class Probable<T> {
    *
    * @param predicate      the validation you wish to perform on the value
    * @param failureMessage the message you wish to pass in case the predicate resolves to false
-   * @return the same Probable if it complies with the given predicate, otherwise the Probable will be changed into a
-   * Probable.Failure
+   * @return the same Probable if it complies with the given predicate or has no value, otherwise the Probable will be
+   * changed into a Probable.Failure
    * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
    */
   public final Probable<T> test(Predicate<T> predicate, String failureMessage) {
-    Objects.requireNonNull(predicate, paramRequired("predicate"));
-    Objects.requireNonNull(failureMessage, paramRequired("failureMessage"));
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    if (hasValue()) {
+      return applied(ProbableOperation.TEST, testValue(predicate, failureMessage));
+    }
+    return counted(ProbableOperation.TEST, this);
+  }
+
+  private Probable<T> testValue(Predicate<T> predicate, String failureMessage, Object... formatArguments) {
     return failureOnException(probable -> {
-      boolean isValid = predicate.test(value);
-      logDebugEvent(this, testCallSuccessful(isValid));
-      if (isValid) {
+      if (predicate.test(value)) {
+        publish(ProbableEventType.TEST_PASSED, this);
         return this;
       }
-      return failure(failureMessage);
+      Probable<T> failure = failure(failureMessage, formatArguments);
+      publish(ProbableEventType.TEST_FAILED, failure);
+      return failure;
     }, TEST_CALL_FAILED);
   }
 
   private <R> Probable<R> failureOnException(Function<Probable<T>, Probable<R>> unaryOperator,
-                                             String exceptionMessage) {
+                                             ProbableEventType exceptionEvent) {
     try {
       return unaryOperator.apply(this);
     } catch (Exception e) {
-      logDebugEvent(this, exceptionMessage);
+      ProbableMetrics.countCaughtException();
+      ProbableFlightRecorder.exceptionCaught(exceptionEvent, e);
+      publish(exceptionEvent, this);
       return failure(e, exceptionWasThrown(e));
     }
   }
@@ -314,15 +488,15 @@ public abstract class Probable<T> {
    * @throws NullPointerException if the given consumer is {@code null}
    */
   public final <V> Probable<T> thenAccept(Consumer<? super V> consumer) {
-    Objects.requireNonNull(consumer, paramRequired("consumer"));
+    Objects.requireNonNull(consumer, () -> paramRequired("consumer"));
     if (hasValue()) {
-      return failureOnException(probable -> {
-        logDebugEvent(this, ACCEPT_SUCCESSFUL);
+      return applied(ProbableOperation.THEN_ACCEPT, failureOnException(probable -> {
+        publish(ACCEPT_SUCCESSFUL, this);
         consumer.accept((V) value);
         return this;
-      }, ACCEPT_FAILED);
+      }, ACCEPT_FAILED));
     }
-    return this;
+    return counted(ProbableOperation.THEN_ACCEPT, this);
   }
 
   /**
@@ -333,15 +507,15 @@ public abstract class Probable<T> {
    * @throws NullPointerException if the given consumer is {@code null}
    */
   public final Probable<T> thenRun(Runnable runnable) {
-    Objects.requireNonNull(runnable, paramRequired("runnable"));
+    Objects.requireNonNull(runnable, () -> paramRequired("runnable"));
     if (!hasFailed()) {
-      return failureOnException(probable -> {
+      return applied(ProbableOperation.THEN_RUN, failureOnException(probable -> {
         runnable.run();
-        logDebugEvent(probable, RUN_CALLED);
+        publish(RUN_CALLED, probable);
         return this;
-      }, RUN_NOT_CALLED);
+      }, RUN_NOT_CALLED));
     }
-    return this;
+    return counted(ProbableOperation.THEN_RUN, this);
   }
 
   /**
@@ -358,10 +532,10 @@ public abstract class Probable<T> {
    */
   public Stream<T> stream() {
     if (!hasValue()) {
-      logDebugEvent(this, TRANSFORMED_INTO_EMPTY_STREAM);
+      publish(TRANSFORMED_INTO_EMPTY_STREAM, this);
       return Stream.empty();
     } else {
-      logDebugEvent(this, TRANSFORMED_INTO_STREAM);
+      publish(TRANSFORMED_INTO_STREAM, this);
       return Stream.of(value);
     }
   }
@@ -395,7 +569,7 @@ public abstract class Probable<T> {
    * @return the original Probable
    */
   public final Probable<T> log(Level level, String message, Object... args) {
-    Objects.requireNonNull(level, paramRequired("level"));
+    Objects.requireNonNull(level, () -> paramRequired("level"));
     ProbableLogger.log(this, level, message, args);
     return this;
   }
@@ -438,17 +612,15 @@ public abstract class Probable<T> {
   /**
    * A generic Probable that encapsulates a nullable value. Returns a Probable.Value with the supplied content if the
    * value is not null. Otherwise, it returns a Probable.Nothing. This bind function is comparable to
-   * Optional.ofNullable(value).
+   * Optional.ofNullable(value). Since Probables are immutable, {@code Boolean}s and constants of small enums are
+   * wrapped in shared instances.
    *
    * @param value the nullable value you wish to wrap in this Probable.
    * @param <T>   the type of the value.
    * @return Probable.Value or Probable.Nothing.
    */
   public static <T> Probable<T> of(T value) {
-    if (value == null) {
-      return nothing();
-    }
-    return new Probable.Value<>(value);
+    return created(ofNullable(value));
   }
 
   /**
@@ -461,14 +633,254 @@ public abstract class Probable<T> {
    * @return Probable.Value, Probable.Nothing, or Probable.Failure with the exception message.
    */
   public static <T> Probable<T> of(Supplier<T> supplier) {
+    var event = ProbableFlightRecorder.supplierStarted();
+    Probable<T> probable;
     try {
-      if (supplier == null) {
-        return nothing();
-      }
-      return of(supplier.get());
+      probable = supplier == null ? nothing() : ofNullable(supplier.get());
     } catch (Exception exception) {
-      return failure(exception, exception.getMessage());
+      probable = failure(exception, exceptionWasThrown(exception));
     }
+    ProbableFlightRecorder.supplierCompleted(event, probable);
+    return created(probable);
+  }
+
+  /**
+   * A time-bounded counterpart of {@link #of(Supplier)}. The supplier runs on a separate thread (a virtual thread on
+   * runtimes that support them) and the caller waits at most the given timeout. When the timeout passes, the supplier
+   * is interrupted and a Probable.Failure is returned.
+   *
+   * @param supplier the content-supplying function.
+   * @param timeout  the maximum duration to wait for the supplier.
+   * @param <T>      the type of the value.
+   * @return Probable.Value, Probable.Nothing, or Probable.Failure with the exception or timeout message.
+   * @throws NullPointerException if the supplier or the timeout is {@code null}
+   */
+  public static <T> Probable<T> of(Supplier<T> supplier, Duration timeout) {
+    return of(supplier, timeout, ProbableExecutors.sharedThreadPerTaskExecutor());
+  }
+
+  /**
+   * A time-bounded counterpart of {@link #of(Supplier)} that runs the supplier on the given executor. When the timeout
+   * passes, the supplier is interrupted (or, if it has not started yet, never runs) and a Probable.Failure is returned.
+   * If the executor rejects the supplier, a Probable.Failure is returned as well.
+   *
+   * @param supplier the content-supplying function.
+   * @param timeout  the maximum duration to wait for the supplier.
+   * @param executor the executor on which the supplier runs.
+   * @param <T>      the type of the value.
+   * @return Probable.Value, Probable.Nothing, or Probable.Failure with the exception or timeout message.
+   * @throws NullPointerException if the supplier, the timeout or the executor is {@code null}
+   */
+  public static <T> Probable<T> of(Supplier<T> supplier, Duration timeout, Executor executor) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    Objects.requireNonNull(timeout, () -> paramRequired("timeout"));
+    Objects.requireNonNull(executor, () -> paramRequired("executor"));
+    return ProbableTimeout.of(supplier, timeout, executor);
+  }
+
+  /**
+   * Call the supplier like {@link #of(Supplier)} does, and call it again as long as it results in a Probable.Failure
+   * that the policy retries. The calling thread sleeps between two attempts; use
+   * {@link #retryAsync(Supplier, RetryPolicy, ScheduledExecutorService)} to wait without blocking a thread.
+   *
+   * @param supplier the content-supplying function.
+   * @param policy   the policy that decides whether, how often and after which delay to retry.
+   * @param <T>      the type of the value.
+   * @return the first Probable.Value or Probable.Nothing, the first Probable.Failure that is not retried, or a
+   * Probable.Failure with a {@link RetryFailureCode} and the exception of the last attempt once the policy gives up.
+   * @throws NullPointerException if the supplier or the policy is {@code null}
+   */
+  public static <T> Probable<T> retry(Supplier<T> supplier, RetryPolicy policy) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    Objects.requireNonNull(policy, () -> paramRequired("policy"));
+    return ProbableRetry.retry(supplier, policy);
+  }
+
+  /**
+   * A non-blocking counterpart of {@link #retry(Supplier, RetryPolicy)}. Every attempt runs on the scheduler, and the
+   * delays between attempts are scheduled instead of slept.
+   *
+   * @param supplier  the content-supplying function.
+   * @param policy    the policy that decides whether, how often and after which delay to retry.
+   * @param scheduler the scheduler on which the attempts and all subsequent operations run.
+   * @param <T>       the type of the value.
+   * @return an AsyncProbable that completes with the same outcome {@code retry(supplier, policy)} would return.
+   * @throws NullPointerException if the supplier, the policy or the scheduler is {@code null}
+   */
+  public static <T> AsyncProbable<T> retryAsync(Supplier<T> supplier,
+                                                RetryPolicy policy,
+                                                ScheduledExecutorService scheduler) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    Objects.requireNonNull(policy, () -> paramRequired("policy"));
+    Objects.requireNonNull(scheduler, () -> paramRequired("scheduler"));
+    return ProbableRetry.retryAsync(supplier, policy, scheduler);
+  }
+
+  /**
+   * A lazy counterpart of {@link #of(Supplier)}. The supplier is not called until the outcome of the returned
+   * {@link LazyProbable} is accessed, and is called at most once. Exceptions thrown by the supplier result in a
+   * Probable.Failure, exactly like {@code of(Supplier<T> supplier)}.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the value.
+   * @return a LazyProbable that resolves into a Probable.Value, Probable.Nothing, or Probable.Failure.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public static <T> LazyProbable<T> lazy(Supplier<T> supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    return new LazyProbable<>(() -> of(supplier));
+  }
+
+  /**
+   * An asynchronous counterpart of {@link #of(Supplier)}. The supplier runs on the given executor and the caller is not
+   * blocked. Exceptions thrown by the supplier result in a Probable.Failure, exactly like
+   * {@code of(Supplier<T> supplier)}.
+   *
+   * @param supplier the content-supplying function.
+   * @param executor the executor on which the supplier and all subsequent operations run.
+   * @param <T>      the type of the value.
+   * @return an AsyncProbable that completes with a Probable.Value, Probable.Nothing, or Probable.Failure.
+   * @throws NullPointerException if the supplier or the executor is {@code null}
+   */
+  public static <T> AsyncProbable<T> async(Supplier<T> supplier, Executor executor) {
+    return AsyncProbable.of(supplier, executor);
+  }
+
+  /**
+   * Run all suppliers at the same time and combine their values. On runtimes that support virtual threads, every
+   * supplier runs on its own virtual thread. As soon as one of the suppliers results in a Probable.Failure, all other
+   * suppliers are cancelled and that Probable.Failure is returned.
+   *
+   * @param suppliers the content-supplying functions.
+   * @param <T>       the type of the values.
+   * @return a Probable.Value with the values in the order of the suppliers (a supplier that resulted in a
+   * Probable.Nothing contributes {@code null}), or the first Probable.Failure.
+   * @throws NullPointerException if suppliers is {@code null}
+   */
+  public static <T> Probable<List<T>> all(Collection<? extends Supplier<? extends T>> suppliers) {
+    return all(suppliers, Integer.MAX_VALUE, UNBOUNDED);
+  }
+
+  /**
+   * Run all suppliers concurrently, but at most {@code maxConcurrency} at the same time, and combine their values. As
+   * soon as one of the suppliers results in a Probable.Failure, or the timeout passes, all other suppliers are
+   * cancelled.
+   *
+   * @param suppliers      the content-supplying functions.
+   * @param maxConcurrency the maximum number of suppliers that may run at the same time.
+   * @param timeout        the maximum duration of the whole fan-out.
+   * @param <T>            the type of the values.
+   * @return a Probable.Value with the values in the order of the suppliers (a supplier that resulted in a
+   * Probable.Nothing contributes {@code null}), the first Probable.Failure, or a Probable.Failure describing the
+   * timeout.
+   * @throws NullPointerException if suppliers or timeout is {@code null}
+   */
+  public static <T> Probable<List<T>> all(Collection<? extends Supplier<? extends T>> suppliers,
+                                          int maxConcurrency,
+                                          Duration timeout) {
+    Objects.requireNonNull(suppliers, () -> paramRequired("suppliers"));
+    Objects.requireNonNull(timeout, () -> paramRequired("timeout"));
+    return ProbableFanOut.all(suppliers, maxConcurrency, timeout);
+  }
+
+  /**
+   * Run all suppliers at the same time and return all their outcomes, regardless of failures. On runtimes that support
+   * virtual threads, every supplier runs on its own virtual thread.
+   *
+   * @param suppliers the content-supplying functions.
+   * @param <T>       the type of the values.
+   * @return a Probable for every supplier, in the order of the suppliers.
+   * @throws NullPointerException if suppliers is {@code null}
+   */
+  public static <T> List<Probable<T>> allSettled(Collection<? extends Supplier<? extends T>> suppliers) {
+    return allSettled(suppliers, Integer.MAX_VALUE, UNBOUNDED);
+  }
+
+  /**
+   * Run all suppliers concurrently, but at most {@code maxConcurrency} at the same time, and return all their outcomes.
+   * Suppliers that did not complete before the timeout passed are cancelled and result in a Probable.Failure.
+   *
+   * @param suppliers      the content-supplying functions.
+   * @param maxConcurrency the maximum number of suppliers that may run at the same time.
+   * @param timeout        the maximum duration of the whole fan-out.
+   * @param <T>            the type of the values.
+   * @return a Probable for every supplier, in the order of the suppliers.
+   * @throws NullPointerException if suppliers or timeout is {@code null}
+   */
+  public static <T> List<Probable<T>> allSettled(Collection<? extends Supplier<? extends T>> suppliers,
+                                                 int maxConcurrency,
+                                                 Duration timeout) {
+    Objects.requireNonNull(suppliers, () -> paramRequired("suppliers"));
+    Objects.requireNonNull(timeout, () -> paramRequired("timeout"));
+    return ProbableFanOut.allSettled(suppliers, maxConcurrency, timeout);
+  }
+
+  /**
+   * Apply the function to every element of the input, in order, and combine the values of the resulting Probables.
+   * The traversal stops at the first Probable.Failure. Exceptions thrown by the function result in a Probable.Failure.
+   *
+   * @param input    the elements to traverse.
+   * @param function the function that turns every element into a Probable.
+   * @param <A>      the type of the elements.
+   * @param <B>      the type of the values.
+   * @return a Probable.Value with the values in input order (a Probable.Nothing contributes {@code null}), or the
+   * Probable.Failure of the first element that failed.
+   * @throws NullPointerException if the input or the function is {@code null}
+   */
+  public static <A, B> Probable<List<B>> traverse(List<A> input,
+                                                  Function<? super A, ? extends Probable<? extends B>> function) {
+    Objects.requireNonNull(input, () -> paramRequired("input"));
+    Objects.requireNonNull(function, () -> paramRequired("function"));
+    return ProbableTraversal.traverse(input, function);
+  }
+
+  /**
+   * The parallel variant of {@link #traverse(List, Function)}, which runs on the common {@code ForkJoinPool}.
+   *
+   * @param input    the elements to traverse.
+   * @param function the function that turns every element into a Probable. It may be applied concurrently.
+   * @param <A>      the type of the elements.
+   * @param <B>      the type of the values.
+   * @return the same outcome as {@link #traverse(List, Function)}.
+   * @throws NullPointerException if the input or the function is {@code null}
+   */
+  public static <A, B> Probable<List<B>> traverseParallel(
+      List<A> input, Function<? super A, ? extends Probable<? extends B>> function) {
+    return traverseParallel(input, function, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * The parallel variant of {@link #traverse(List, Function)}. The input is split across the workers of the given pool.
+   * Once an element fails, workers stop processing all elements after it, while elements before it are still
+   * processed. The outcome is therefore the same as that of the sequential traversal: the Probable.Failure of the first
+   * failing element in input order, or all values in input order.
+   *
+   * @param input    the elements to traverse.
+   * @param function the function that turns every element into a Probable. It may be applied concurrently.
+   * @param pool     the pool to run the traversal on.
+   * @param <A>      the type of the elements.
+   * @param <B>      the type of the values.
+   * @return the same outcome as {@link #traverse(List, Function)}.
+   * @throws NullPointerException if the input, the function or the pool is {@code null}
+   */
+  public static <A, B> Probable<List<B>> traverseParallel(List<A> input,
+                                                          Function<? super A, ? extends Probable<? extends B>> function,
+                                                          ForkJoinPool pool) {
+    Objects.requireNonNull(input, () -> paramRequired("input"));
+    Objects.requireNonNull(function, () -> paramRequired("function"));
+    Objects.requireNonNull(pool, () -> paramRequired("pool"));
+    return ProbableTraversal.traverseParallel(input, function, pool);
+  }
+
+  /**
+   * Start recording a reusable chain of operations. The returned {@link ProbablePipeline} applies all recorded steps in
+   * a single pass, which avoids creating intermediate Probables for every step.
+   *
+   * @param <T> the type of the input value.
+   * @return an empty ProbablePipeline.
+   */
+  public static <T> ProbablePipeline<T, T> pipeline() {
+    return ProbablePipeline.empty();
   }
 
   /**
@@ -481,7 +893,7 @@ public abstract class Probable<T> {
    * @return a Probable.Value.
    */
   public static <T> Probable<T> value(T value) {
-    return new Probable.Value<>(Objects.requireNonNull(value));
+    return canonicalValue(Objects.requireNonNull(value));
   }
 
   /**
@@ -504,10 +916,10 @@ public abstract class Probable<T> {
    * @param <T> the type of the value you would wish to return from this Probable context. This way you'll be able to
    *            chain methods like the {@code orElse(T value)} method. If you aren't going to chain methods like that,
    *            just use {@code Probable<Void>}
-   * @return a Probable.Nothing.
+   * @return the shared Probable.Nothing with the default message.
    */
   public static <T> Probable<T> nothing() {
-    return new Probable.Nothing<>();
+    return (Probable<T>) NOTHING;
   }
 
   /**
@@ -536,7 +948,7 @@ public abstract class Probable<T> {
    */
   public static <T> Probable<T> failure(String message, Object... formatArguments) {
     Objects.requireNonNull(message, messageRequired());
-    return new Probable.Failure<>(message, formatArguments);
+    return recorded(new Probable.Failure<>(message, formatArguments));
   }
 
   /**
@@ -553,7 +965,61 @@ public abstract class Probable<T> {
                                         String message,
                                         Object... formatArguments) {
     Objects.requireNonNull(message, messageRequired());
-    return new Probable.Failure<>(exception, message, formatArguments);
+    return recorded(new Probable.Failure<>(exception, message, formatArguments));
+  }
+
+  /**
+   * A Probable for a failure that is identified by a {@link FailureCode}. It carries no Exception, so no stack trace is
+   * captured. The message template of the code is only formatted with the given arguments when the message is
+   * requested.
+   *
+   * @param <T>             the content type.
+   * @param failureCode     the code that identifies the failure.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a Probable.Failure with the given code.
+   * @throws NullPointerException if the failureCode is {@code null}
+   */
+  public static <T> Probable<T> failure(FailureCode failureCode, Object... formatArguments) {
+    Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+    return recorded(new Probable.Failure<>(failureCode, formatArguments));
+  }
+
+  /**
+   * Check a value against any number of rules, collecting all violations instead of stopping at the first one like
+   * {@link #test(Predicate, String)}. Finish the validation with {@link ProbableValidation#result()}.
+   *
+   * @param value the nullable value to validate. Rules are not checked against {@code null}.
+   * @param <T>   the type of the value.
+   * @return a new ProbableValidation.
+   */
+  public static <T> ProbableValidation<T> validate(T value) {
+    return new ProbableValidation<>(value);
+  }
+
+  /**
+   * Start recording named rules for validating many records at once. The returned {@link ProbableValidator} validates
+   * a List, array or Stream of records into a single report, without creating a Probable for every record.
+   *
+   * @param <T> the type of the records.
+   * @return an empty ProbableValidator.
+   */
+  public static <T> ProbableValidator<T> validator() {
+    return ProbableValidator.empty();
+  }
+
+  static <T> Probable<T> failure(Exception exception, FailureCode failureCode, Object... formatArguments) {
+    return recorded(new Probable.Failure<>(exception, failureCode, formatArguments));
+  }
+
+  static <T> Probable<T> violated(ProbableViolation[] violations) {
+    return recorded(new Probable.Failure<>(Collections.unmodifiableList(Arrays.asList(violations))));
+  }
+
+  static <T> Probable<T> decodedFailure(String message,
+                                        Exception exception,
+                                        FailureCode failureCode,
+                                        List<ProbableViolation> violations) {
+    return recorded(new Probable.Failure<>(message, exception, failureCode, violations));
   }
 
   /**
@@ -570,6 +1036,10 @@ public abstract class Probable<T> {
     private Value(T value, String message, Object... formatArguments) {
       super(value, null, message, formatArguments);
     }
+
+    private Value(Probable<T> source) {
+      super(source);
+    }
   }
 
   /**
@@ -588,6 +1058,10 @@ public abstract class Probable<T> {
     private Nothing(String message, Object... formatArguments) {
       super(null, null, message, formatArguments);
     }
+
+    private Nothing(Probable<T> source) {
+      super(source);
+    }
   }
 
   /**
@@ -597,21 +1071,179 @@ public abstract class Probable<T> {
    */
   public static class Failure<T> extends Probable<T> {
 
+    private final FailureCode failureCode;
+    private final List<ProbableViolation> violations;
+
     private Failure(String message, Object... formatArguments) {
       this(null, message, formatArguments);
     }
 
     private Failure(Exception exception, String message, Object... formatArguments) {
       super(null, exception, message, formatArguments);
+      this.failureCode = null;
+      this.violations = List.of();
+    }
+
+    private Failure(FailureCode failureCode, Object... formatArguments) {
+      this((Exception) null, failureCode, formatArguments);
+    }
+
+    private Failure(Exception exception, FailureCode failureCode, Object... formatArguments) {
+      super(null, exception, failureCode.getMessageTemplate(), formatArguments);
+      this.failureCode = failureCode;
+      this.violations = List.of();
+    }
+
+    private Failure(List<ProbableViolation> violations) {
+      super(null, null, Messages.VALIDATION_FAILED, violations.size(), violations);
+      this.failureCode = null;
+      this.violations = violations;
+    }
+
+    private Failure(String message,
+                    Exception exception,
+                    FailureCode failureCode,
+                    List<ProbableViolation> violations) {
+      super(null, exception, message);
+      this.failureCode = failureCode;
+      this.violations = violations;
+    }
+
+    private Failure(Failure<T> source) {
+      super(source);
+      this.failureCode = source.failureCode;
+      this.violations = source.violations;
+    }
+  }
+
+  /**
+   * Implemented by the copies of Probables that carry a trace, so untraced Probables need no field for it.
+   */
+  private interface Traced {
+
+    int[] getTraceEntries();
+
+  }
+
+  private static final class TracedValue<T> extends Value<T> implements Traced {
+
+    private final int[] trace;
+
+    private TracedValue(Probable<T> source, int[] trace) {
+      super(source);
+      this.trace = trace;
+    }
+
+    @Override
+    public int[] getTraceEntries() {
+      return trace;
+    }
+  }
+
+  private static final class TracedNothing<T> extends Nothing<T> implements Traced {
+
+    private final int[] trace;
+
+    private TracedNothing(Probable<T> source, int[] trace) {
+      super(source);
+      this.trace = trace;
+    }
+
+    @Override
+    public int[] getTraceEntries() {
+      return trace;
     }
   }
 
-  private <R> Probable<R> failureOrNothing(String eventMessage) {
-    logDebugEvent(this, eventMessage);
+  private static final class TracedFailure<T> extends Failure<T> implements Traced {
+
+    private final int[] trace;
+
+    private TracedFailure(Failure<T> source, int[] trace) {
+      super(source);
+      this.trace = trace;
+    }
+
+    @Override
+    public int[] getTraceEntries() {
+      return trace;
+    }
+  }
+
+  private <R> Probable<R> failureOrNothing(ProbableEventType event) {
+    publish(event, this);
     if (hasFailed()) {
-      return failure(getException(), getMessage());
+      return (Probable<R>) this;
     }
     return nothing();
   }
 
+  private static <T> Probable<T> ofNullable(T value) {
+    if (value == null) {
+      return nothing();
+    }
+    return canonicalValue(value);
+  }
+
+  private <R> Probable<R> applied(ProbableOperation operation, Probable<R> outcome) {
+    if (outcome != this && ProbableTrace.isEnabled()) {
+      return counted(operation, outcome.withTrace(ProbableTrace.append(traceOf(this), operation)));
+    }
+    return counted(operation, outcome);
+  }
+
+  private static <T> Probable<T> created(Probable<T> outcome) {
+    if (ProbableTrace.isEnabled()) {
+      return counted(ProbableOperation.OF, outcome.withTrace(ProbableTrace.append(null, ProbableOperation.OF)));
+    }
+    return counted(ProbableOperation.OF, outcome);
+  }
+
+  private Probable<T> withTrace(int[] trace) {
+    if (this instanceof Probable.Failure) {
+      return new TracedFailure<>((Probable.Failure<T>) this, trace);
+    }
+    if (this instanceof Probable.Value) {
+      return new TracedValue<>(this, trace);
+    }
+    if (this instanceof Probable.Nothing) {
+      return new TracedNothing<>(this, trace);
+    }
+    return this;
+  }
+
+  private static int[] traceOf(Probable<?> probable) {
+    if (probable instanceof Traced) {
+      return ((Traced) probable).getTraceEntries();
+    }
+    return null;
+  }
+
+  /**
+   * Publish the Flight Recorder event of a new Failure once it is fully constructed, instead of from its constructor.
+   */
+  private static <T> Probable<T> recorded(Probable.Failure<T> failure) {
+    ProbableFlightRecorder.failureCreated(failure);
+    return failure;
+  }
+
+  private static <T> Probable<T> counted(ProbableOperation operation, Probable<T> outcome) {
+    ProbableMetrics.count(operation, outcome);
+    return outcome;
+  }
+
+  private static <T> Probable<T> canonicalValue(T value) {
+    if (value instanceof Boolean) {
+      return (Probable<T>) ((Boolean) value ? TRUE : FALSE);
+    }
+    if (value instanceof Enum<?>) {
+      var constant = (Enum<?>) value;
+      var probables = ENUM_VALUES.get(constant.getDeclaringClass());
+      if (constant.ordinal() < probables.length) {
+        return (Probable<T>) probables[constant.ordinal()];
+      }
+    }
+    return new Probable.Value<>(value);
+  }
+
 }
@@ -0,0 +1,404 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache of Probables that loads missing entries through a {@code Function<K, Probable<V>>}. Every
+ * outcome has its own time-to-live, so a Probable.Nothing or Probable.Failure can be cached shorter than a
+ * Probable.Value, or not at all.
+ * <p>
+ * Lookups do not block: entries live in a {@link ConcurrentHashMap}, and the recency order that decides which entry is
+ * evicted is only updated when its lock is free. When the cache is full, a newly loaded entry is only admitted if its
+ * key was requested more often than the key of the least recently used entry (TinyLFU admission). Frequencies are
+ * estimated by a small count-min sketch, so one-off lookups cannot flush frequently used entries out of the cache.
+ * </p>
+ * <p>
+ * Concurrent misses of the same key each call the loader; use a {@link ProbableSingleFlight} in the loader to share
+ * one load between them.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class ProbableCache<K, V> {
+
+  private static final long NEVER = Long.MAX_VALUE;
+
+  private final Function<? super K, ? extends Probable<V>> loader;
+  private final int maximumSize;
+  private final long valueTtlNanos;
+  private final long nothingTtlNanos;
+  private final long failureTtlNanos;
+  private final ConcurrentHashMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final FrequencySketch sketch;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private Node<K, V> head;
+  private Node<K, V> tail;
+  private int linked;
+
+  private ProbableCache(Function<? super K, ? extends Probable<V>> loader,
+                        int maximumSize,
+                        Duration valueTtl,
+                        Duration nothingTtl,
+                        Duration failureTtl) {
+    this.loader = loader;
+    this.maximumSize = Math.max(1, maximumSize);
+    this.valueTtlNanos = toNanos(valueTtl);
+    this.nothingTtlNanos = toNanos(nothingTtl);
+    this.failureTtlNanos = toNanos(failureTtl);
+    this.sketch = new FrequencySketch(this.maximumSize);
+  }
+
+  /**
+   * Create a cache in which values and nothings never expire, and failures are not cached.
+   *
+   * @param loader      the function that loads a missing entry.
+   * @param maximumSize the maximum number of entries.
+   * @param <K>         the type of the keys.
+   * @param <V>         the type of the values.
+   * @return an empty cache.
+   * @throws NullPointerException if the loader is {@code null}
+   */
+  public static <K, V> ProbableCache<K, V> of(Function<? super K, ? extends Probable<V>> loader, int maximumSize) {
+    return of(loader, maximumSize, Probable.UNBOUNDED, Probable.UNBOUNDED, Duration.ZERO);
+  }
+
+  /**
+   * Create a cache with a time-to-live per outcome. A time-to-live of zero means that the outcome is not cached.
+   *
+   * @param loader      the function that loads a missing entry.
+   * @param maximumSize the maximum number of entries.
+   * @param valueTtl    how long a Probable.Value is cached.
+   * @param nothingTtl  how long a Probable.Nothing is cached.
+   * @param failureTtl  how long a Probable.Failure is cached.
+   * @param <K>         the type of the keys.
+   * @param <V>         the type of the values.
+   * @return an empty cache.
+   * @throws NullPointerException if the loader or one of the time-to-lives is {@code null}
+   */
+  public static <K, V> ProbableCache<K, V> of(Function<? super K, ? extends Probable<V>> loader,
+                                              int maximumSize,
+                                              Duration valueTtl,
+                                              Duration nothingTtl,
+                                              Duration failureTtl) {
+    Objects.requireNonNull(loader, () -> paramRequired("loader"));
+    Objects.requireNonNull(valueTtl, () -> paramRequired("valueTtl"));
+    Objects.requireNonNull(nothingTtl, () -> paramRequired("nothingTtl"));
+    Objects.requireNonNull(failureTtl, () -> paramRequired("failureTtl"));
+    return new ProbableCache<>(loader, maximumSize, valueTtl, nothingTtl, failureTtl);
+  }
+
+  /**
+   * Return the cached Probable of the key, or load it if it is missing or expired. An Exception thrown by the loader
+   * results in a Probable.Failure and a {@code null} returned by the loader in a Probable.Nothing.
+   *
+   * @param key the key.
+   * @return the cached or loaded Probable.
+   * @throws NullPointerException if the key is {@code null}
+   */
+  public Probable<V> get(K key) {
+    Objects.requireNonNull(key, () -> paramRequired("key"));
+    sketch.increment(key.hashCode());
+    var node = entries.get(key);
+    if (node != null) {
+      if (!node.isExpired(System.nanoTime())) {
+        hits.increment();
+        touch(node);
+        return node.probable;
+      }
+      if (entries.remove(key, node)) {
+        unlink(node);
+      }
+    }
+    misses.increment();
+    return load(key);
+  }
+
+  /**
+   * Remove the entry of the key, so that the next {@link #get(Object)} loads it again.
+   *
+   * @param key the key.
+   * @throws NullPointerException if the key is {@code null}
+   */
+  public void invalidate(K key) {
+    Objects.requireNonNull(key, () -> paramRequired("key"));
+    var node = entries.remove(key);
+    if (node != null) {
+      unlink(node);
+    }
+  }
+
+  /**
+   * Remove all entries.
+   */
+  public void invalidateAll() {
+    for (var key : entries.keySet()) {
+      invalidate(key);
+    }
+  }
+
+  /**
+   * @return the number of entries, including expired entries that have not been removed yet.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return a snapshot of the hit, miss and eviction counters.
+   */
+  public Statistics getStatistics() {
+    return new Statistics(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  private Probable<V> load(K key) {
+    Probable<V> probable;
+    try {
+      probable = loader.apply(key);
+      if (probable == null) {
+        probable = Probable.nothing();
+      }
+    } catch (Exception e) {
+      probable = Probable.failure(e, exceptionWasThrown(e));
+    }
+    var ttlNanos = probable.hasValue() ? valueTtlNanos : probable.hasFailed() ? failureTtlNanos : nothingTtlNanos;
+    if (ttlNanos <= 0) {
+      return probable;
+    }
+    var expiresAt = ttlNanos == NEVER ? NEVER : System.nanoTime() + ttlNanos;
+    var node = new Node<>(key, probable, expiresAt);
+    var previous = entries.put(key, node);
+    evictionLock.lock();
+    try {
+      if (previous != null) {
+        unlinkLocked(previous);
+      }
+      if (entries.get(key) == node) {
+        linkFirst(node);
+        evict(node);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+    return probable;
+  }
+
+  private void touch(Node<K, V> node) {
+    if (evictionLock.tryLock()) {
+      try {
+        if (node.linked && node != head) {
+          unlinkLocked(node);
+          linkFirst(node);
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private void unlink(Node<K, V> node) {
+    evictionLock.lock();
+    try {
+      unlinkLocked(node);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void evict(Node<K, V> candidate) {
+    while (linked > maximumSize) {
+      var victim = tail;
+      if (candidate != null && candidate != victim
+        && sketch.frequency(candidate.key.hashCode()) < sketch.frequency(victim.key.hashCode())) {
+        victim = candidate;
+      }
+      candidate = null;
+      unlinkLocked(victim);
+      if (entries.remove(victim.key, victim)) {
+        evictions.increment();
+      }
+    }
+  }
+
+  private void linkFirst(Node<K, V> node) {
+    node.prev = null;
+    node.next = head;
+    if (head != null) {
+      head.prev = node;
+    } else {
+      tail = node;
+    }
+    head = node;
+    node.linked = true;
+    linked++;
+  }
+
+  private void unlinkLocked(Node<K, V> node) {
+    if (!node.linked) {
+      return;
+    }
+    if (node.prev != null) {
+      node.prev.next = node.next;
+    } else {
+      head = node.next;
+    }
+    if (node.next != null) {
+      node.next.prev = node.prev;
+    } else {
+      tail = node.prev;
+    }
+    node.prev = null;
+    node.next = null;
+    node.linked = false;
+    linked--;
+  }
+
+  private static long toNanos(Duration ttl) {
+    if (ttl.isNegative()) {
+      return 0;
+    }
+    try {
+      return ttl.toNanos();
+    } catch (ArithmeticException e) {
+      return NEVER;
+    }
+  }
+
+  /**
+   * An immutable snapshot of the counters of a cache.
+   */
+  public static final class Statistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    private Statistics(long hitCount, long missCount, long evictionCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictionCount = evictionCount;
+    }
+
+    /**
+     * @return the number of lookups that were answered from the cache.
+     */
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that called the loader.
+     */
+    public long getMissCount() {
+      return missCount;
+    }
+
+    /**
+     * @return the number of entries that were removed (or not admitted) because the cache was full.
+     */
+    public long getEvictionCount() {
+      return evictionCount;
+    }
+
+    /**
+     * @return the fraction of lookups that were answered from the cache, or 0 if there were none.
+     */
+    public double getHitRate() {
+      var total = hitCount + missCount;
+      return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Statistics(hits=%d, misses=%d, evictions=%d)", hitCount, missCount, evictionCount);
+    }
+  }
+
+  private static final class Node<K, V> {
+    private final K key;
+    private final Probable<V> probable;
+    private final long expiresAt;
+    private Node<K, V> prev;
+    private Node<K, V> next;
+    private boolean linked;
+
+    private Node(K key, Probable<V> probable, long expiresAt) {
+      this.key = key;
+      this.probable = probable;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+      return expiresAt != NEVER && now - expiresAt >= 0;
+    }
+  }
+
+  /**
+   * A count-min sketch of 4 rows of saturating counters. Updates are not synchronized; a lost increment only makes the
+   * estimate slightly lower. All counters are halved once enough increments were made, so that the sketch follows
+   * changes in popularity.
+   */
+  private static final class FrequencySketch {
+
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0xb6a2f4b1, 0x5c6fe2ab, 0x7f4a7c15};
+
+    private final byte[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int increments;
+
+    private FrequencySketch(int maximumSize) {
+      var width = Integer.highestOneBit((int) Math.min(1 << 24, Math.max(256L, 2L * maximumSize)));
+      this.counters = new byte[width * ROWS];
+      this.mask = width - 1;
+      this.sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * maximumSize);
+    }
+
+    void increment(int hash) {
+      for (int row = 0; row < ROWS; row++) {
+        var index = index(hash, row);
+        if (counters[index] < MAX_COUNT) {
+          counters[index]++;
+        }
+      }
+      if (++increments >= sampleSize) {
+        halve();
+      }
+    }
+
+    int frequency(int hash) {
+      var frequency = MAX_COUNT;
+      for (int row = 0; row < ROWS; row++) {
+        frequency = Math.min(frequency, counters[index(hash, row)]);
+      }
+      return frequency;
+    }
+
+    private void halve() {
+      increments = 0;
+      for (int i = 0; i < counters.length; i++) {
+        counters[i] = (byte) (counters[i] >>> 1);
+      }
+    }
+
+    private int index(int hash, int row) {
+      var h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+      h ^= h >>> 16;
+      return row * (mask + 1) + (h & mask);
+    }
+  }
+
+}
@@ -0,0 +1,290 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+import static com.compilit.probably.Probable.LOGGER;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A {@code ProbableCircuitBreaker} protects callers from a dependency that is down. It wraps suppliers like
+ * {@link Probable#of(Supplier)} does and tracks the rate of Probable.Failures in a sliding time window. Once that rate
+ * reaches the threshold, the breaker opens: for the open duration, suppliers are not called at all and a shared
+ * Probable.Failure is returned straight away. After that, the next call is let through as a probe (half-open). If the
+ * probe succeeds, the breaker closes again; otherwise it stays open for another open duration.
+ * <p>
+ * A Probable.Value and a Probable.Nothing count as successes. The breaker never blocks: the window is made of
+ * {@link LongAdder}s and all state changes are single compare-and-set operations, so the failure rate is approximate
+ * while the window moves, but the breaker scales with the number of calling threads.
+ * </p>
+ */
+public final class ProbableCircuitBreaker {
+
+  private static final int BUCKETS = 10;
+  private static final State[] STATES = State.values();
+
+  private final double failureRateThreshold;
+  private final int minimumCalls;
+  private final long openNanos;
+  private final Window window;
+  private final AtomicInteger state = new AtomicInteger(State.CLOSED.ordinal());
+  private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
+  private final Probable<?> rejection = Probable.failure(Messages.CIRCUIT_OPEN);
+  private volatile long openedAt;
+
+  private ProbableCircuitBreaker(double failureRateThreshold,
+                                 int minimumCalls,
+                                 Duration window,
+                                 Duration openDuration) {
+    this.failureRateThreshold = Math.max(Double.MIN_VALUE, Math.min(1, failureRateThreshold));
+    this.minimumCalls = Math.max(1, minimumCalls);
+    this.openNanos = Math.max(0, toNanos(openDuration));
+    this.window = new Window(Math.max(BUCKETS, toNanos(window)) / BUCKETS);
+  }
+
+  /**
+   * @param failureRateThreshold the fraction of failed calls, between 0 and 1, at which the breaker opens.
+   * @param minimumCalls         the minimum number of calls within the window before the failure rate is considered.
+   * @param window               the duration of the sliding window in which calls are counted.
+   * @param openDuration         how long the breaker stays open before it lets a probe through.
+   * @return a closed circuit breaker.
+   * @throws NullPointerException if the window or the openDuration is {@code null}
+   */
+  public static ProbableCircuitBreaker of(double failureRateThreshold,
+                                          int minimumCalls,
+                                          Duration window,
+                                          Duration openDuration) {
+    Objects.requireNonNull(window, () -> paramRequired("window"));
+    Objects.requireNonNull(openDuration, () -> paramRequired("openDuration"));
+    return new ProbableCircuitBreaker(failureRateThreshold, minimumCalls, window, openDuration);
+  }
+
+  /**
+   * Call the supplier if the breaker permits it, and record its outcome.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the value.
+   * @return the outcome of {@code Probable.of(supplier)}, or the shared Probable.Failure of this breaker if it is open.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public <T> Probable<T> of(Supplier<T> supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    var probing = false;
+    if (state.get() != State.CLOSED.ordinal()) {
+      if (!tryProbe()) {
+        return (Probable<T>) rejection;
+      }
+      probing = true;
+    }
+    Probable<T> outcome;
+    try {
+      outcome = Probable.of(supplier);
+    } catch (Error e) {
+      if (probing) {
+        concludeProbe(true);
+      }
+      throw e;
+    }
+    if (probing) {
+      concludeProbe(outcome.hasFailed());
+    } else {
+      record(outcome.hasFailed());
+    }
+    return outcome;
+  }
+
+  /**
+   * @param listener the listener that is called on every state change, on the thread that caused the change.
+   * @return this circuit breaker.
+   * @throws NullPointerException if the listener is {@code null}
+   */
+  public ProbableCircuitBreaker addListener(StateListener listener) {
+    Objects.requireNonNull(listener, () -> paramRequired("listener"));
+    listeners.add(listener);
+    return this;
+  }
+
+  /**
+   * @param listener the listener to remove.
+   */
+  public void removeListener(StateListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * @return the current state of the breaker.
+   */
+  public State getState() {
+    return STATES[state.get()];
+  }
+
+  /**
+   * @return the (approximate) fraction of failed calls within the current window.
+   */
+  public double getFailureRate() {
+    return window.failureRate();
+  }
+
+  /**
+   * @param probable a Probable returned by this breaker.
+   * @return true if the Probable is the failure this breaker returns without calling the supplier.
+   */
+  public boolean isRejection(Probable<?> probable) {
+    return probable == rejection;
+  }
+
+  private boolean tryProbe() {
+    if (state.get() == State.OPEN.ordinal() && System.nanoTime() - openedAt >= openNanos) {
+      return transition(State.OPEN, State.HALF_OPEN);
+    }
+    return false;
+  }
+
+  private void concludeProbe(boolean failed) {
+    if (failed) {
+      openedAt = System.nanoTime();
+      transition(State.HALF_OPEN, State.OPEN);
+    } else {
+      window.clear();
+      transition(State.HALF_OPEN, State.CLOSED);
+    }
+  }
+
+  private void record(boolean failed) {
+    window.record(failed);
+    if (failed && window.exceedsThreshold(failureRateThreshold, minimumCalls)) {
+      openedAt = System.nanoTime();
+      transition(State.CLOSED, State.OPEN);
+    }
+  }
+
+  private boolean transition(State from, State to) {
+    if (!state.compareAndSet(from.ordinal(), to.ordinal())) {
+      return false;
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(String.format(Messages.CIRCUIT_STATE_CHANGED, from, to));
+    }
+    for (var listener : listeners) {
+      try {
+        listener.onStateChange(this, from, to);
+      } catch (RuntimeException e) {
+        LOGGER.warn(Messages.exceptionWasThrown(e), e);
+      }
+    }
+    return true;
+  }
+
+  private static long toNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return duration.isNegative() ? 0 : Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * The states of a circuit breaker.
+   */
+  public enum State {
+    /**
+     * All calls are let through and their outcomes are counted.
+     */
+    CLOSED,
+    /**
+     * No calls are let through.
+     */
+    OPEN,
+    /**
+     * A single probe is let through to decide whether the breaker closes again.
+     */
+    HALF_OPEN
+  }
+
+  /**
+   * Listens to the state changes of a circuit breaker.
+   */
+  @FunctionalInterface
+  public interface StateListener {
+
+    /**
+     * @param circuitBreaker the circuit breaker that changed its state.
+     * @param from           the previous state.
+     * @param to             the new state.
+     */
+    void onStateChange(ProbableCircuitBreaker circuitBreaker, State from, State to);
+  }
+
+  /**
+   * A ring of time buckets. A bucket is reused (and reset) by the first thread that records into it after its epoch
+   * has passed.
+   */
+  private static final class Window {
+
+    private final long bucketNanos;
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+
+    private Window(long bucketNanos) {
+      this.bucketNanos = bucketNanos;
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets[i] = new Bucket();
+      }
+    }
+
+    void record(boolean failed) {
+      var epoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+      var bucket = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+      var bucketEpoch = bucket.epoch.get();
+      if (bucketEpoch < epoch && bucket.epoch.compareAndSet(bucketEpoch, epoch)) {
+        bucket.successes.reset();
+        bucket.failures.reset();
+      }
+      (failed ? bucket.failures : bucket.successes).increment();
+    }
+
+    boolean exceedsThreshold(double threshold, int minimumCalls) {
+      var counts = count();
+      var total = counts[0] + counts[1];
+      return total >= minimumCalls && counts[1] >= threshold * total;
+    }
+
+    double failureRate() {
+      var counts = count();
+      var total = counts[0] + counts[1];
+      return total == 0 ? 0 : (double) counts[1] / total;
+    }
+
+    void clear() {
+      for (var bucket : buckets) {
+        bucket.epoch.set(Long.MIN_VALUE);
+        bucket.successes.reset();
+        bucket.failures.reset();
+      }
+    }
+
+    private long[] count() {
+      var oldest = Math.floorDiv(System.nanoTime(), bucketNanos) - BUCKETS;
+      var counts = new long[2];
+      for (var bucket : buckets) {
+        if (bucket.epoch.get() > oldest) {
+          counts[0] += bucket.successes.sum();
+          counts[1] += bucket.failures.sum();
+        }
+      }
+      return counts;
+    }
+  }
+
+  private static final class Bucket {
+    private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+  }
+
+}
@@ -0,0 +1,520 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact binary format for shipping Probables between nodes or storing them in queues. A {@code ProbableCodec}
+ * writes one Probable, or a batch of Probables, straight into a {@link ByteBuffer} and reads them back from it:
+ * <pre>{@code
+ * ProbableCodec<String> codec = ProbableCodec.of(ProbableValueCodec.strings()).withFailureCodes(OrderFailure.values());
+ * codec.writeBatch(probables, buffer);
+ * buffer.flip();
+ * Probable<List<Probable<String>>> decoded = codec.readBatch(buffer);
+ * }</pre>
+ * Every write starts with a header of four bytes: the magic bytes {@code 'P' 'B'}, the {@link #VERSION} of the format
+ * and whether a single Probable or a batch follows. A batch continues with its size. Each Probable is written as
+ * <ul>
+ *   <li>a tag byte, holding the ordinal of its {@link ProbableOutcome} and flags for the optional parts below,</li>
+ *   <li>the value, written by the {@link ProbableValueCodec}, if it is a Probable.Value,</li>
+ *   <li>the message, unless it is the default message,</li>
+ *   <li>the class name and message of the Exception, if it has one,</li>
+ *   <li>the {@link FailureCode} and the {@link ProbableViolation}s, if it has them.</li>
+ * </ul>
+ * Numbers are written in one to five bytes. Strings are written as UTF-8 the first time they occur in a write, and as a
+ * reference to that first occurrence after it, so messages that repeat throughout a batch (or an Exception message
+ * that is also the message of its Failure) are only written once. Strings are read directly from the array of a heap
+ * buffer.
+ * <p>
+ * A decoded Exception is a {@link DecodedException}, holding the class name and message of the original. No classes
+ * are loaded or instantiated while reading. A decoded FailureCode is the code passed to
+ * {@link #withFailureCodes(FailureCode...)} with the same numeric value or, if there is none, a code created by
+ * {@link FailureCode#of(int, String)}. Traces are not written, as they only make sense on the node that made them.
+ * </p>
+ * <p>
+ * Writing and reading never throw, except for {@code null} arguments: if the buffer is too small, the value codec
+ * throws or the input is malformed, the position of the buffer is restored and a Probable.Failure is returned. Codecs
+ * are immutable and can be shared between threads; a buffer can not.
+ * </p>
+ *
+ * @param <T> the type of the values.
+ */
+public final class ProbableCodec<T> {
+
+  /**
+   * The version of the format that is written, and the highest version that can be read.
+   */
+  public static final int VERSION = 1;
+
+  private static final byte MAGIC_P = 'P';
+  private static final byte MAGIC_B = 'B';
+  private static final byte SINGLE = 0;
+  private static final byte BATCH = 1;
+  private static final int OUTCOME_MASK = 0b11;
+  private static final int HAS_MESSAGE = 1 << 2;
+  private static final int HAS_EXCEPTION = 1 << 3;
+  private static final int HAS_FAILURE_CODE = 1 << 4;
+  private static final int HAS_VIOLATIONS = 1 << 5;
+  private static final int FAILURE_FLAGS = HAS_EXCEPTION | HAS_FAILURE_CODE | HAS_VIOLATIONS;
+  private static final int KNOWN_BITS = OUTCOME_MASK | HAS_MESSAGE | FAILURE_FLAGS;
+  private static final ProbableOutcome[] OUTCOMES = ProbableOutcome.values();
+
+  private final ProbableValueCodec<T> valueCodec;
+  private final Map<Integer, FailureCode> failureCodes;
+
+  private ProbableCodec(ProbableValueCodec<T> valueCodec, Map<Integer, FailureCode> failureCodes) {
+    this.valueCodec = valueCodec;
+    this.failureCodes = failureCodes;
+  }
+
+  /**
+   * @param valueCodec the codec for the values of Probable.Values.
+   * @param <T>        the type of the values.
+   * @return a new ProbableCodec.
+   * @throws NullPointerException if the valueCodec is {@code null}
+   */
+  public static <T> ProbableCodec<T> of(ProbableValueCodec<T> valueCodec) {
+    Objects.requireNonNull(valueCodec, () -> paramRequired("valueCodec"));
+    return new ProbableCodec<>(valueCodec, Map.of());
+  }
+
+  /**
+   * @param failureCodes the codes to decode FailureCodes into, typically the {@code values()} of an enum. A code that
+   *                     is not among them is decoded into a code created by {@link FailureCode#of(int, String)}.
+   * @return a new codec that also decodes the given codes.
+   * @throws NullPointerException if the failureCodes or any of them is {@code null}
+   */
+  public ProbableCodec<T> withFailureCodes(FailureCode... failureCodes) {
+    Objects.requireNonNull(failureCodes, () -> paramRequired("failureCodes"));
+    var codes = new HashMap<>(this.failureCodes);
+    for (var failureCode : failureCodes) {
+      Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+      codes.put(failureCode.getCode(), failureCode);
+    }
+    return new ProbableCodec<>(valueCodec, Map.copyOf(codes));
+  }
+
+  /**
+   * Write a single Probable at the position of the buffer, advancing the position.
+   *
+   * @param probable the Probable to write.
+   * @param buffer   the buffer to write into.
+   * @return a Probable.Value with the number of bytes written, or a Probable.Failure if the Probable could not be
+   * written, in which case the position of the buffer is unchanged.
+   * @throws NullPointerException if the probable or the buffer is {@code null}
+   */
+  public Probable<Integer> write(Probable<? extends T> probable, ByteBuffer buffer) {
+    Objects.requireNonNull(probable, () -> paramRequired("probable"));
+    Objects.requireNonNull(buffer, () -> paramRequired("buffer"));
+    var start = buffer.position();
+    try {
+      putHeader(SINGLE, buffer);
+      writeProbable(probable, buffer, new StringTable());
+      return Probable.value(buffer.position() - start);
+    } catch (RuntimeException exception) {
+      buffer.position(start);
+      return notWritten(exception, buffer);
+    }
+  }
+
+  /**
+   * Write a batch of Probables at the position of the buffer, advancing the position. Strings are shared by all
+   * Probables of the batch.
+   *
+   * @param probables the Probables to write, in iteration order.
+   * @param buffer    the buffer to write into.
+   * @return a Probable.Value with the number of bytes written, or a Probable.Failure if the Probables could not be
+   * written, in which case the position of the buffer is unchanged.
+   * @throws NullPointerException if the probables, any of them, or the buffer is {@code null}
+   */
+  public Probable<Integer> writeBatch(Collection<? extends Probable<? extends T>> probables, ByteBuffer buffer) {
+    Objects.requireNonNull(probables, () -> paramRequired("probables"));
+    Objects.requireNonNull(buffer, () -> paramRequired("buffer"));
+    for (var probable : probables) {
+      Objects.requireNonNull(probable, () -> paramRequired("probable"));
+    }
+    var start = buffer.position();
+    try {
+      putHeader(BATCH, buffer);
+      putVarInt(probables.size(), buffer);
+      var strings = new StringTable();
+      for (var probable : probables) {
+        writeProbable(probable, buffer, strings);
+      }
+      return Probable.value(buffer.position() - start);
+    } catch (RuntimeException exception) {
+      buffer.position(start);
+      return notWritten(exception, buffer);
+    }
+  }
+
+  /**
+   * Read a single Probable at the position of the buffer, advancing the position past it.
+   *
+   * @param buffer the buffer to read from.
+   * @return a Probable.Value with the decoded Probable, or a Probable.Failure if no Probable could be read, in which
+   * case the position of the buffer is unchanged.
+   * @throws NullPointerException if the buffer is {@code null}
+   */
+  public Probable<Probable<T>> read(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, () -> paramRequired("buffer"));
+    var start = buffer.position();
+    try {
+      if (getHeader(buffer) != SINGLE) {
+        throw new IllegalArgumentException(Messages.CODEC_UNEXPECTED_BATCH);
+      }
+      return Probable.value(readProbable(buffer, new StringTable()));
+    } catch (RuntimeException exception) {
+      buffer.position(start);
+      return notRead(exception);
+    }
+  }
+
+  /**
+   * Read a batch of Probables at the position of the buffer, advancing the position past it. A single Probable is
+   * read as a batch of one.
+   *
+   * @param buffer the buffer to read from.
+   * @return a Probable.Value with an unmodifiable List of the decoded Probables, or a Probable.Failure if the batch
+   * could not be read, in which case the position of the buffer is unchanged.
+   * @throws NullPointerException if the buffer is {@code null}
+   */
+  public Probable<List<Probable<T>>> readBatch(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, () -> paramRequired("buffer"));
+    var start = buffer.position();
+    try {
+      var strings = new StringTable();
+      if (getHeader(buffer) == SINGLE) {
+        return Probable.value(List.of(readProbable(buffer, strings)));
+      }
+      var size = getSize(buffer);
+      var probables = new ArrayList<Probable<T>>(size);
+      for (int i = 0; i < size; i++) {
+        probables.add(readProbable(buffer, strings));
+      }
+      return Probable.value(Collections.unmodifiableList(probables));
+    } catch (RuntimeException exception) {
+      buffer.position(start);
+      return notRead(exception);
+    }
+  }
+
+  private void writeProbable(Probable<? extends T> probable, ByteBuffer buffer, StringTable strings) {
+    var outcome = ProbableOutcome.of(probable);
+    var message = probable.getMessage();
+    var exception = probable.getException();
+    var failureCode = probable.getFailureCode();
+    var violations = probable.getViolations();
+    var tag = outcome.ordinal();
+    if (!Messages.NOTHING_TO_REPORT.equals(message)) {
+      tag |= HAS_MESSAGE;
+    }
+    if (exception != null) {
+      tag |= HAS_EXCEPTION;
+    }
+    if (failureCode != null) {
+      tag |= HAS_FAILURE_CODE;
+    }
+    if (!violations.isEmpty()) {
+      tag |= HAS_VIOLATIONS;
+    }
+    buffer.put((byte) tag);
+    if (outcome == ProbableOutcome.VALUE) {
+      valueCodec.write(probable.get(), buffer);
+    }
+    if ((tag & HAS_MESSAGE) != 0) {
+      strings.put(message, buffer);
+    }
+    if (exception != null) {
+      strings.put(classNameOf(exception), buffer);
+      strings.put(exception.getMessage(), buffer);
+    }
+    if (failureCode != null) {
+      putFailureCode(failureCode, buffer, strings);
+    }
+    if (!violations.isEmpty()) {
+      putVarInt(violations.size(), buffer);
+      for (var violation : violations) {
+        strings.put(violation.getMessage(), buffer);
+        var violationCode = violation.getFailureCode();
+        buffer.put((byte) (violationCode == null ? 0 : 1));
+        if (violationCode != null) {
+          putFailureCode(violationCode, buffer, strings);
+        }
+      }
+    }
+  }
+
+  private Probable<T> readProbable(ByteBuffer buffer, StringTable strings) {
+    var tag = buffer.get() & 0xFF;
+    var outcome = tag & OUTCOME_MASK;
+    if (outcome >= OUTCOMES.length
+      || (tag & ~KNOWN_BITS) != 0
+      || (OUTCOMES[outcome] != ProbableOutcome.FAILURE && (tag & FAILURE_FLAGS) != 0)) {
+      throw new IllegalArgumentException(String.format(Messages.CODEC_UNKNOWN_TAG, tag));
+    }
+    T value = null;
+    if (OUTCOMES[outcome] == ProbableOutcome.VALUE) {
+      value = valueCodec.read(buffer);
+      if (value == null) {
+        throw new IllegalArgumentException(Messages.CODEC_NULL_VALUE);
+      }
+    }
+    var message = (tag & HAS_MESSAGE) != 0 ? strings.getNonNull(buffer) : null;
+    switch (OUTCOMES[outcome]) {
+      case VALUE:
+        return message == null ? Probable.value(value) : Probable.value(value, message);
+      case NOTHING:
+        return message == null ? Probable.nothing() : Probable.nothing(message);
+      default:
+        Exception exception = null;
+        if ((tag & HAS_EXCEPTION) != 0) {
+          exception = new DecodedException(strings.getNonNull(buffer), strings.get(buffer));
+        }
+        var failureCode = (tag & HAS_FAILURE_CODE) != 0 ? getFailureCode(buffer, strings) : null;
+        var violations = (tag & HAS_VIOLATIONS) != 0 ? getViolations(buffer, strings) : List.<ProbableViolation>of();
+        return Probable.decodedFailure(message == null ? Messages.NOTHING_TO_REPORT : message,
+                                       exception,
+                                       failureCode,
+                                       violations);
+    }
+  }
+
+  private List<ProbableViolation> getViolations(ByteBuffer buffer, StringTable strings) {
+    var size = getSize(buffer);
+    var violations = new ProbableViolation[size];
+    for (int i = 0; i < size; i++) {
+      var message = strings.getNonNull(buffer);
+      var failureCode = buffer.get() == 0 ? null : getFailureCode(buffer, strings);
+      violations[i] = new ProbableViolation(message, failureCode);
+    }
+    return List.of(violations);
+  }
+
+  private static void putFailureCode(FailureCode failureCode, ByteBuffer buffer, StringTable strings) {
+    var code = failureCode.getCode();
+    putVarInt((code << 1) ^ (code >> 31), buffer);
+    strings.put(failureCode.getMessageTemplate(), buffer);
+  }
+
+  private FailureCode getFailureCode(ByteBuffer buffer, StringTable strings) {
+    var zigZag = getVarInt(buffer);
+    var code = (zigZag >>> 1) ^ -(zigZag & 1);
+    var messageTemplate = strings.getNonNull(buffer);
+    var failureCode = failureCodes.get(code);
+    return failureCode != null ? failureCode : FailureCode.of(code, messageTemplate);
+  }
+
+  static String classNameOf(Exception exception) {
+    if (exception instanceof DecodedException) {
+      return ((DecodedException) exception).getClassName();
+    }
+    return exception.getClass().getName();
+  }
+
+  private static void putHeader(byte kind, ByteBuffer buffer) {
+    buffer.put(MAGIC_P).put(MAGIC_B).put((byte) VERSION).put(kind);
+  }
+
+  private static byte getHeader(ByteBuffer buffer) {
+    var magicP = buffer.get();
+    var magicB = buffer.get();
+    var version = buffer.get();
+    var kind = buffer.get();
+    if (magicP != MAGIC_P || magicB != MAGIC_B || version < 1 || version > VERSION || kind < SINGLE || kind > BATCH) {
+      throw new IllegalArgumentException(String.format(Messages.CODEC_UNSUPPORTED_FORMAT, VERSION));
+    }
+    return kind;
+  }
+
+  /**
+   * Every element takes at least one byte, so a size larger than the remaining bytes can only be malformed. Checking it
+   * prevents allocating huge arrays for garbage input.
+   */
+  private static int getSize(ByteBuffer buffer) {
+    var size = getVarInt(buffer);
+    if (size < 0 || size > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    return size;
+  }
+
+  private static <R> Probable<R> notWritten(RuntimeException exception, ByteBuffer buffer) {
+    if (exception instanceof BufferOverflowException) {
+      return Probable.failure(exception, Messages.CODEC_BUFFER_TOO_SMALL, buffer.remaining());
+    }
+    return Probable.failure(exception, Messages.CODEC_NOT_WRITTEN, Messages.exceptionWasThrown(exception));
+  }
+
+  private static <R> Probable<R> notRead(RuntimeException exception) {
+    return Probable.failure(exception, Messages.CODEC_NOT_READ, Messages.exceptionWasThrown(exception));
+  }
+
+  static void putVarInt(int value, ByteBuffer buffer) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  static int getVarInt(ByteBuffer buffer) {
+    var value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      var b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException(Messages.CODEC_MALFORMED_NUMBER);
+  }
+
+  /**
+   * Write the length and the UTF-8 bytes of a String. ASCII Strings, by far the most common kind of message, are
+   * written char by char, without encoding them into an intermediate array first.
+   */
+  static void putString(String value, ByteBuffer buffer) {
+    var length = value.length();
+    if (!isAscii(value)) {
+      var bytes = value.getBytes(StandardCharsets.UTF_8);
+      putVarInt(bytes.length, buffer);
+      buffer.put(bytes);
+      return;
+    }
+    putVarInt(length, buffer);
+    if (buffer.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < length; i++) {
+      buffer.put((byte) value.charAt(i));
+    }
+  }
+
+  static String getString(ByteBuffer buffer, int length) {
+    if (length < 0 || length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    if (buffer.hasArray()) {
+      var position = buffer.position();
+      var value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+      buffer.position(position + length);
+      return value;
+    }
+    var bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The Strings of a single write or read. A String is written as a literal the first time and as a reference to its
+   * index after that, so the table of the reader is filled in the same order as the table of the writer.
+   */
+  private static final class StringTable {
+
+    private static final int NULL = 0;
+    private static final int LITERAL = 1;
+    private static final int FIRST_REFERENCE = 2;
+
+    private Map<String, Integer> indices;
+    private List<String> strings;
+
+    void put(String value, ByteBuffer buffer) {
+      if (value == null) {
+        putVarInt(NULL, buffer);
+        return;
+      }
+      if (indices == null) {
+        indices = new HashMap<>();
+      }
+      var index = indices.putIfAbsent(value, indices.size());
+      if (index != null) {
+        putVarInt(FIRST_REFERENCE + index, buffer);
+        return;
+      }
+      putVarInt(LITERAL, buffer);
+      putString(value, buffer);
+    }
+
+    String get(ByteBuffer buffer) {
+      var reference = getVarInt(buffer);
+      if (reference == NULL) {
+        return null;
+      }
+      if (strings == null) {
+        strings = new ArrayList<>();
+      }
+      if (reference == LITERAL) {
+        var value = getString(buffer, getVarInt(buffer));
+        strings.add(value);
+        return value;
+      }
+      var index = reference - FIRST_REFERENCE;
+      if (index < 0 || index >= strings.size()) {
+        throw new IllegalArgumentException(String.format(Messages.CODEC_UNKNOWN_STRING, reference));
+      }
+      return strings.get(index);
+    }
+
+    String getNonNull(ByteBuffer buffer) {
+      var value = get(buffer);
+      if (value == null) {
+        throw new IllegalArgumentException(String.format(Messages.CODEC_UNKNOWN_STRING, NULL));
+      }
+      return value;
+    }
+  }
+
+  /**
+   * The Exception of a decoded Probable.Failure. It holds the class name and message of the original Exception, but no
+   * stack trace.
+   */
+  public static final class DecodedException extends Exception {
+
+    /**
+     * The version of the serialized form, which only consists of the class name next to the Exception fields.
+     */
+    private static final long serialVersionUID = 1L;
+
+    private final String className;
+
+    DecodedException(String className, String message) {
+      super(message, null, false, false);
+      this.className = className;
+    }
+
+    /**
+     * @return the fully qualified name of the class of the original Exception.
+     */
+    public String getClassName() {
+      return className;
+    }
+
+    @Override
+    public String toString() {
+      var message = getMessage();
+      return message == null ? className : className + ": " + message;
+    }
+  }
+
+}
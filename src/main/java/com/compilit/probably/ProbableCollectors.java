@@ -0,0 +1,104 @@
+package com.compilit.probably;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Collectors for streams of Probables. All collectors handle every element in a single pass and can safely be used
+ * with parallel streams; the order of the collected elements is always the encounter order of the stream.
+ */
+public final class ProbableCollectors {
+
+  private ProbableCollectors() {
+  }
+
+  /**
+   * Partition the Probables into values, Probable.Nothings and Probable.Failures.
+   *
+   * @param <T> the type of the values.
+   * @return a collector that produces a ProbablePartition.
+   */
+  public static <T> Collector<Probable<T>, ?, ProbablePartition<T>> partitioning() {
+    return Collector.of(ProbablePartition<T>::new, ProbablePartition::add, ProbablePartition::addAll);
+  }
+
+  /**
+   * Count the Probable.Failures per message.
+   *
+   * @param <T> the type of the values.
+   * @return a collector that produces the number of Probable.Failures per message.
+   */
+  public static <T> Collector<Probable<T>, ?, Map<String, Long>> countingFailuresByMessage() {
+    return Collectors.filtering(
+      Probable::hasFailed,
+      Collectors.groupingBy(Probable::getMessage, Collectors.counting())
+    );
+  }
+
+  /**
+   * Count the Probable.Failures per {@link FailureCode}. Probable.Failures without a FailureCode are not counted.
+   *
+   * @param <T> the type of the values.
+   * @return a collector that produces the number of Probable.Failures per FailureCode.
+   */
+  public static <T> Collector<Probable<T>, ?, Map<FailureCode, Long>> countingFailuresByCode() {
+    return Collectors.filtering(
+      probable -> probable.getFailureCode() != null,
+      Collectors.groupingBy(Probable::getFailureCode, Collectors.counting())
+    );
+  }
+
+  /**
+   * Turn a stream of Probables into a single Probable of all values. Once a Probable.Failure is encountered, all
+   * subsequent values are ignored and the first Probable.Failure (in encounter order) is the result.
+   *
+   * @param <T> the type of the values.
+   * @return a collector that produces a Probable.Value with all values (a Probable.Nothing contributes {@code null}),
+   * or the first Probable.Failure.
+   */
+  public static <T> Collector<Probable<T>, ?, Probable<List<T>>> sequence() {
+    return Collector.of(Sequence<T>::new, Sequence::add, Sequence::addAll, Sequence::finish);
+  }
+
+  private static final class Sequence<T> {
+
+    private List<T> values = new ArrayList<>();
+    private Probable<T> failure;
+
+    private void add(Probable<T> probable) {
+      if (failure != null) {
+        return;
+      }
+      if (probable.hasFailed()) {
+        failure = probable;
+        values = null;
+      } else {
+        values.add(probable.get());
+      }
+    }
+
+    private Sequence<T> addAll(Sequence<T> other) {
+      if (failure == null) {
+        if (other.failure != null) {
+          failure = other.failure;
+          values = null;
+        } else {
+          values.addAll(other.values);
+        }
+      }
+      return this;
+    }
+
+    private Probable<List<T>> finish() {
+      if (failure != null) {
+        return (Probable<List<T>>) (Probable<?>) failure;
+      }
+      return Probable.of(Collections.unmodifiableList(values));
+    }
+  }
+
+}
@@ -0,0 +1,298 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@code ProbableDouble} is the {@code double} specialization of a {@code Probable}, comparable to how an
+ * {@code OptionalDouble} relates to an {@code Optional}. It has the same three possible outcomes: a value, nothing, or
+ * a failure with a message and possibly an Exception or {@link FailureCode}. The value is never boxed, which makes it
+ * suitable for numeric hot paths. Use {@link #mapToObj(DoubleFunction)} or {@link #boxed()} to continue with a regular
+ * {@code Probable}, and {@link Probable#mapToDouble(java.util.function.ToDoubleFunction)} to get here from one.
+ * <p>
+ * Contrary to a {@code Probable}, operations on a {@code ProbableDouble} do not log debug events.
+ * </p>
+ */
+public final class ProbableDouble extends ProbablePrimitive {
+
+  private static final ProbableDouble NOTHING = new ProbableDouble(0D, Probable.nothing());
+  private final double value;
+
+  /**
+   * @param value the value, only relevant if empty is {@code null}.
+   * @param empty the Probable.Nothing or Probable.Failure that describes why there is no value, or {@code null}.
+   */
+  private ProbableDouble(double value, Probable<?> empty) {
+    super(empty);
+    this.value = value;
+  }
+
+  /**
+   * Wrap a value.
+   *
+   * @param value the value.
+   * @return a ProbableDouble with the value.
+   */
+  public static ProbableDouble of(double value) {
+    return new ProbableDouble(value, null);
+  }
+
+  /**
+   * Wrap a supplying process. If the supplier throws an Exception, a failed ProbableDouble is returned.
+   *
+   * @param supplier the value-supplying function.
+   * @return a ProbableDouble with the supplied value, or a failed ProbableDouble.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public static ProbableDouble of(DoubleSupplier supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    try {
+      return of(supplier.getAsDouble());
+    } catch (Exception e) {
+      return new ProbableDouble(0D, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * @return the shared empty ProbableDouble with the default message.
+   */
+  public static ProbableDouble nothing() {
+    return NOTHING;
+  }
+
+  /**
+   * @param message         the message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return an empty ProbableDouble with a message.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableDouble nothing(String message, Object... formatArguments) {
+    return new ProbableDouble(0D, Probable.nothing(message, formatArguments));
+  }
+
+  /**
+   * @param message         the error message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableDouble.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableDouble failure(String message, Object... formatArguments) {
+    return new ProbableDouble(0D, Probable.failure(message, formatArguments));
+  }
+
+  /**
+   * @param exception       the exception that was encountered.
+   * @param message         the error message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableDouble.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableDouble failure(Exception exception, String message, Object... formatArguments) {
+    return new ProbableDouble(0D, Probable.failure(exception, message, formatArguments));
+  }
+
+  /**
+   * @param failureCode     the code that identifies the failure.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableDouble.
+   * @throws NullPointerException if the failureCode is {@code null}
+   */
+  public static ProbableDouble failure(FailureCode failureCode, Object... formatArguments) {
+    return new ProbableDouble(0D, Probable.failure(failureCode, formatArguments));
+  }
+
+  /**
+   * @param probable a Probable.Nothing or Probable.Failure.
+   * @return a ProbableDouble without value that shares the message and failure details of the given Probable.
+   */
+  static ProbableDouble empty(Probable<?> probable) {
+    if (probable.hasFailed()) {
+      return new ProbableDouble(0D, probable);
+    }
+    return NOTHING;
+  }
+
+  /**
+   * Returns the value. Since a primitive cannot be {@code null}, this returns {@code 0D} if there is no value, so
+   * check {@link #hasValue()} first, or use {@link #orElse(double)}.
+   *
+   * @return the value, or {@code 0D} if there is none.
+   */
+  public double getAsDouble() {
+    return value;
+  }
+
+  /**
+   * @param other the value you wish to return in case this ProbableDouble does not have any.
+   * @return the value, or the other value.
+   */
+  public double orElse(double other) {
+    return hasValue() ? value : other;
+  }
+
+  /**
+   * If a value is present, apply the mapping function to it.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @return a ProbableDouble with the new value, this ProbableDouble if there is no value, or a failed ProbableDouble
+   * if the mapping function throws an Exception.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public ProbableDouble map(DoubleUnaryOperator mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return of(mappingFunction.applyAsDouble(value));
+    } catch (Exception e) {
+      return new ProbableDouble(0D, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * If a value is present, apply the mapping function to it and continue with a regular Probable. Otherwise, the
+   * Probable.Nothing or Probable.Failure that this ProbableDouble holds is returned.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return the resulting Probable
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> Probable<R> mapToObj(DoubleFunction<? extends R> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return emptyProbable();
+    }
+    try {
+      return Probable.of(mappingFunction.apply(value));
+    } catch (Exception e) {
+      return Probable.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  /**
+   * @return a regular Probable with the boxed value, or the Probable.Nothing or Probable.Failure of this
+   * ProbableDouble.
+   */
+  public Probable<Double> boxed() {
+    if (!hasValue()) {
+      return emptyProbable();
+    }
+    return Probable.of(value);
+  }
+
+  /**
+   * Validate the value, but only if there is one.
+   *
+   * @param predicate the validation you wish to perform on the value
+   * @return this ProbableDouble if it complies with the predicate or has no value, otherwise a failed ProbableDouble.
+   * @throws NullPointerException if the predicate is {@code null}
+   */
+  public ProbableDouble test(DoublePredicate predicate) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return predicate.test(value) ? this : failure(Messages.FAILED_PREDICATE, value);
+    } catch (Exception e) {
+      return new ProbableDouble(0D, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * Validate the value, but only if there is one.
+   *
+   * @param predicate      the validation you wish to perform on the value
+   * @param failureMessage the message you wish to pass in case the predicate resolves to false
+   * @return this ProbableDouble if it complies with the predicate or has no value, otherwise a failed ProbableDouble.
+   * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
+   */
+  public ProbableDouble test(DoublePredicate predicate, String failureMessage) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return predicate.test(value) ? this : failure(failureMessage);
+    } catch (Exception e) {
+      return new ProbableDouble(0D, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * If a value is present, performs the given consumer with the value, otherwise does nothing.
+   *
+   * @param consumer the consumer to be performed, if a value is present
+   * @return this ProbableDouble, or a failed ProbableDouble if the consumer throws an Exception.
+   * @throws NullPointerException if the consumer is {@code null}
+   */
+  public ProbableDouble thenAccept(DoubleConsumer consumer) {
+    Objects.requireNonNull(consumer, () -> paramRequired("consumer"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      consumer.accept(value);
+      return this;
+    } catch (Exception e) {
+      return new ProbableDouble(0D, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * @param supplier the supplier of the alternative ProbableDouble.
+   * @return this ProbableDouble if it has a value, otherwise the supplied ProbableDouble.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public ProbableDouble or(Supplier<ProbableDouble> supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    return hasValue() ? this : supplier.get();
+  }
+
+  /**
+   * @param obj the other object.
+   * @return true if both are ProbableDoubles with equal values, or both have no value.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof ProbableDouble) {
+      var other = (ProbableDouble) obj;
+      if (hasValue() && other.hasValue()) {
+        return Double.compare(value, other.value) == 0;
+      }
+      return !hasValue() && !other.hasValue();
+    }
+    return false;
+  }
+
+  /**
+   * @return the hashcode of the value, otherwise 0.
+   */
+  @Override
+  public int hashCode() {
+    return hasValue() ? Double.hashCode(value) : 0;
+  }
+
+  /**
+   * @return the String value of the value, or "null" if there is none.
+   */
+  @Override
+  public String toString() {
+    return hasValue() ? String.valueOf(value) : String.valueOf((Object) null);
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.compilit.probably;
+
+/**
+ * Receives the events that Probables publish while they are transformed. Register a listener with
+ * {@link ProbableEvents#addListener(ProbableEventListener)}. Listeners are called synchronously, on the thread that
+ * performed the operation, so they should be fast and must not block. An Exception thrown by a listener is logged and
+ * does not affect the outcome of the operation.
+ */
+@FunctionalInterface
+public interface ProbableEventListener {
+
+  /**
+   * @param type     the type of the event, which also identifies the operation.
+   * @param probable the Probable the event is about. See the documentation of each {@link ProbableEventType}.
+   */
+  void onEvent(ProbableEventType type, Probable<?> probable);
+
+}
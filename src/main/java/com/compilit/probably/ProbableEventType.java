@@ -0,0 +1,94 @@
+package com.compilit.probably;
+
+/**
+ * The types of events that Probables publish to the registered {@link ProbableEventListener}s.
+ */
+public enum ProbableEventType {
+
+  /**
+   * map() was applied to a Probable.Value. The event carries the resulting Probable.
+   */
+  MAP_APPLIED("map", Messages.MAP_APPLIED),
+  /**
+   * map() was not applied, because there was no value or the mapping function threw an Exception. The event carries
+   * the original Probable.
+   */
+  MAP_NOT_APPLIED("map", Messages.MAP_NOT_APPLIED),
+  /**
+   * flatMap() was applied to a Probable.Value. The event carries the resulting Probable.
+   */
+  FLATMAP_APPLIED("flatMap", Messages.FLATMAP_APPLIED),
+  /**
+   * flatMap() was not applied, because there was no value or the mapping function threw an Exception. The event carries
+   * the original Probable.
+   */
+  FLATMAP_NOT_APPLIED("flatMap", Messages.FLATMAP_NOT_APPLIED),
+  /**
+   * The value passed the predicate of test(). The event carries the tested Probable.
+   */
+  TEST_PASSED("test", Messages.TEST_PASSED),
+  /**
+   * The value did not pass the predicate of test(). The event carries the resulting Probable.Failure.
+   */
+  TEST_FAILED("test", Messages.TEST_FAILED),
+  /**
+   * The predicate of test() threw an Exception. The event carries the tested Probable.
+   */
+  TEST_CALL_FAILED("test", Messages.TEST_CALL_FAILED),
+  /**
+   * The consumer of thenAccept() is about to be called. The event carries the Probable.
+   */
+  ACCEPT_SUCCESSFUL("thenAccept", Messages.ACCEPT_SUCCESSFUL),
+  /**
+   * The consumer of thenAccept() threw an Exception. The event carries the original Probable.
+   */
+  ACCEPT_FAILED("thenAccept", Messages.ACCEPT_FAILED),
+  /**
+   * The runnable of thenRun() was called. The event carries the Probable.
+   */
+  RUN_CALLED("thenRun", Messages.RUN_CALLED),
+  /**
+   * The runnable of thenRun() threw an Exception. The event carries the original Probable.
+   */
+  RUN_NOT_CALLED("thenRun", Messages.RUN_NOT_CALLED),
+  /**
+   * stream() returned a Stream of the value. The event carries the Probable.
+   */
+  TRANSFORMED_INTO_STREAM("stream", Messages.TRANSFORMED_INTO_STREAM),
+  /**
+   * stream() returned an empty Stream. The event carries the Probable.
+   */
+  TRANSFORMED_INTO_EMPTY_STREAM("stream", Messages.TRANSFORMED_INTO_EMPTY_STREAM),
+  /**
+   * A {@link ProbablePipeline} was applied. The event carries the resulting Probable.
+   */
+  PIPELINE_APPLIED("pipeline", Messages.PIPELINE_APPLIED),
+  /**
+   * An attempt of {@link Probable#retry(java.util.function.Supplier, RetryPolicy)} failed and will be retried. The
+   * event carries the failed attempt.
+   */
+  RETRYING("retry", Messages.RETRYING);
+
+  private final String operation;
+  private final String description;
+
+  ProbableEventType(String operation, String description) {
+    this.operation = operation;
+    this.description = description;
+  }
+
+  /**
+   * @return the name of the operation that published the event, for example "map".
+   */
+  public String getOperation() {
+    return operation;
+  }
+
+  /**
+   * @return a short, human-readable description of the event.
+   */
+  public String getDescription() {
+    return description;
+  }
+
+}
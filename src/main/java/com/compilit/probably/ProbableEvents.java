@@ -0,0 +1,109 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+import static com.compilit.probably.Probable.LOGGER;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The registry of {@link ProbableEventListener}s. By default, a single listener is registered that logs every event on
+ * the DEBUG level of the {@code Probable} logger (see {@link #loggingListener()}). Start the JVM with
+ * {@code -Dprobably.events.logging=false} to start without it, or remove it at runtime.
+ * <p>
+ * When no listener is registered, publishing an event costs a single check of a value that the JIT compiler treats as
+ * a constant, so the check and the event are removed from the compiled code altogether. Adding the first or removing
+ * the last listener makes the JIT compiler recompile the affected code.
+ * </p>
+ */
+public final class ProbableEvents {
+
+  private static final ProbableEventListener[] NO_LISTENERS = new ProbableEventListener[0];
+  private static final ProbableEventListener LOGGING_LISTENER = (type, probable) ->
+    ProbableLogger.logDebugEvent(probable, type.getDescription());
+  private static final MutableCallSite ENABLED_SITE = ProbableSwitch.create(false);
+  private static final MethodHandle ENABLED = ENABLED_SITE.dynamicInvoker();
+  private static volatile ProbableEventListener[] listeners = NO_LISTENERS;
+
+  static {
+    if (Boolean.parseBoolean(System.getProperty("probably.events.logging", "true"))) {
+      addListener(LOGGING_LISTENER);
+    }
+  }
+
+  private ProbableEvents() {
+  }
+
+  /**
+   * @param listener the listener that receives all events from now on.
+   * @throws NullPointerException if the listener is {@code null}
+   */
+  public static synchronized void addListener(ProbableEventListener listener) {
+    Objects.requireNonNull(listener, () -> paramRequired("listener"));
+    var current = listeners;
+    var updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = listener;
+    update(updated);
+  }
+
+  /**
+   * @param listener the listener that should no longer receive events.
+   */
+  public static synchronized void removeListener(ProbableEventListener listener) {
+    var current = listeners;
+    for (int i = 0; i < current.length; i++) {
+      if (current[i] == listener) {
+        var updated = new ProbableEventListener[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, i);
+        System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+        update(updated);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Remove all listeners, including the logging listener.
+   */
+  public static synchronized void clearListeners() {
+    update(NO_LISTENERS);
+  }
+
+  /**
+   * @return the listener that logs every event on the DEBUG level of the {@code Probable} logger.
+   */
+  public static ProbableEventListener loggingListener() {
+    return LOGGING_LISTENER;
+  }
+
+  /**
+   * @return true if at least one listener is registered.
+   */
+  public static boolean hasListeners() {
+    return ProbableSwitch.isOn(ENABLED);
+  }
+
+  static void publish(ProbableEventType type, Probable<?> probable) {
+    if (ProbableSwitch.isOn(ENABLED)) {
+      dispatch(type, probable);
+    }
+  }
+
+  private static void dispatch(ProbableEventType type, Probable<?> probable) {
+    for (var listener : listeners) {
+      try {
+        listener.onEvent(type, probable);
+      } catch (RuntimeException e) {
+        LOGGER.warn(Messages.exceptionWasThrown(e), e);
+      }
+    }
+  }
+
+  private static void update(ProbableEventListener[] updated) {
+    listeners = updated;
+    ProbableSwitch.set(ENABLED_SITE, updated.length > 0);
+  }
+
+}
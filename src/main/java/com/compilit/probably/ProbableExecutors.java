@@ -0,0 +1,60 @@
+package com.compilit.probably;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class ProbableExecutors {
+
+  private static final MethodHandle VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+  private ProbableExecutors() {
+  }
+
+  /**
+   * @return a shared executor that starts a new (virtual, if supported) thread for every task. It is never shut down.
+   */
+  static ExecutorService sharedThreadPerTaskExecutor() {
+    return SharedExecutor.INSTANCE;
+  }
+
+  /**
+   * @return an executor that starts a new thread for every task. On runtimes that support virtual threads (Java 21+)
+   * these are virtual threads, otherwise they are pooled daemon platform threads.
+   */
+  static ExecutorService newThreadPerTaskExecutor() {
+    if (VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+      try {
+        return (ExecutorService) VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+      } catch (Throwable ignored) {
+        // fall back to platform threads
+      }
+    }
+    return Executors.newCachedThreadPool(runnable -> {
+      var thread = new Thread(runnable, "probable-" + THREAD_COUNTER.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static MethodHandle findVirtualThreadPerTaskExecutor() {
+    try {
+      return MethodHandles.publicLookup().findStatic(
+        Executors.class,
+        "newVirtualThreadPerTaskExecutor",
+        MethodType.methodType(ExecutorService.class)
+      );
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  private static final class SharedExecutor {
+    private static final ExecutorService INSTANCE = newThreadPerTaskExecutor();
+  }
+
+}
@@ -0,0 +1,154 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+final class ProbableFanOut<T> {
+
+  private final List<Supplier<? extends T>> suppliers;
+  private final Duration timeout;
+  private final boolean failFast;
+  private final AtomicReferenceArray<Probable<T>> results;
+  private final AtomicReference<Probable<T>> firstFailure = new AtomicReference<>();
+  private final AtomicInteger remaining;
+  private final CountDownLatch finished = new CountDownLatch(1);
+  private final Semaphore permits;
+
+  private ProbableFanOut(Collection<? extends Supplier<? extends T>> suppliers,
+                         int maxConcurrency,
+                         Duration timeout,
+                         boolean failFast) {
+    this.suppliers = new ArrayList<>(suppliers);
+    this.timeout = timeout;
+    this.failFast = failFast;
+    this.results = new AtomicReferenceArray<>(this.suppliers.size());
+    this.remaining = new AtomicInteger(this.suppliers.size());
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  static <T> Probable<List<T>> all(Collection<? extends Supplier<? extends T>> suppliers,
+                                   int maxConcurrency,
+                                   Duration timeout) {
+    if (maxConcurrency < 1) {
+      return Probable.failure(Messages.INVALID_CONCURRENCY, maxConcurrency);
+    }
+    var fanOut = new ProbableFanOut<T>(suppliers, maxConcurrency, timeout, true);
+    var outcome = fanOut.run();
+    if (outcome != null) {
+      return (Probable<List<T>>) (Probable<?>) outcome;
+    }
+    var values = new Object[fanOut.suppliers.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = fanOut.results.get(i).get();
+    }
+    return Probable.of(Collections.unmodifiableList(Arrays.asList((T[]) values)));
+  }
+
+  static <T> List<Probable<T>> allSettled(Collection<? extends Supplier<? extends T>> suppliers,
+                                          int maxConcurrency,
+                                          Duration timeout) {
+    if (maxConcurrency < 1) {
+      return Collections.nCopies(suppliers.size(), Probable.failure(Messages.INVALID_CONCURRENCY, maxConcurrency));
+    }
+    var fanOut = new ProbableFanOut<T>(suppliers, maxConcurrency, timeout, false);
+    fanOut.run();
+    var settled = new ArrayList<Probable<T>>(fanOut.suppliers.size());
+    for (int i = 0; i < fanOut.suppliers.size(); i++) {
+      settled.add(fanOut.results.get(i));
+    }
+    return Collections.unmodifiableList(settled);
+  }
+
+  /**
+   * @return {@code null} if all suppliers completed, the first Probable.Failure in fail-fast mode, or a
+   * Probable.Failure describing why the remaining suppliers did not complete.
+   */
+  private Probable<T> run() {
+    if (suppliers.isEmpty()) {
+      return null;
+    }
+    var deadline = System.nanoTime() + toNanos(timeout);
+    var futures = new ArrayList<Future<?>>(suppliers.size());
+    var executor = ProbableExecutors.newThreadPerTaskExecutor();
+    try {
+      for (int i = 0; i < suppliers.size() && firstFailure.get() == null; i++) {
+        if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          return abort(timedOut());
+        }
+        var index = i;
+        futures.add(executor.submit(() -> runSupplier(index)));
+      }
+      if (!finished.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        return abort(timedOut());
+      }
+      return firstFailure.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return abort(Probable.failure(e, exceptionWasThrown(e)));
+    } finally {
+      for (var future : futures) {
+        future.cancel(true);
+      }
+      executor.shutdownNow();
+    }
+  }
+
+  private void runSupplier(int index) {
+    try {
+      var result = Probable.<T>of(() -> suppliers.get(index).get());
+      if (!results.compareAndSet(index, null, result)) {
+        return;
+      }
+      if (failFast && result.hasFailed() && firstFailure.compareAndSet(null, result)) {
+        finished.countDown();
+      }
+    } finally {
+      permits.release();
+      if (remaining.decrementAndGet() == 0) {
+        finished.countDown();
+      }
+    }
+  }
+
+  /**
+   * Give every supplier that has not completed yet the given outcome. Suppliers that complete afterwards, for example
+   * because they ignore the interrupt of their cancellation, can no longer change their outcome.
+   */
+  private Probable<T> abort(Probable<T> outcome) {
+    for (int i = 0; i < results.length(); i++) {
+      results.compareAndSet(i, null, outcome);
+    }
+    return outcome;
+  }
+
+  private Probable<T> timedOut() {
+    var failure = firstFailure.get();
+    if (failure != null) {
+      return failure;
+    }
+    return Probable.failure(Messages.DEADLINE_PASSED, timeout);
+  }
+
+  private static long toNanos(Duration timeout) {
+    try {
+      return timeout.toNanos();
+    } catch (ArithmeticException e) {
+      return timeout.isNegative() ? 0 : Long.MAX_VALUE;
+    }
+  }
+
+}
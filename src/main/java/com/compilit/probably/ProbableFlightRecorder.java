@@ -0,0 +1,179 @@
+package com.compilit.probably;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The JDK Flight Recorder events of Probably. While no recording has the events enabled, creating an event is removed
+ * by the JIT compiler and only a single check remains. Messages are only formatted for events that are committed.
+ * <p>
+ * The event classes are only loaded through {@link Events}, and only if the {@code jdk.jfr} module is present, so
+ * Probables also work on runtime images without it. The availability check is a constant, which the JIT compiler folds
+ * away.
+ * </p>
+ */
+final class ProbableFlightRecorder {
+
+  static final String CATEGORY = "Probably";
+
+  private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+  private ProbableFlightRecorder() {
+  }
+
+  /**
+   * @return the started event, to pass to {@link #supplierCompleted(Object, Probable)}, or {@code null} if Flight
+   * Recorder is not available.
+   */
+  static Object supplierStarted() {
+    return AVAILABLE ? Events.supplierStarted() : null;
+  }
+
+  static void supplierCompleted(Object event, Probable<?> outcome) {
+    if (AVAILABLE && event != null) {
+      Events.supplierCompleted(event, outcome);
+    }
+  }
+
+  static void exceptionCaught(ProbableEventType type, Exception exception) {
+    if (AVAILABLE) {
+      Events.exceptionCaught(type, exception);
+    }
+  }
+
+  static void failureCreated(Probable<?> failure) {
+    if (AVAILABLE) {
+      Events.failureCreated(failure);
+    }
+  }
+
+  /**
+   * Holds everything that refers to {@code jdk.jfr}. Its signatures only use Probably and JDK base types, so calling it
+   * does not load any {@code jdk.jfr} class until it actually runs.
+   */
+  static final class Events {
+
+    private Events() {
+    }
+
+    static Object supplierStarted() {
+      var event = new SupplierEvent();
+      event.begin();
+      return event;
+    }
+
+    static void supplierCompleted(Object started, Probable<?> outcome) {
+      var event = (SupplierEvent) started;
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = ProbableOperation.OF.name();
+        event.outcome = ProbableOutcome.of(outcome).name();
+        event.message = outcome.getMessage();
+        event.exceptionClass = exceptionClass(outcome);
+        event.commit();
+      }
+    }
+
+    static void exceptionCaught(ProbableEventType type, Exception exception) {
+      var event = new ExceptionCaughtEvent();
+      if (event.shouldCommit()) {
+        event.operation = type.getOperation();
+        event.outcome = ProbableOutcome.FAILURE.name();
+        event.message = exception.getMessage();
+        event.exceptionClass = exception.getClass();
+        event.commit();
+      }
+    }
+
+    static void failureCreated(Probable<?> failure) {
+      var event = new FailureEvent();
+      if (event.shouldCommit()) {
+        event.outcome = ProbableOutcome.FAILURE.name();
+        event.message = failure.getMessage();
+        event.exceptionClass = exceptionClass(failure);
+        var failureCode = failure.getFailureCode();
+        event.failureCode = failureCode == null ? null : failureCode.toString();
+        event.commit();
+      }
+    }
+
+    private static Class<?> exceptionClass(Probable<?> probable) {
+      var exception = probable.getException();
+      return exception == null ? null : exception.getClass();
+    }
+  }
+
+  @Name("com.compilit.probably.Supplier")
+  @Label("Probable Supplier")
+  @Description("A supplier passed to Probable.of(Supplier) completed. "
+    + "Only suppliers that take longer than the threshold are recorded.")
+  @Category(CATEGORY)
+  @Threshold("10 ms")
+  static final class SupplierEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Message")
+    String message;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+  }
+
+  @Name("com.compilit.probably.ExceptionCaught")
+  @Label("Probable Exception Caught")
+  @Description("A function passed to a Probable operation threw an Exception, "
+    + "which was turned into a Probable.Failure.")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class ExceptionCaughtEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Message")
+    String message;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+  }
+
+  /**
+   * Disabled by default: it would format the message of, and walk the stack for, every single Failure in a continuous
+   * recording. Enable it, and its stack trace, in a recording that investigates failures.
+   */
+  @Name("com.compilit.probably.Failure")
+  @Label("Probable Failure")
+  @Description("A Probable.Failure was created. Enable the stack trace to see where.")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class FailureEvent extends Event {
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Message")
+    String message;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Failure Code")
+    String failureCode;
+  }
+
+}
@@ -0,0 +1,310 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@code ProbableInt} is the {@code int} specialization of a {@code Probable}, comparable to how an
+ * {@code OptionalInt} relates to an {@code Optional}. It has the same three possible outcomes: a value, nothing,
+ * or a failure with a message and possibly an Exception or {@link FailureCode}. The value is never boxed, which makes
+ * it suitable for numeric hot paths. Use {@link #mapToObj(IntFunction)} or {@link #boxed()} to continue with a regular
+ * {@code Probable}, and {@link Probable#mapToInt(java.util.function.ToIntFunction)} to get here from one.
+ * <p>
+ * Contrary to a {@code Probable}, operations on a {@code ProbableInt} do not log debug events.
+ * </p>
+ */
+public final class ProbableInt extends ProbablePrimitive {
+
+  private static final ProbableInt NOTHING = new ProbableInt(0, Probable.nothing());
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 127;
+  private static final ProbableInt[] CACHE = new ProbableInt[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ProbableInt(i + CACHE_LOW, null);
+    }
+  }
+
+  private final int value;
+
+  /**
+   * @param value the value, only relevant if empty is {@code null}.
+   * @param empty the Probable.Nothing or Probable.Failure that describes why there is no value, or {@code null}.
+   */
+  private ProbableInt(int value, Probable<?> empty) {
+    super(empty);
+    this.value = value;
+  }
+
+  /**
+   * Wrap a value. Small values are wrapped in shared instances.
+   *
+   * @param value the value.
+   * @return a ProbableInt with the value.
+   */
+  public static ProbableInt of(int value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[value - CACHE_LOW];
+    }
+    return new ProbableInt(value, null);
+  }
+
+  /**
+   * Wrap a supplying process. If the supplier throws an Exception, a failed ProbableInt is returned.
+   *
+   * @param supplier the value-supplying function.
+   * @return a ProbableInt with the supplied value, or a failed ProbableInt.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public static ProbableInt of(IntSupplier supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    try {
+      return of(supplier.getAsInt());
+    } catch (Exception e) {
+      return new ProbableInt(0, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * @return the shared empty ProbableInt with the default message.
+   */
+  public static ProbableInt nothing() {
+    return NOTHING;
+  }
+
+  /**
+   * @param message         the message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return an empty ProbableInt with a message.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableInt nothing(String message, Object... formatArguments) {
+    return new ProbableInt(0, Probable.nothing(message, formatArguments));
+  }
+
+  /**
+   * @param message         the error message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableInt.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableInt failure(String message, Object... formatArguments) {
+    return new ProbableInt(0, Probable.failure(message, formatArguments));
+  }
+
+  /**
+   * @param exception       the exception that was encountered.
+   * @param message         the error message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableInt.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableInt failure(Exception exception, String message, Object... formatArguments) {
+    return new ProbableInt(0, Probable.failure(exception, message, formatArguments));
+  }
+
+  /**
+   * @param failureCode     the code that identifies the failure.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableInt.
+   * @throws NullPointerException if the failureCode is {@code null}
+   */
+  public static ProbableInt failure(FailureCode failureCode, Object... formatArguments) {
+    return new ProbableInt(0, Probable.failure(failureCode, formatArguments));
+  }
+
+  /**
+   * @param probable a Probable.Nothing or Probable.Failure.
+   * @return a ProbableInt without value that shares the message and failure details of the given Probable.
+   */
+  static ProbableInt empty(Probable<?> probable) {
+    if (probable.hasFailed()) {
+      return new ProbableInt(0, probable);
+    }
+    return NOTHING;
+  }
+
+  /**
+   * Returns the value. Since a primitive cannot be {@code null}, this returns {@code 0} if there is no value, so
+   * check {@link #hasValue()} first, or use {@link #orElse(int)}.
+   *
+   * @return the value, or {@code 0} if there is none.
+   */
+  public int getAsInt() {
+    return value;
+  }
+
+  /**
+   * @param other the value you wish to return in case this ProbableInt does not have any.
+   * @return the value, or the other value.
+   */
+  public int orElse(int other) {
+    return hasValue() ? value : other;
+  }
+
+  /**
+   * If a value is present, apply the mapping function to it.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @return a ProbableInt with the new value, this ProbableInt if there is no value, or a failed ProbableInt if the
+   * mapping function throws an Exception.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public ProbableInt map(IntUnaryOperator mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return of(mappingFunction.applyAsInt(value));
+    } catch (Exception e) {
+      return new ProbableInt(0, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * If a value is present, apply the mapping function to it and continue with a regular Probable. Otherwise, the
+   * Probable.Nothing or Probable.Failure that this ProbableInt holds is returned.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return the resulting Probable
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> Probable<R> mapToObj(IntFunction<? extends R> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return emptyProbable();
+    }
+    try {
+      return Probable.of(mappingFunction.apply(value));
+    } catch (Exception e) {
+      return Probable.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  /**
+   * @return a regular Probable with the boxed value, or the Probable.Nothing or Probable.Failure of this ProbableInt.
+   */
+  public Probable<Integer> boxed() {
+    if (!hasValue()) {
+      return emptyProbable();
+    }
+    return Probable.of(value);
+  }
+
+  /**
+   * Validate the value, but only if there is one.
+   *
+   * @param predicate the validation you wish to perform on the value
+   * @return this ProbableInt if it complies with the predicate or has no value, otherwise a failed ProbableInt.
+   * @throws NullPointerException if the predicate is {@code null}
+   */
+  public ProbableInt test(IntPredicate predicate) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return predicate.test(value) ? this : failure(Messages.FAILED_PREDICATE, value);
+    } catch (Exception e) {
+      return new ProbableInt(0, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * Validate the value, but only if there is one.
+   *
+   * @param predicate      the validation you wish to perform on the value
+   * @param failureMessage the message you wish to pass in case the predicate resolves to false
+   * @return this ProbableInt if it complies with the predicate or has no value, otherwise a failed ProbableInt.
+   * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
+   */
+  public ProbableInt test(IntPredicate predicate, String failureMessage) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return predicate.test(value) ? this : failure(failureMessage);
+    } catch (Exception e) {
+      return new ProbableInt(0, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * If a value is present, performs the given consumer with the value, otherwise does nothing.
+   *
+   * @param consumer the consumer to be performed, if a value is present
+   * @return this ProbableInt, or a failed ProbableInt if the consumer throws an Exception.
+   * @throws NullPointerException if the consumer is {@code null}
+   */
+  public ProbableInt thenAccept(IntConsumer consumer) {
+    Objects.requireNonNull(consumer, () -> paramRequired("consumer"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      consumer.accept(value);
+      return this;
+    } catch (Exception e) {
+      return new ProbableInt(0, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * @param supplier the supplier of the alternative ProbableInt.
+   * @return this ProbableInt if it has a value, otherwise the supplied ProbableInt.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public ProbableInt or(Supplier<ProbableInt> supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    return hasValue() ? this : supplier.get();
+  }
+
+  /**
+   * @param obj the other object.
+   * @return true if both are ProbableInts with equal values, or both have no value.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof ProbableInt) {
+      var other = (ProbableInt) obj;
+      if (hasValue() && other.hasValue()) {
+        return Integer.compare(value, other.value) == 0;
+      }
+      return !hasValue() && !other.hasValue();
+    }
+    return false;
+  }
+
+  /**
+   * @return the hashcode of the value, otherwise 0.
+   */
+  @Override
+  public int hashCode() {
+    return hasValue() ? Integer.hashCode(value) : 0;
+  }
+
+  /**
+   * @return the String value of the value, or "null" if there is none.
+   */
+  @Override
+  public String toString() {
+    return hasValue() ? String.valueOf(value) : String.valueOf((Object) null);
+  }
+
+}
@@ -0,0 +1,493 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Writes Probables as JSON envelopes, and reads them back, without reflection or a JSON library. Every Probable is
+ * written as an object with its outcome and message, the value written by the {@link ProbableJsonValueCodec}, and only
+ * the failure details it has:
+ * <pre>{@code
+ * {"outcome":"VALUE","value":"order 1","message":"Nothing to report"}
+ * {"outcome":"FAILURE","message":"out of stock","exception":{"className":"java.lang.IllegalStateException",
+ *  "message":"out of stock"},"failureCode":{"code":7,"messageTemplate":"out of stock"}}
+ * }</pre>
+ * Violations are written as a {@code "violations"} array of objects with a message and an optional failure code. The
+ * envelopes are written straight into an {@link Appendable} (like a {@link StringBuilder} or {@link Writer}) or, as
+ * UTF-8, into an {@link OutputStream}. A {@link Stream} of Probables is written as newline delimited JSON (one envelope
+ * per line) while it is consumed, and read back lazily, line by line, so neither side holds the whole stream in memory:
+ * <pre>{@code
+ * ProbableJson<String> json = ProbableJson.of(ProbableJsonValueCodec.strings());
+ * json.writeStream(orders.stream().map(this::process), response.getOutputStream());
+ * try (Stream<Probable<String>> results = json.readStream(reader)) { ... }
+ * }</pre>
+ * As with the {@link ProbableCodec}, a decoded Exception is a {@link ProbableCodec.DecodedException} and decoded
+ * FailureCodes are looked up in the codes passed to {@link #withFailureCodes(FailureCode...)}.
+ * <p>
+ * Writing and reading never throw, except for {@code null} arguments: if the output or input throws an IOException,
+ * the value codec throws or the input is malformed, a Probable.Failure is returned. What was already written to the
+ * output stays there. Instances are immutable and can be shared between threads.
+ * </p>
+ *
+ * @param <T> the type of the values.
+ */
+public final class ProbableJson<T> {
+
+  private static final String OUTCOME = "outcome";
+  private static final String VALUE = "value";
+  private static final String MESSAGE = "message";
+  private static final String EXCEPTION = "exception";
+  private static final String CLASS_NAME = "className";
+  private static final String FAILURE_CODE = "failureCode";
+  private static final String CODE = "code";
+  private static final String MESSAGE_TEMPLATE = "messageTemplate";
+  private static final String VIOLATIONS = "violations";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final ProbableJsonValueCodec<T> valueCodec;
+  private final Map<Integer, FailureCode> failureCodes;
+
+  private ProbableJson(ProbableJsonValueCodec<T> valueCodec, Map<Integer, FailureCode> failureCodes) {
+    this.valueCodec = valueCodec;
+    this.failureCodes = failureCodes;
+  }
+
+  /**
+   * @param valueCodec the codec for the values of Probable.Values.
+   * @param <T>        the type of the values.
+   * @return a new ProbableJson.
+   * @throws NullPointerException if the valueCodec is {@code null}
+   */
+  public static <T> ProbableJson<T> of(ProbableJsonValueCodec<T> valueCodec) {
+    Objects.requireNonNull(valueCodec, () -> paramRequired("valueCodec"));
+    return new ProbableJson<>(valueCodec, Map.of());
+  }
+
+  /**
+   * @param failureCodes the codes to decode FailureCodes into, typically the {@code values()} of an enum. A code that
+   *                     is not among them is decoded into a code created by {@link FailureCode#of(int, String)}.
+   * @return a new ProbableJson that also decodes the given codes.
+   * @throws NullPointerException if the failureCodes or any of them is {@code null}
+   */
+  public ProbableJson<T> withFailureCodes(FailureCode... failureCodes) {
+    Objects.requireNonNull(failureCodes, () -> paramRequired("failureCodes"));
+    var codes = new HashMap<>(this.failureCodes);
+    for (var failureCode : failureCodes) {
+      Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+      codes.put(failureCode.getCode(), failureCode);
+    }
+    return new ProbableJson<>(valueCodec, Map.copyOf(codes));
+  }
+
+  /**
+   * @param probable the Probable to write.
+   * @return a Probable.Value with the JSON envelope, or a Probable.Failure if the value codec threw an Exception.
+   * @throws NullPointerException if the probable is {@code null}
+   */
+  public Probable<String> toJson(Probable<? extends T> probable) {
+    Objects.requireNonNull(probable, () -> paramRequired("probable"));
+    var json = new StringBuilder();
+    try {
+      writeEnvelope(probable, json);
+      return Probable.value(json.toString());
+    } catch (IOException | RuntimeException exception) {
+      return notWritten(exception);
+    }
+  }
+
+  /**
+   * @param probable the Probable to write.
+   * @param json     the output to append the JSON envelope to.
+   * @return an empty Probable if the envelope was written, or a Probable.Failure if it was not.
+   * @throws NullPointerException if the probable or the output is {@code null}
+   */
+  public Probable<Void> write(Probable<? extends T> probable, Appendable json) {
+    Objects.requireNonNull(probable, () -> paramRequired("probable"));
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    try {
+      writeEnvelope(probable, json);
+      return Probable.nothing();
+    } catch (IOException | RuntimeException exception) {
+      return notWritten(exception);
+    }
+  }
+
+  /**
+   * @param probable the Probable to write.
+   * @param json     the output to write the JSON envelope to, as UTF-8. It is flushed, but not closed.
+   * @return an empty Probable if the envelope was written, or a Probable.Failure if it was not.
+   * @throws NullPointerException if the probable or the output is {@code null}
+   */
+  public Probable<Void> write(Probable<? extends T> probable, OutputStream json) {
+    Objects.requireNonNull(probable, () -> paramRequired("probable"));
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    var writer = writerOf(json);
+    try {
+      writeEnvelope(probable, writer);
+      writer.flush();
+      return Probable.nothing();
+    } catch (IOException | RuntimeException exception) {
+      return notWritten(exception);
+    }
+  }
+
+  /**
+   * Write a Stream of Probables as newline delimited JSON, consuming the stream in encounter order. Writing stops at
+   * the first envelope that cannot be written.
+   *
+   * @param probables the Probables to write.
+   * @param json      the output to append the envelopes to.
+   * @return a Probable.Value with the number of envelopes written, or a Probable.Failure if not all of them were.
+   * @throws NullPointerException if the stream, any of its Probables, or the output is {@code null}
+   */
+  public Probable<Long> writeStream(Stream<? extends Probable<? extends T>> probables, Appendable json) {
+    Objects.requireNonNull(probables, () -> paramRequired("probables"));
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    var count = 0L;
+    var iterator = probables.iterator();
+    while (iterator.hasNext()) {
+      var probable = Objects.requireNonNull(iterator.next(), () -> paramRequired("probable"));
+      try {
+        writeEnvelope(probable, json);
+        json.append('\n');
+      } catch (IOException | RuntimeException exception) {
+        return notWritten(exception);
+      }
+      count++;
+    }
+    return Probable.value(count);
+  }
+
+  /**
+   * Write a Stream of Probables as newline delimited JSON, consuming the stream in encounter order. Writing stops at
+   * the first envelope that cannot be written.
+   *
+   * @param probables the Probables to write.
+   * @param json      the output to write the envelopes to, as UTF-8. It is flushed, but not closed.
+   * @return a Probable.Value with the number of envelopes written, or a Probable.Failure if not all of them were.
+   * @throws NullPointerException if the stream, any of its Probables, or the output is {@code null}
+   */
+  public Probable<Long> writeStream(Stream<? extends Probable<? extends T>> probables, OutputStream json) {
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    var writer = writerOf(json);
+    var written = writeStream(probables, writer);
+    try {
+      writer.flush();
+      return written;
+    } catch (IOException exception) {
+      return notWritten(exception);
+    }
+  }
+
+  /**
+   * @param json the JSON envelope.
+   * @return a Probable.Value with the decoded Probable, or a Probable.Failure if the JSON is not a valid envelope.
+   * @throws NullPointerException if the json is {@code null}
+   */
+  public Probable<Probable<T>> fromJson(String json) {
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    try {
+      return Probable.value(parse(json));
+    } catch (IOException | RuntimeException exception) {
+      return notRead(exception);
+    }
+  }
+
+  /**
+   * Read a single JSON envelope. The reader is read one character at a time, up to the end of the envelope, so that
+   * whatever follows it can still be read; wrap it in a {@link BufferedReader} if it is not buffered.
+   *
+   * @param json the input to read from. It is not closed.
+   * @return a Probable.Value with the decoded Probable, or a Probable.Failure if no valid envelope could be read.
+   * @throws NullPointerException if the reader is {@code null}
+   */
+  public Probable<Probable<T>> read(Reader json) {
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    try {
+      return Probable.value(toProbable(new ProbableJsonParser(json).readValue()));
+    } catch (IOException | RuntimeException exception) {
+      return notRead(exception);
+    }
+  }
+
+  /**
+   * Lazily read newline delimited JSON envelopes, one line at a time. Blank lines are skipped. A line that is not a
+   * valid envelope is returned as a Probable.Failure, after which reading continues with the next line; if the input
+   * throws an IOException, it is returned as a Probable.Failure and the stream ends. Closing the stream closes the
+   * reader.
+   *
+   * @param json the input to read from.
+   * @return a sequential Stream of the decoded Probables.
+   * @throws NullPointerException if the reader is {@code null}
+   */
+  public Stream<Probable<T>> readStream(Reader json) {
+    Objects.requireNonNull(json, () -> paramRequired("json"));
+    var lines = json instanceof BufferedReader ? (BufferedReader) json : new BufferedReader(json);
+    var envelopes = new Spliterators.AbstractSpliterator<Probable<T>>(Long.MAX_VALUE, Spliterator.ORDERED) {
+      private boolean ended;
+
+      @Override
+      public boolean tryAdvance(Consumer<? super Probable<T>> action) {
+        if (ended) {
+          return false;
+        }
+        try {
+          var line = lines.readLine();
+          while (line != null && line.isBlank()) {
+            line = lines.readLine();
+          }
+          if (line == null) {
+            ended = true;
+            return false;
+          }
+          action.accept(readLine(line));
+        } catch (IOException exception) {
+          ended = true;
+          action.accept(notRead(exception));
+        }
+        return true;
+      }
+    };
+    return StreamSupport.stream(envelopes, false).onClose(() -> {
+      try {
+        lines.close();
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    });
+  }
+
+  /**
+   * Write a String as a JSON string, with quotes and escapes. Meant for {@link ProbableJsonValueCodec}s.
+   *
+   * @param value the String to write.
+   * @param json  the output to append to.
+   * @throws IOException          if the output throws it
+   * @throws NullPointerException if the value or the output is {@code null}
+   */
+  public static void writeString(CharSequence value, Appendable json) throws IOException {
+    Objects.requireNonNull(value, () -> paramRequired("value"));
+    json.append('"');
+    var start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == '"' || c == '\\' || c < 0x20) {
+        json.append(value, start, i);
+        writeEscaped(c, json);
+        start = i + 1;
+      }
+    }
+    json.append(value, start, value.length()).append('"');
+  }
+
+  private void writeEnvelope(Probable<? extends T> probable, Appendable json) throws IOException {
+    var outcome = ProbableOutcome.of(probable);
+    json.append("{\"").append(OUTCOME).append("\":\"").append(outcome.name()).append('"');
+    if (outcome == ProbableOutcome.VALUE) {
+      writeKey(VALUE, json);
+      valueCodec.write(probable.get(), json);
+    }
+    writeKey(MESSAGE, json);
+    writeString(probable.getMessage(), json);
+    var exception = probable.getException();
+    if (exception != null) {
+      writeKey(EXCEPTION, json);
+      json.append('{');
+      json.append('"').append(CLASS_NAME).append("\":");
+      writeString(ProbableCodec.classNameOf(exception), json);
+      if (exception.getMessage() != null) {
+        writeKey(MESSAGE, json);
+        writeString(exception.getMessage(), json);
+      }
+      json.append('}');
+    }
+    if (probable.getFailureCode() != null) {
+      writeKey(FAILURE_CODE, json);
+      writeFailureCode(probable.getFailureCode(), json);
+    }
+    var violations = probable.getViolations();
+    if (!violations.isEmpty()) {
+      writeKey(VIOLATIONS, json);
+      json.append('[');
+      for (int i = 0; i < violations.size(); i++) {
+        if (i > 0) {
+          json.append(',');
+        }
+        var violation = violations.get(i);
+        json.append("{\"").append(MESSAGE).append("\":");
+        writeString(violation.getMessage(), json);
+        if (violation.getFailureCode() != null) {
+          writeKey(FAILURE_CODE, json);
+          writeFailureCode(violation.getFailureCode(), json);
+        }
+        json.append('}');
+      }
+      json.append(']');
+    }
+    json.append('}');
+  }
+
+  private static void writeFailureCode(FailureCode failureCode, Appendable json) throws IOException {
+    json.append("{\"").append(CODE).append("\":").append(Integer.toString(failureCode.getCode()));
+    writeKey(MESSAGE_TEMPLATE, json);
+    writeString(failureCode.getMessageTemplate(), json);
+    json.append('}');
+  }
+
+  private static void writeKey(String key, Appendable json) throws IOException {
+    json.append(",\"").append(key).append("\":");
+  }
+
+  private static void writeEscaped(char c, Appendable json) throws IOException {
+    switch (c) {
+      case '"':
+      case '\\':
+        json.append('\\').append(c);
+        break;
+      case '\n':
+        json.append("\\n");
+        break;
+      case '\r':
+        json.append("\\r");
+        break;
+      case '\t':
+        json.append("\\t");
+        break;
+      case '\b':
+        json.append("\\b");
+        break;
+      case '\f':
+        json.append("\\f");
+        break;
+      default:
+        json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+    }
+  }
+
+  private Probable<T> readLine(String line) {
+    try {
+      return parse(line);
+    } catch (IOException | RuntimeException exception) {
+      return notRead(exception);
+    }
+  }
+
+  private Probable<T> parse(String json) throws IOException {
+    var parser = new ProbableJsonParser(json);
+    var envelope = parser.readValue();
+    parser.expectEnd();
+    return toProbable(envelope);
+  }
+
+  private Probable<T> toProbable(Object json) {
+    if (!(json instanceof Map)) {
+      throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, OUTCOME));
+    }
+    var envelope = (Map<String, Object>) json;
+    var outcome = ProbableOutcome.valueOf(getString(envelope, OUTCOME, true));
+    var message = getString(envelope, MESSAGE, false);
+    switch (outcome) {
+      case VALUE:
+        var value = envelope.get(VALUE) == null ? null : valueCodec.read(envelope.get(VALUE));
+        if (value == null) {
+          throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, VALUE));
+        }
+        return message == null ? Probable.value(value) : Probable.value(value, message);
+      case NOTHING:
+        return message == null ? Probable.nothing() : Probable.nothing(message);
+      default:
+        Exception exception = null;
+        var exceptionJson = getObject(envelope, EXCEPTION);
+        if (exceptionJson != null) {
+          exception = new ProbableCodec.DecodedException(getString(exceptionJson, CLASS_NAME, true),
+                                                         getString(exceptionJson, MESSAGE, false));
+        }
+        var failureCode = getFailureCode(envelope);
+        var violations = List.<ProbableViolation>of();
+        var violationsJson = envelope.get(VIOLATIONS);
+        if (violationsJson != null) {
+          if (!(violationsJson instanceof List)) {
+            throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, VIOLATIONS));
+          }
+          var violationArray = new ProbableViolation[((List<?>) violationsJson).size()];
+          for (int i = 0; i < violationArray.length; i++) {
+            var violationJson = ((List<?>) violationsJson).get(i);
+            if (!(violationJson instanceof Map)) {
+              throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, VIOLATIONS));
+            }
+            var violation = (Map<String, Object>) violationJson;
+            violationArray[i] = new ProbableViolation(getString(violation, MESSAGE, true), getFailureCode(violation));
+          }
+          violations = List.of(violationArray);
+        }
+        return Probable.decodedFailure(message == null ? Messages.NOTHING_TO_REPORT : message,
+                                       exception,
+                                       failureCode,
+                                       violations);
+    }
+  }
+
+  private FailureCode getFailureCode(Map<String, Object> json) {
+    var failureCodeJson = getObject(json, FAILURE_CODE);
+    if (failureCodeJson == null) {
+      return null;
+    }
+    var code = failureCodeJson.get(CODE);
+    if (!(code instanceof Long)) {
+      throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, CODE));
+    }
+    var intCode = Math.toIntExact((Long) code);
+    var failureCode = failureCodes.get(intCode);
+    if (failureCode != null) {
+      return failureCode;
+    }
+    return FailureCode.of(intCode, getString(failureCodeJson, MESSAGE_TEMPLATE, true));
+  }
+
+  private static Map<String, Object> getObject(Map<String, Object> json, String key) {
+    var value = json.get(key);
+    if (value != null && !(value instanceof Map)) {
+      throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, key));
+    }
+    return (Map<String, Object>) value;
+  }
+
+  private static String getString(Map<String, Object> json, String key, boolean required) {
+    var value = json.get(key);
+    if ((value == null && required) || (value != null && !(value instanceof String))) {
+      throw new IllegalArgumentException(String.format(Messages.JSON_INVALID_FIELD, key));
+    }
+    return (String) value;
+  }
+
+  private static Writer writerOf(OutputStream json) {
+    return new BufferedWriter(new OutputStreamWriter(json, StandardCharsets.UTF_8));
+  }
+
+  private static <R> Probable<R> notWritten(Exception exception) {
+    return Probable.failure(exception, Messages.JSON_NOT_WRITTEN, Messages.exceptionWasThrown(exception));
+  }
+
+  private static <R> Probable<R> notRead(Exception exception) {
+    return Probable.failure(exception, Messages.JSON_NOT_READ, Messages.exceptionWasThrown(exception));
+  }
+
+}
@@ -0,0 +1,298 @@
+package com.compilit.probably;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A small recursive descent parser that reads JSON values from a Reader, one character at a time, into Strings, Longs,
+ * Doubles, Booleans, {@code null}, Lists and Maps. Numbers that do not fit in a Long or Double are read as BigIntegers
+ * or BigDecimals instead of losing precision.
+ */
+final class ProbableJsonParser {
+
+  static final int MAX_DEPTH = 64;
+
+  private static final int NONE = -2;
+
+  private final Reader reader;
+  private final String text;
+  private int peeked = NONE;
+  private int position;
+
+  ProbableJsonParser(Reader reader) {
+    this.reader = reader;
+    this.text = null;
+  }
+
+  /**
+   * Parse a String directly, without the per-character overhead of a Reader.
+   */
+  ProbableJsonParser(String text) {
+    this.reader = null;
+    this.text = text;
+  }
+
+  /**
+   * @return true if only whitespace is left.
+   */
+  boolean atEnd() throws IOException {
+    return skipWhitespace() == -1;
+  }
+
+  void expectEnd() throws IOException {
+    if (!atEnd()) {
+      throw unexpected(next());
+    }
+  }
+
+  Object readValue() throws IOException {
+    return readValue(0);
+  }
+
+  private Object readValue(int depth) throws IOException {
+    if (depth > MAX_DEPTH) {
+      throw new IllegalArgumentException(String.format(Messages.JSON_TOO_DEEP, MAX_DEPTH));
+    }
+    var c = skipWhitespace();
+    switch (c) {
+      case '{':
+        return readObject(depth);
+      case '[':
+        return readArray(depth);
+      case '"':
+        return readString();
+      case 't':
+        readLiteral("true");
+        return Boolean.TRUE;
+      case 'f':
+        readLiteral("false");
+        return Boolean.FALSE;
+      case 'n':
+        readLiteral("null");
+        return null;
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          return readNumber();
+        }
+        throw unexpected(next());
+    }
+  }
+
+  private Map<String, Object> readObject(int depth) throws IOException {
+    next();
+    var object = new HashMap<String, Object>();
+    if (skipWhitespace() == '}') {
+      next();
+      return object;
+    }
+    while (true) {
+      if (skipWhitespace() != '"') {
+        throw unexpected(next());
+      }
+      var key = readString();
+      expect(':');
+      object.put(key, readValue(depth + 1));
+      var c = skipWhitespace();
+      next();
+      if (c == '}') {
+        return object;
+      }
+      if (c != ',') {
+        throw unexpected(c);
+      }
+    }
+  }
+
+  private List<Object> readArray(int depth) throws IOException {
+    next();
+    var array = new ArrayList<>();
+    if (skipWhitespace() == ']') {
+      next();
+      return array;
+    }
+    while (true) {
+      array.add(readValue(depth + 1));
+      var c = skipWhitespace();
+      next();
+      if (c == ']') {
+        return array;
+      }
+      if (c != ',') {
+        throw unexpected(c);
+      }
+    }
+  }
+
+  private String readString() throws IOException {
+    next();
+    var string = new StringBuilder();
+    while (true) {
+      var c = next();
+      if (c == '"') {
+        return string.toString();
+      }
+      if (c == -1 || c < 0x20) {
+        throw unexpected(c);
+      }
+      if (c == '\\') {
+        string.append(readEscaped());
+      } else {
+        string.append((char) c);
+      }
+    }
+  }
+
+  private char readEscaped() throws IOException {
+    var c = next();
+    switch (c) {
+      case '"':
+      case '\\':
+      case '/':
+        return (char) c;
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        var code = 0;
+        for (int i = 0; i < 4; i++) {
+          var hex = next();
+          var digit = Character.digit(hex, 16);
+          if (digit < 0) {
+            throw unexpected(hex);
+          }
+          code = (code << 4) | digit;
+        }
+        return (char) code;
+      default:
+        throw unexpected(c);
+    }
+  }
+
+  /**
+   * Read a number following the grammar of RFC 8259: an optional minus, an integer part without leading zeros, and
+   * optionally a fraction and an exponent, both with at least one digit. Integral numbers are read as Longs, or as
+   * BigIntegers if they do not fit, and other numbers as Doubles, or as BigDecimals if they are out of range of a
+   * Double.
+   */
+  private Object readNumber() throws IOException {
+    var number = new StringBuilder();
+    if (peek() == '-') {
+      number.append((char) next());
+    }
+    if (peek() == '0') {
+      number.append((char) next());
+    } else {
+      readDigits(number);
+    }
+    var integral = true;
+    if (peek() == '.') {
+      integral = false;
+      number.append((char) next());
+      readDigits(number);
+    }
+    var c = peek();
+    if (c == 'e' || c == 'E') {
+      integral = false;
+      number.append((char) next());
+      c = peek();
+      if (c == '+' || c == '-') {
+        number.append((char) next());
+      }
+      readDigits(number);
+    }
+    var text = number.toString();
+    if (integral) {
+      try {
+        return Long.parseLong(text);
+      } catch (NumberFormatException exception) {
+        return new BigInteger(text);
+      }
+    }
+    var value = Double.parseDouble(text);
+    if (Double.isInfinite(value)) {
+      return new BigDecimal(text);
+    }
+    return value;
+  }
+
+  /**
+   * Read one or more digits.
+   */
+  private void readDigits(StringBuilder number) throws IOException {
+    var c = next();
+    if (c < '0' || c > '9') {
+      throw unexpected(c);
+    }
+    number.append((char) c);
+    c = peek();
+    while (c >= '0' && c <= '9') {
+      number.append((char) next());
+      c = peek();
+    }
+  }
+
+  private void readLiteral(String literal) throws IOException {
+    for (int i = 0; i < literal.length(); i++) {
+      var c = next();
+      if (c != literal.charAt(i)) {
+        throw unexpected(c);
+      }
+    }
+  }
+
+  private void expect(char expected) throws IOException {
+    skipWhitespace();
+    var c = next();
+    if (c != expected) {
+      throw unexpected(c);
+    }
+  }
+
+  private int skipWhitespace() throws IOException {
+    var c = peek();
+    while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+      next();
+      c = peek();
+    }
+    return c;
+  }
+
+  private int peek() throws IOException {
+    if (peeked == NONE) {
+      if (text == null) {
+        peeked = reader.read();
+      } else {
+        peeked = position < text.length() ? text.charAt(position) : -1;
+      }
+    }
+    return peeked;
+  }
+
+  private int next() throws IOException {
+    var c = peek();
+    peeked = NONE;
+    if (c != -1) {
+      position++;
+    }
+    return c;
+  }
+
+  private IllegalArgumentException unexpected(int c) {
+    var found = c == -1 ? "end of input" : String.format("'%s'", (char) c);
+    return new IllegalArgumentException(String.format(Messages.JSON_UNEXPECTED, found, position));
+  }
+
+}
@@ -0,0 +1,83 @@
+package com.compilit.probably;
+
+import java.io.IOException;
+
+/**
+ * Writes the values of Probables as JSON for a {@link ProbableJson}, and converts them back from parsed JSON. A value
+ * codec is only called for a Probable.Value, so it never has to deal with {@code null}. Built-in codecs exist for
+ * Strings, Booleans and the boxed primitives; anything else is written with plain appends, using
+ * {@link ProbableJson#writeString(CharSequence, Appendable)} for Strings:
+ * <pre>{@code
+ * ProbableJsonValueCodec<Order> orders = new ProbableJsonValueCodec<>() {
+ *   public void write(Order order, Appendable json) throws IOException {
+ *     json.append("{\"id\":").append(String.valueOf(order.getId())).append(",\"name\":");
+ *     ProbableJson.writeString(order.getName(), json);
+ *     json.append('}');
+ *   }
+ *   public Order read(Object json) {
+ *     var fields = (Map<String, Object>) json;
+ *     return new Order((Long) fields.get("id"), (String) fields.get("name"));
+ *   }
+ * };
+ * }</pre>
+ * A value codec may throw any RuntimeException; the ProbableJson turns it into a Probable.Failure.
+ *
+ * @param <T> the type of the values.
+ */
+public interface ProbableJsonValueCodec<T> {
+
+  /**
+   * Write a value as exactly one JSON value.
+   *
+   * @param value the non-{@code null} value.
+   * @param json  the output to append to.
+   * @throws IOException if the output throws it
+   */
+  void write(T value, Appendable json) throws IOException;
+
+  /**
+   * Convert a parsed JSON value back into a value.
+   *
+   * @param json the parsed JSON value: a String, Long (for integral numbers that fit), BigInteger (for those that do
+   *             not), Double (for other numbers that fit), BigDecimal (for those that do not), Boolean, {@code null},
+   *             {@code List<Object>} or {@code Map<String, Object>}.
+   * @return the non-{@code null} value.
+   */
+  T read(Object json);
+
+  /**
+   * @return a codec that writes Strings as JSON strings.
+   */
+  static ProbableJsonValueCodec<String> strings() {
+    return BuiltInValueCodecs.JSON_STRINGS;
+  }
+
+  /**
+   * @return a codec that writes Integers as JSON numbers.
+   */
+  static ProbableJsonValueCodec<Integer> ints() {
+    return BuiltInValueCodecs.JSON_INTS;
+  }
+
+  /**
+   * @return a codec that writes Longs as JSON numbers.
+   */
+  static ProbableJsonValueCodec<Long> longs() {
+    return BuiltInValueCodecs.JSON_LONGS;
+  }
+
+  /**
+   * @return a codec that writes finite Doubles as JSON numbers. NaN and infinity cannot be written.
+   */
+  static ProbableJsonValueCodec<Double> doubles() {
+    return BuiltInValueCodecs.JSON_DOUBLES;
+  }
+
+  /**
+   * @return a codec that writes Booleans as JSON booleans.
+   */
+  static ProbableJsonValueCodec<Boolean> booleans() {
+    return BuiltInValueCodecs.JSON_BOOLEANS;
+  }
+
+}
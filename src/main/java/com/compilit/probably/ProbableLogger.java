@@ -4,43 +4,62 @@ import static com.compilit.probably.Probable.LOGGER;
 
 import org.slf4j.event.Level;
 
+/**
+ * Logs Probables through the {@code Probable} logger. Nothing is formatted or evaluated unless the level is enabled.
+ * Besides the human-readable message, the outcome, message, value (if any) and exception class (if any) of the
+ * Probable are added as key-value pairs, so structured appenders need no parsing.
+ */
 class ProbableLogger {
 
+  static final String OUTCOME_KEY = "probable.outcome";
+  static final String VALUE_KEY = "probable.value";
+  static final String MESSAGE_KEY = "probable.message";
+  static final String EXCEPTION_CLASS_KEY = "probable.exceptionClass";
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
   private ProbableLogger() {}
 
   public static <T> void log(Probable<T> probable, Level level, String message, Object[] args) {
-    String probableMessage = createLogMessage(probable, message);
+    if (!LOGGER.isEnabledForLevel(level)) {
+      return;
+    }
+    var builder = LOGGER.atLevel(level)
+                        .addKeyValue(OUTCOME_KEY, () -> ProbableOutcome.of(probable).name())
+                        .addKeyValue(MESSAGE_KEY, probable::getMessage)
+                        .addArgument(() -> typeName(probable))
+                        .addArgument(probable::get)
+                        .addArgument(probable::getMessage);
+    if (probable.hasValue()) {
+      builder = builder.addKeyValue(VALUE_KEY, probable::get);
+    }
     var encounteredException = probable.getException();
     if (encounteredException != null) {
-      LOGGER.atLevel(level).log(probableMessage, encounteredException);
-    } else {
-      LOGGER.atLevel(level).log(probableMessage, args);
+      builder = builder.addKeyValue(EXCEPTION_CLASS_KEY, () -> encounteredException.getClass().getName())
+                       .setCause(encounteredException);
+    }
+    if (args != null) {
+      for (var arg : args) {
+        builder = builder.addArgument(arg);
+      }
     }
+    builder.log(message == null ? Messages.BASE_LOG_MESSAGE : Messages.BASE_LOG_MESSAGE_WITH_CUSTOM_MESSAGE + message);
   }
 
   static void logDebugEvent(Probable<?> probable, String message) {
-    if (LOGGER.isDebugEnabled()) {
-      var actualMessage = createLogMessage(probable, message);
-      LOGGER.debug(actualMessage);
-    }
+    log(probable, Level.DEBUG, message, NO_ARGUMENTS);
   }
 
-  static String createLogMessage(Probable<?> probable, String logMessage) {
-    if (logMessage == null) {
-      return String.format(
-        Messages.BASE_LOG_MESSAGE,
-        probable.getClass().getSimpleName(),
-        probable.get(),
-        probable.getMessage()
-      );
+  private static String typeName(Probable<?> probable) {
+    if (probable instanceof Probable.Value) {
+      return Probable.Value.class.getSimpleName();
+    }
+    if (probable instanceof Probable.Nothing) {
+      return Probable.Nothing.class.getSimpleName();
+    }
+    if (probable instanceof Probable.Failure) {
+      return Probable.Failure.class.getSimpleName();
     }
-    return String.format(
-      Messages.BASE_LOG_MESSAGE_WITH_CUSTOM_MESSAGE,
-      probable.getClass().getSimpleName(),
-      probable.get(),
-      probable.getMessage(),
-      logMessage
-    );
+    return probable.getClass().getSimpleName();
   }
 
 }
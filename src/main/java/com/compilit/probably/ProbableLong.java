@@ -0,0 +1,310 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@code ProbableLong} is the {@code long} specialization of a {@code Probable}, comparable to how an
+ * {@code OptionalLong} relates to an {@code Optional}. It has the same three possible outcomes: a value, nothing,
+ * or a failure with a message and possibly an Exception or {@link FailureCode}. The value is never boxed, which makes
+ * it suitable for numeric hot paths. Use {@link #mapToObj(LongFunction)} or {@link #boxed()} to continue with a regular
+ * {@code Probable}, and {@link Probable#mapToLong(java.util.function.ToLongFunction)} to get here from one.
+ * <p>
+ * Contrary to a {@code Probable}, operations on a {@code ProbableLong} do not log debug events.
+ * </p>
+ */
+public final class ProbableLong extends ProbablePrimitive {
+
+  private static final ProbableLong NOTHING = new ProbableLong(0L, Probable.nothing());
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 127;
+  private static final ProbableLong[] CACHE = new ProbableLong[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ProbableLong(i + CACHE_LOW, null);
+    }
+  }
+
+  private final long value;
+
+  /**
+   * @param value the value, only relevant if empty is {@code null}.
+   * @param empty the Probable.Nothing or Probable.Failure that describes why there is no value, or {@code null}.
+   */
+  private ProbableLong(long value, Probable<?> empty) {
+    super(empty);
+    this.value = value;
+  }
+
+  /**
+   * Wrap a value. Small values are wrapped in shared instances.
+   *
+   * @param value the value.
+   * @return a ProbableLong with the value.
+   */
+  public static ProbableLong of(long value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[(int) value - CACHE_LOW];
+    }
+    return new ProbableLong(value, null);
+  }
+
+  /**
+   * Wrap a supplying process. If the supplier throws an Exception, a failed ProbableLong is returned.
+   *
+   * @param supplier the value-supplying function.
+   * @return a ProbableLong with the supplied value, or a failed ProbableLong.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public static ProbableLong of(LongSupplier supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    try {
+      return of(supplier.getAsLong());
+    } catch (Exception e) {
+      return new ProbableLong(0L, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * @return the shared empty ProbableLong with the default message.
+   */
+  public static ProbableLong nothing() {
+    return NOTHING;
+  }
+
+  /**
+   * @param message         the message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return an empty ProbableLong with a message.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableLong nothing(String message, Object... formatArguments) {
+    return new ProbableLong(0L, Probable.nothing(message, formatArguments));
+  }
+
+  /**
+   * @param message         the error message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableLong.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableLong failure(String message, Object... formatArguments) {
+    return new ProbableLong(0L, Probable.failure(message, formatArguments));
+  }
+
+  /**
+   * @param exception       the exception that was encountered.
+   * @param message         the error message.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableLong.
+   * @throws NullPointerException if the message is {@code null}
+   */
+  public static ProbableLong failure(Exception exception, String message, Object... formatArguments) {
+    return new ProbableLong(0L, Probable.failure(exception, message, formatArguments));
+  }
+
+  /**
+   * @param failureCode     the code that identifies the failure.
+   * @param formatArguments the message arguments you with to replace the '%s' (for example) symbol with.
+   * @return a failed ProbableLong.
+   * @throws NullPointerException if the failureCode is {@code null}
+   */
+  public static ProbableLong failure(FailureCode failureCode, Object... formatArguments) {
+    return new ProbableLong(0L, Probable.failure(failureCode, formatArguments));
+  }
+
+  /**
+   * @param probable a Probable.Nothing or Probable.Failure.
+   * @return a ProbableLong without value that shares the message and failure details of the given Probable.
+   */
+  static ProbableLong empty(Probable<?> probable) {
+    if (probable.hasFailed()) {
+      return new ProbableLong(0L, probable);
+    }
+    return NOTHING;
+  }
+
+  /**
+   * Returns the value. Since a primitive cannot be {@code null}, this returns {@code 0L} if there is no value, so
+   * check {@link #hasValue()} first, or use {@link #orElse(long)}.
+   *
+   * @return the value, or {@code 0L} if there is none.
+   */
+  public long getAsLong() {
+    return value;
+  }
+
+  /**
+   * @param other the value you wish to return in case this ProbableLong does not have any.
+   * @return the value, or the other value.
+   */
+  public long orElse(long other) {
+    return hasValue() ? value : other;
+  }
+
+  /**
+   * If a value is present, apply the mapping function to it.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @return a ProbableLong with the new value, this ProbableLong if there is no value, or a failed ProbableLong if the
+   * mapping function throws an Exception.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public ProbableLong map(LongUnaryOperator mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return of(mappingFunction.applyAsLong(value));
+    } catch (Exception e) {
+      return new ProbableLong(0L, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * If a value is present, apply the mapping function to it and continue with a regular Probable. Otherwise, the
+   * Probable.Nothing or Probable.Failure that this ProbableLong holds is returned.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return the resulting Probable
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> Probable<R> mapToObj(LongFunction<? extends R> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    if (!hasValue()) {
+      return emptyProbable();
+    }
+    try {
+      return Probable.of(mappingFunction.apply(value));
+    } catch (Exception e) {
+      return Probable.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  /**
+   * @return a regular Probable with the boxed value, or the Probable.Nothing or Probable.Failure of this ProbableLong.
+   */
+  public Probable<Long> boxed() {
+    if (!hasValue()) {
+      return emptyProbable();
+    }
+    return Probable.of(value);
+  }
+
+  /**
+   * Validate the value, but only if there is one.
+   *
+   * @param predicate the validation you wish to perform on the value
+   * @return this ProbableLong if it complies with the predicate or has no value, otherwise a failed ProbableLong.
+   * @throws NullPointerException if the predicate is {@code null}
+   */
+  public ProbableLong test(LongPredicate predicate) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return predicate.test(value) ? this : failure(Messages.FAILED_PREDICATE, value);
+    } catch (Exception e) {
+      return new ProbableLong(0L, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * Validate the value, but only if there is one.
+   *
+   * @param predicate      the validation you wish to perform on the value
+   * @param failureMessage the message you wish to pass in case the predicate resolves to false
+   * @return this ProbableLong if it complies with the predicate or has no value, otherwise a failed ProbableLong.
+   * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
+   */
+  public ProbableLong test(LongPredicate predicate, String failureMessage) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      return predicate.test(value) ? this : failure(failureMessage);
+    } catch (Exception e) {
+      return new ProbableLong(0L, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * If a value is present, performs the given consumer with the value, otherwise does nothing.
+   *
+   * @param consumer the consumer to be performed, if a value is present
+   * @return this ProbableLong, or a failed ProbableLong if the consumer throws an Exception.
+   * @throws NullPointerException if the consumer is {@code null}
+   */
+  public ProbableLong thenAccept(LongConsumer consumer) {
+    Objects.requireNonNull(consumer, () -> paramRequired("consumer"));
+    if (!hasValue()) {
+      return this;
+    }
+    try {
+      consumer.accept(value);
+      return this;
+    } catch (Exception e) {
+      return new ProbableLong(0L, exceptionCaught(e));
+    }
+  }
+
+  /**
+   * @param supplier the supplier of the alternative ProbableLong.
+   * @return this ProbableLong if it has a value, otherwise the supplied ProbableLong.
+   * @throws NullPointerException if the supplier is {@code null}
+   */
+  public ProbableLong or(Supplier<ProbableLong> supplier) {
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    return hasValue() ? this : supplier.get();
+  }
+
+  /**
+   * @param obj the other object.
+   * @return true if both are ProbableLongs with equal values, or both have no value.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof ProbableLong) {
+      var other = (ProbableLong) obj;
+      if (hasValue() && other.hasValue()) {
+        return Long.compare(value, other.value) == 0;
+      }
+      return !hasValue() && !other.hasValue();
+    }
+    return false;
+  }
+
+  /**
+   * @return the hashcode of the value, otherwise 0.
+   */
+  @Override
+  public int hashCode() {
+    return hasValue() ? Long.hashCode(value) : 0;
+  }
+
+  /**
+   * @return the String value of the value, or "null" if there is none.
+   */
+  @Override
+  public String toString() {
+    return hasValue() ? String.valueOf(value) : String.valueOf((Object) null);
+  }
+
+}
@@ -0,0 +1,212 @@
+package com.compilit.probably;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in counters of the outcomes of every {@link ProbableOperation}, and of the exceptions that Probables turned into
+ * failures. Counting is off by default; switch it on with {@link #enable()}, through JMX (see
+ * {@link #registerMBean()}), or by starting the JVM with {@code -Dprobably.metrics=true}.
+ * <p>
+ * Counters are {@link LongAdder}s, so many threads can count the same operation without contending. While counting is
+ * off, the check whether to count is treated as a constant by the JIT compiler and removed from the compiled code.
+ * </p>
+ */
+public final class ProbableMetrics {
+
+  /**
+   * The name under which {@link #registerMBean()} registers the MBean.
+   */
+  public static final String OBJECT_NAME = "com.compilit.probably:type=ProbableMetrics";
+
+  private static final ProbableOperation[] OPERATIONS = ProbableOperation.values();
+  private static final ProbableOutcome[] OUTCOMES = ProbableOutcome.values();
+  private static final MutableCallSite ENABLED_SITE = ProbableSwitch.create(Boolean.getBoolean("probably.metrics"));
+  private static final MethodHandle ENABLED = ENABLED_SITE.dynamicInvoker();
+  private static final LongAdder[] COUNTERS = new LongAdder[OPERATIONS.length * OUTCOMES.length];
+  private static final LongAdder CAUGHT_EXCEPTIONS = new LongAdder();
+
+  static {
+    for (int i = 0; i < COUNTERS.length; i++) {
+      COUNTERS[i] = new LongAdder();
+    }
+  }
+
+  private ProbableMetrics() {
+  }
+
+  /**
+   * Start counting.
+   */
+  public static void enable() {
+    ProbableSwitch.set(ENABLED_SITE, true);
+  }
+
+  /**
+   * Stop counting. The counters keep their values.
+   */
+  public static void disable() {
+    ProbableSwitch.set(ENABLED_SITE, false);
+  }
+
+  /**
+   * @return true if operations are being counted.
+   */
+  public static boolean isEnabled() {
+    return ProbableSwitch.isOn(ENABLED);
+  }
+
+  /**
+   * @return a snapshot of all counters. Counts that are made while the snapshot is taken may or may not be included.
+   */
+  public static Snapshot snapshot() {
+    var counts = new long[COUNTERS.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = COUNTERS[i].sum();
+    }
+    return new Snapshot(counts, CAUGHT_EXCEPTIONS.sum());
+  }
+
+  /**
+   * Set all counters to zero.
+   */
+  public static void reset() {
+    for (var counter : COUNTERS) {
+      counter.reset();
+    }
+    CAUGHT_EXCEPTIONS.reset();
+  }
+
+  /**
+   * Register a {@link ProbableMetricsMXBean} with the platform MBean server, under {@link #OBJECT_NAME}.
+   *
+   * @return a Probable.Value with the name of the MBean, or a Probable.Failure if it could not be registered, for
+   * example because it already is.
+   */
+  public static Probable<ObjectName> registerMBean() {
+    try {
+      var name = new ObjectName(OBJECT_NAME);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), name);
+      return Probable.value(name);
+    } catch (JMException e) {
+      return Probable.failure(e, Messages.exceptionWasThrown(e));
+    }
+  }
+
+  static void count(ProbableOperation operation, Probable<?> outcome) {
+    if (ProbableSwitch.isOn(ENABLED)) {
+      COUNTERS[index(operation, ProbableOutcome.of(outcome))].increment();
+    }
+  }
+
+  static void countCaughtException() {
+    if (ProbableSwitch.isOn(ENABLED)) {
+      CAUGHT_EXCEPTIONS.increment();
+    }
+  }
+
+  private static int index(ProbableOperation operation, ProbableOutcome outcome) {
+    return operation.ordinal() * OUTCOMES.length + outcome.ordinal();
+  }
+
+  /**
+   * An immutable snapshot of the counters.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long caughtExceptions;
+
+    private Snapshot(long[] counts, long caughtExceptions) {
+      this.counts = counts;
+      this.caughtExceptions = caughtExceptions;
+    }
+
+    /**
+     * @param operation the operation.
+     * @param outcome   the outcome of the operation.
+     * @return how often the operation resulted in the outcome.
+     */
+    public long getCount(ProbableOperation operation, ProbableOutcome outcome) {
+      return counts[index(operation, outcome)];
+    }
+
+    /**
+     * @param operation the operation.
+     * @return how often the operation was performed.
+     */
+    public long getCount(ProbableOperation operation) {
+      var total = 0L;
+      for (var outcome : OUTCOMES) {
+        total += getCount(operation, outcome);
+      }
+      return total;
+    }
+
+    /**
+     * @return the number of exceptions that were thrown by functions passed to a Probable and turned into a
+     * Probable.Failure.
+     */
+    public long getCaughtExceptions() {
+      return caughtExceptions;
+    }
+
+    /**
+     * @return the counts per operation and outcome, keyed as "operation.OUTCOME", for example "MAP.FAILURE".
+     */
+    public Map<String, Long> toMap() {
+      var map = new LinkedHashMap<String, Long>();
+      for (var operation : OPERATIONS) {
+        for (var outcome : OUTCOMES) {
+          map.put(operation + "." + outcome, getCount(operation, outcome));
+        }
+      }
+      return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot(" + toMap() + ", caughtExceptions=" + caughtExceptions + ")";
+    }
+  }
+
+  private static final class MXBean implements ProbableMetricsMXBean {
+
+    @Override
+    public boolean isEnabled() {
+      return ProbableMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+      if (enabled) {
+        enable();
+      } else {
+        disable();
+      }
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+      return snapshot().toMap();
+    }
+
+    @Override
+    public long getCaughtExceptions() {
+      return snapshot().getCaughtExceptions();
+    }
+
+    @Override
+    public void reset() {
+      ProbableMetrics.reset();
+    }
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.compilit.probably;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link ProbableMetrics}. Register it with {@link ProbableMetrics#registerMBean()}.
+ */
+public interface ProbableMetricsMXBean {
+
+  /**
+   * @return true if operations are being counted.
+   */
+  boolean isEnabled();
+
+  /**
+   * @param enabled true to start counting operations, false to stop.
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * @return the counts per operation and outcome, keyed as "operation.OUTCOME", for example "MAP.FAILURE".
+   */
+  Map<String, Long> getCounts();
+
+  /**
+   * @return the number of exceptions that were thrown by functions passed to a Probable and turned into a
+   * Probable.Failure.
+   */
+  long getCaughtExceptions();
+
+  /**
+   * Set all counters to zero.
+   */
+  void reset();
+
+}
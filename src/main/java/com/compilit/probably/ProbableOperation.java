@@ -0,0 +1,33 @@
+package com.compilit.probably;
+
+/**
+ * The operations of a Probable that are counted by {@link ProbableMetrics}.
+ */
+public enum ProbableOperation {
+
+  /**
+   * {@link Probable#of(Object)} and {@link Probable#of(java.util.function.Supplier)}.
+   */
+  OF,
+  /**
+   * {@link Probable#map(java.util.function.Function)}.
+   */
+  MAP,
+  /**
+   * {@link Probable#flatMap(java.util.function.Function)}.
+   */
+  FLAT_MAP,
+  /**
+   * Both {@code test} methods.
+   */
+  TEST,
+  /**
+   * {@link Probable#thenAccept(java.util.function.Consumer)}.
+   */
+  THEN_ACCEPT,
+  /**
+   * {@link Probable#thenRun(Runnable)}.
+   */
+  THEN_RUN
+
+}
@@ -0,0 +1,32 @@
+package com.compilit.probably;
+
+/**
+ * The three possible outcomes of a Probable.
+ */
+public enum ProbableOutcome {
+
+  /**
+   * A Probable.Value.
+   */
+  VALUE,
+  /**
+   * A Probable.Nothing.
+   */
+  NOTHING,
+  /**
+   * A Probable.Failure.
+   */
+  FAILURE;
+
+  /**
+   * @param probable the Probable.
+   * @return the outcome of the Probable.
+   */
+  public static ProbableOutcome of(Probable<?> probable) {
+    if (probable.hasValue()) {
+      return VALUE;
+    }
+    return probable.hasFailed() ? FAILURE : NOTHING;
+  }
+
+}
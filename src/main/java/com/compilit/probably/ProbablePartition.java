@@ -0,0 +1,70 @@
+package com.compilit.probably;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of {@link ProbableCollectors#partitioning()}: the values of all Probable.Values, and all Probable.Nothings
+ * and Probable.Failures, each in encounter order.
+ *
+ * @param <T> the type of the values.
+ */
+public final class ProbablePartition<T> {
+
+  private final List<T> values;
+  private final List<Probable<T>> nothings;
+  private final List<Probable<T>> failures;
+
+  ProbablePartition() {
+    this.values = new ArrayList<>();
+    this.nothings = new ArrayList<>();
+    this.failures = new ArrayList<>();
+  }
+
+  void add(Probable<T> probable) {
+    if (probable.hasValue()) {
+      values.add(probable.get());
+    } else if (probable.hasFailed()) {
+      failures.add(probable);
+    } else {
+      nothings.add(probable);
+    }
+  }
+
+  ProbablePartition<T> addAll(ProbablePartition<T> other) {
+    values.addAll(other.values);
+    nothings.addAll(other.nothings);
+    failures.addAll(other.failures);
+    return this;
+  }
+
+  /**
+   * @return the unmodifiable list of values of all Probable.Values.
+   */
+  public List<T> getValues() {
+    return Collections.unmodifiableList(values);
+  }
+
+  /**
+   * @return the unmodifiable list of all Probable.Nothings.
+   */
+  public List<Probable<T>> getNothings() {
+    return Collections.unmodifiableList(nothings);
+  }
+
+  /**
+   * @return the unmodifiable list of all Probable.Failures.
+   */
+  public List<Probable<T>> getFailures() {
+    return Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * @return true if none of the collected Probables has failed.
+   */
+  public boolean hasNoFailures() {
+    return failures.isEmpty();
+  }
+
+}
@@ -0,0 +1,220 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+import static com.compilit.probably.ProbableEvents.publish;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@code ProbablePipeline} records a chain of {@code map}, {@code flatMap}, {@code test} and {@code thenAccept} steps
+ * once, and applies all of them to an input in a single pass. Contrary to the fluent {@code Probable} API, no
+ * intermediate Probables or capturing lambdas are created; only the final Probable is allocated. The outcome, including
+ * the message of a Probable.Failure, is the same as when the steps would have been applied one by one. Only a single
+ * debug event is logged per application, instead of one per step.
+ * <p>
+ * Pipelines are immutable: every step returns a new pipeline, so a pipeline can be built once and safely shared
+ * between threads.
+ * </p>
+ *
+ * @param <I> the type of the input value.
+ * @param <O> the type of the value of the resulting Probable.
+ */
+public final class ProbablePipeline<I, O> implements Function<I, Probable<O>> {
+
+  private static final ProbablePipeline<?, ?> EMPTY = new ProbablePipeline<>(new Step[0]);
+
+  private final Step[] steps;
+
+  private ProbablePipeline(Step[] steps) {
+    this.steps = steps;
+  }
+
+  static <T> ProbablePipeline<T, T> empty() {
+    return (ProbablePipeline<T, T>) EMPTY;
+  }
+
+  /**
+   * Add a step which behaves like {@link Probable#map(Function)}.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new pipeline with the step added.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> ProbablePipeline<I, R> map(Function<? super O, ? extends R> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    return with(new Step(StepType.MAP, mappingFunction, null));
+  }
+
+  /**
+   * Add a step which behaves like {@link Probable#flatMap(Function)}.
+   *
+   * @param mappingFunction the operation you wish to apply to the value
+   * @param <R>             the return type
+   * @return a new pipeline with the step added.
+   * @throws NullPointerException if the mappingFunction is {@code null}
+   */
+  public <R> ProbablePipeline<I, R> flatMap(Function<? super O, ? extends Probable<? extends R>> mappingFunction) {
+    Objects.requireNonNull(mappingFunction, () -> paramRequired("mappingFunction"));
+    return with(new Step(StepType.FLAT_MAP, mappingFunction, null));
+  }
+
+  /**
+   * Add a step which behaves like {@link Probable#test(Predicate)}.
+   *
+   * @param predicate the validation you wish to perform on the value
+   * @return a new pipeline with the step added.
+   * @throws NullPointerException if the predicate is {@code null}
+   */
+  public ProbablePipeline<I, O> test(Predicate<O> predicate) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    return with(new Step(StepType.TEST, predicate, null));
+  }
+
+  /**
+   * Add a step which behaves like {@link Probable#test(Predicate, String)}.
+   *
+   * @param predicate      the validation you wish to perform on the value
+   * @param failureMessage the message you wish to pass in case the predicate resolves to false
+   * @return a new pipeline with the step added.
+   * @throws NullPointerException if the predicate, or te failureMessage is {@code null}
+   */
+  public ProbablePipeline<I, O> test(Predicate<O> predicate, String failureMessage) {
+    Objects.requireNonNull(predicate, () -> paramRequired("predicate"));
+    Objects.requireNonNull(failureMessage, () -> paramRequired("failureMessage"));
+    return with(new Step(StepType.TEST, predicate, failureMessage));
+  }
+
+  /**
+   * Add a step which behaves like {@link Probable#thenAccept(Consumer)}.
+   *
+   * @param consumer the consumer to be performed, if a value is present
+   * @return a new pipeline with the step added.
+   * @throws NullPointerException if the consumer is {@code null}
+   */
+  public ProbablePipeline<I, O> thenAccept(Consumer<? super O> consumer) {
+    Objects.requireNonNull(consumer, () -> paramRequired("consumer"));
+    return with(new Step(StepType.ACCEPT, consumer, null));
+  }
+
+  /**
+   * Apply all steps to the given nullable value, as if it was wrapped by {@link Probable#of(Object)}.
+   *
+   * @param input the nullable input value.
+   * @return the resulting Probable.
+   */
+  @Override
+  public Probable<O> apply(I input) {
+    if (input == null) {
+      return apply(Probable.<I>nothing());
+    }
+    return run(input, null);
+  }
+
+  /**
+   * Apply all steps to the given Probable.
+   *
+   * @param input the input Probable.
+   * @return the resulting Probable.
+   * @throws NullPointerException if the input is {@code null}
+   */
+  public Probable<O> apply(Probable<? extends I> input) {
+    Objects.requireNonNull(input, () -> paramRequired("input"));
+    if (input.hasValue()) {
+      return run(input.get(), input);
+    }
+    if (input.hasFailed()) {
+      return (Probable<O>) input;
+    }
+    for (var step : steps) {
+      if (step.type == StepType.MAP || step.type == StepType.FLAT_MAP) {
+        return Probable.nothing();
+      }
+    }
+    return (Probable<O>) input;
+  }
+
+  /**
+   * @param value   the non-{@code null} value to start with.
+   * @param current the Probable that currently holds the value, or {@code null} if that would be a default
+   *                Probable.Value, which is only created once all steps are done.
+   */
+  private Probable<O> run(Object value, Probable<?> current) {
+    try {
+      for (int i = 0; i < steps.length; i++) {
+        var step = steps[i];
+        if (value == null) {
+          if (step.type == StepType.MAP || step.type == StepType.FLAT_MAP) {
+            current = Probable.nothing();
+          }
+          continue;
+        }
+        switch (step.type) {
+          case MAP:
+            value = ((Function<Object, Object>) step.operation).apply(value);
+            current = value == null ? Probable.nothing() : null;
+            break;
+          case FLAT_MAP:
+            current = Objects.requireNonNull(((Function<Object, Probable<?>>) step.operation).apply(value),
+                                             Messages.FLATMAP_RETURNED_NULL);
+            if (current.hasFailed()) {
+              return result(current);
+            }
+            value = current.get();
+            break;
+          case TEST:
+            if (!((Predicate<Object>) step.operation).test(value)) {
+              if (step.failureMessage == null) {
+                return result(Probable.failure(Messages.FAILED_PREDICATE, value));
+              }
+              return result(Probable.failure(step.failureMessage));
+            }
+            break;
+          case ACCEPT:
+            ((Consumer<Object>) step.operation).accept(value);
+            break;
+        }
+      }
+    } catch (Exception e) {
+      return result(Probable.failure(e, exceptionWasThrown(e)));
+    }
+    return result(current == null ? Probable.of(value) : current);
+  }
+
+  private Probable<O> result(Probable<?> probable) {
+    publish(ProbableEventType.PIPELINE_APPLIED, probable);
+    return (Probable<O>) probable;
+  }
+
+  private <R> ProbablePipeline<I, R> with(Step step) {
+    var newSteps = Arrays.copyOf(steps, steps.length + 1);
+    newSteps[steps.length] = step;
+    return new ProbablePipeline<>(newSteps);
+  }
+
+  private enum StepType {
+    MAP,
+    FLAT_MAP,
+    TEST,
+    ACCEPT
+  }
+
+  private static final class Step {
+
+    private final StepType type;
+    private final Object operation;
+    private final String failureMessage;
+
+    private Step(StepType type, Object operation, String failureMessage) {
+      this.type = type;
+      this.operation = operation;
+      this.failureMessage = failureMessage;
+    }
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+
+/**
+ * The state and accessors that {@link ProbableInt}, {@link ProbableLong} and {@link ProbableDouble} share. The value
+ * itself lives in the subclasses, so it is never boxed; everything that describes the absence of a value is delegated
+ * to a regular Probable.Nothing or Probable.Failure.
+ */
+abstract class ProbablePrimitive {
+
+  final Probable<?> empty;
+
+  /**
+   * @param empty the Probable.Nothing or Probable.Failure that describes why there is no value, or {@code null}.
+   */
+  ProbablePrimitive(Probable<?> empty) {
+    this.empty = empty;
+  }
+
+  static Probable<?> exceptionCaught(Exception exception) {
+    return Probable.failure(exception, exceptionWasThrown(exception));
+  }
+
+  /**
+   * @return true if a value is present.
+   */
+  public final boolean hasValue() {
+    return empty == null;
+  }
+
+  /**
+   * @return true if no value is present.
+   */
+  public final boolean isEmpty() {
+    return empty != null;
+  }
+
+  /**
+   * @return true if this Probable has failed.
+   */
+  public final boolean hasFailed() {
+    return empty != null && empty.hasFailed();
+  }
+
+  /**
+   * @return the message of this Probable.
+   */
+  public final String getMessage() {
+    return empty == null ? Messages.NOTHING_TO_REPORT : empty.getMessage();
+  }
+
+  /**
+   * @return the exception that caused the failure, or {@code null}.
+   */
+  public final Exception getException() {
+    return empty == null ? null : empty.getException();
+  }
+
+  /**
+   * @return the FailureCode of the failure, or {@code null}.
+   */
+  public final FailureCode getFailureCode() {
+    return empty == null ? null : empty.getFailureCode();
+  }
+
+  /**
+   * @return the Probable.Nothing or Probable.Failure of this Probable, typed for the caller. Only valid without value.
+   */
+  final <R> Probable<R> emptyProbable() {
+    return (Probable<R>) empty;
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.ProbableEvents.publish;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+final class ProbableRetry<T> {
+
+  private final Supplier<T> supplier;
+  private final RetryPolicy policy;
+  private final long startNanos;
+  private int attempts;
+  private long nextDelayNanos;
+
+  private ProbableRetry(Supplier<T> supplier, RetryPolicy policy) {
+    this.supplier = supplier;
+    this.policy = policy;
+    this.startNanos = System.nanoTime();
+  }
+
+  static <T> Probable<T> retry(Supplier<T> supplier, RetryPolicy policy) {
+    var invalid = policy.validate();
+    if (invalid != null) {
+      return (Probable<T>) invalid;
+    }
+    var retry = new ProbableRetry<>(supplier, policy);
+    while (true) {
+      var outcome = retry.attempt();
+      if (outcome != null) {
+        return outcome;
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(retry.nextDelayNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Probable.failure(e, Messages.INTERRUPTED_WHILE_RETRYING, retry.attempts + 1);
+      }
+    }
+  }
+
+  static <T> AsyncProbable<T> retryAsync(Supplier<T> supplier,
+                                         RetryPolicy policy,
+                                         ScheduledExecutorService scheduler) {
+    var invalid = policy.validate();
+    if (invalid != null) {
+      return AsyncProbable.of((Probable<T>) invalid, scheduler);
+    }
+    var result = new CompletableFuture<Probable<T>>();
+    new ProbableRetry<>(supplier, policy).schedule(result, scheduler, 0);
+    return AsyncProbable.completedBy(result, scheduler);
+  }
+
+  private void schedule(CompletableFuture<Probable<T>> result, ScheduledExecutorService scheduler, long delayNanos) {
+    try {
+      scheduler.schedule(() -> {
+        if (result.isDone()) {
+          return;
+        }
+        var outcome = attempt();
+        if (outcome != null) {
+          result.complete(outcome);
+        } else {
+          schedule(result, scheduler, nextDelayNanos);
+        }
+      }, delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      result.complete(Probable.failure(e, Messages.RETRY_REJECTED, attempts + 1));
+    }
+  }
+
+  /**
+   * Call the supplier once.
+   *
+   * @return the final outcome, or {@code null} if another attempt should follow after {@code nextDelayNanos}.
+   */
+  private Probable<T> attempt() {
+    attempts++;
+    var outcome = Probable.of(supplier);
+    if (!policy.isRetryable(outcome)) {
+      return outcome;
+    }
+    if (attempts >= policy.getMaxAttempts()) {
+      var failureCode = RetryFailureCode.retriesExhausted(attempts);
+      return Probable.failure(outcome.getException(), failureCode, attempts, outcome.getMessage());
+    }
+    nextDelayNanos = policy.delayNanos(attempts);
+    var remainingNanos = policy.getTimeBudgetNanos() - (System.nanoTime() - startNanos);
+    if (nextDelayNanos >= remainingNanos) {
+      return Probable.failure(
+        outcome.getException(),
+        RetryFailureCode.timeBudgetExhausted(attempts),
+        policy.getTimeBudget(),
+        attempts,
+        outcome.getMessage()
+      );
+    }
+    publish(ProbableEventType.RETRYING, outcome);
+    return null;
+  }
+
+}
@@ -0,0 +1,123 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A {@code ProbableSingleFlight} coalesces concurrent requests for the same key. The first caller of a key runs its
+ * supplier; every caller that asks for the same key while that supplier is running receives the very same Probable,
+ * including the same Probable.Failure, without running its own supplier. Once the supplier has completed, the next
+ * request for the key runs a supplier again: results are shared, not cached.
+ * <p>
+ * Suppliers never run while a lock of the underlying map is held, so a slow supplier does not block requests for other
+ * keys.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class ProbableSingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<Probable<V>>> flights = new ConcurrentHashMap<>();
+
+  private ProbableSingleFlight() {
+  }
+
+  /**
+   * @param <K> the type of the keys.
+   * @param <V> the type of the values.
+   * @return a new ProbableSingleFlight without running suppliers.
+   */
+  public static <K, V> ProbableSingleFlight<K, V> create() {
+    return new ProbableSingleFlight<>();
+  }
+
+  /**
+   * Run the supplier like {@link Probable#of(Supplier)} does, unless a supplier for the same key is already running, in
+   * which case its outcome is awaited and returned instead. The supplier runs on the calling thread.
+   *
+   * @param key      the key that identifies the request.
+   * @param supplier the content-supplying function.
+   * @return the Probable that is shared by all concurrent callers of the key.
+   * @throws NullPointerException if the key or the supplier is {@code null}
+   */
+  public Probable<V> of(K key, Supplier<V> supplier) {
+    Objects.requireNonNull(key, () -> paramRequired("key"));
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    var flight = new CompletableFuture<Probable<V>>();
+    var running = flights.putIfAbsent(key, flight);
+    if (running == null) {
+      return fly(key, flight, supplier);
+    }
+    try {
+      return running.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Probable.failure(e, Messages.INTERRUPTED_WHILE_WAITING);
+    } catch (ExecutionException e) {
+      return Probable.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  /**
+   * A non-blocking counterpart of {@link #of(Object, Supplier)}. If no supplier for the key is running, the supplier is
+   * run on the given executor.
+   *
+   * @param key      the key that identifies the request.
+   * @param supplier the content-supplying function.
+   * @param executor the executor on which the supplier runs.
+   * @return a future of the Probable that is shared by all concurrent callers of the key. Cancelling it does not affect
+   * the other callers.
+   * @throws NullPointerException if the key, the supplier or the executor is {@code null}
+   */
+  public CompletableFuture<Probable<V>> ofAsync(K key, Supplier<V> supplier, Executor executor) {
+    Objects.requireNonNull(key, () -> paramRequired("key"));
+    Objects.requireNonNull(supplier, () -> paramRequired("supplier"));
+    Objects.requireNonNull(executor, () -> paramRequired("executor"));
+    var flight = new CompletableFuture<Probable<V>>();
+    var running = flights.putIfAbsent(key, flight);
+    if (running != null) {
+      return running.copy();
+    }
+    try {
+      executor.execute(() -> fly(key, flight, supplier));
+    } catch (RejectedExecutionException e) {
+      land(key, flight, Probable.failure(e, exceptionWasThrown(e)));
+    }
+    return flight.copy();
+  }
+
+  /**
+   * @return the number of keys for which a supplier is running.
+   */
+  public int getInFlightCount() {
+    return flights.size();
+  }
+
+  private Probable<V> fly(K key, CompletableFuture<Probable<V>> flight, Supplier<V> supplier) {
+    Probable<V> outcome;
+    try {
+      outcome = Probable.of(supplier);
+    } catch (Error e) {
+      flights.remove(key, flight);
+      flight.completeExceptionally(e);
+      throw e;
+    }
+    land(key, flight, outcome);
+    return outcome;
+  }
+
+  private void land(K key, CompletableFuture<Probable<V>> flight, Probable<V> outcome) {
+    flights.remove(key, flight);
+    flight.complete(outcome);
+  }
+
+}
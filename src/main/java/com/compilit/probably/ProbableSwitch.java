@@ -0,0 +1,39 @@
+package com.compilit.probably;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * Helpers for booleans that are read on every operation but rarely change. The value is the target of a
+ * {@link MutableCallSite}, which the JIT compiler treats as a constant: reading a switch that is off costs nothing in
+ * compiled code, and the code is recompiled whenever the switch is flipped. The call site's invoker must be kept in a
+ * {@code static final} field for the JIT compiler to treat it as a constant.
+ */
+final class ProbableSwitch {
+
+  private ProbableSwitch() {
+  }
+
+  static MutableCallSite create(boolean on) {
+    return new MutableCallSite(MethodHandles.constant(boolean.class, on));
+  }
+
+  static boolean isOn(MethodHandle invoker) {
+    try {
+      return (boolean) invoker.invokeExact();
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
+  static void set(MutableCallSite site, boolean on) {
+    synchronized (site) {
+      if (on != isOn(site.dynamicInvoker())) {
+        site.setTarget(MethodHandles.constant(boolean.class, on));
+        MutableCallSite.syncAll(new MutableCallSite[]{site});
+      }
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+final class ProbableTimeout {
+
+  private ProbableTimeout() {
+  }
+
+  static <T> Probable<T> of(Supplier<T> supplier, Duration timeout, Executor executor) {
+    var task = new FutureTask<>(() -> Probable.of(supplier));
+    try {
+      executor.execute(task);
+      return task.get(toNanos(timeout), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      task.cancel(true);
+      return Probable.failure(e, Messages.TIMED_OUT, timeout);
+    } catch (InterruptedException e) {
+      task.cancel(true);
+      Thread.currentThread().interrupt();
+      return Probable.failure(e, Messages.INTERRUPTED_WHILE_WAITING);
+    } catch (RejectedExecutionException e) {
+      return Probable.failure(e, exceptionWasThrown(e));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      return Probable.failure(e, exceptionWasThrown(e));
+    }
+  }
+
+  private static long toNanos(Duration timeout) {
+    try {
+      return timeout.toNanos();
+    } catch (ArithmeticException e) {
+      return timeout.isNegative() ? 0 : Long.MAX_VALUE;
+    }
+  }
+
+}
@@ -0,0 +1,210 @@
+package com.compilit.probably;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The operations a Probable went through, as returned by {@link Probable#getTrace()}. Tracing is off by default; switch
+ * it on with {@link #enable()} or {@link #enableWithCallSites()}, or by starting the JVM with
+ * {@code -Dprobably.trace=true} (and {@code -Dprobably.trace.callSites=true}).
+ * <p>
+ * While tracing is on, every operation that produces a new Probable ({@code of}, an applied {@code map} or
+ * {@code flatMap}, a failed {@code test}, or a {@code thenAccept} or {@code thenRun} that threw an Exception) hands the
+ * trace of its source on to its outcome, with one step added. Operations that return the very same instance, like a
+ * passed test or an operation on a Probable without a value, add no step. A trace is an {@code int} array of at most
+ * {@code -Dprobably.trace.depth} (16 by default) steps; when it is full, the oldest step is dropped. Each step holds
+ * the {@link ProbableOperation} and, only if call sites are captured, the id of the code that called the operation.
+ * Capturing call sites walks the stack at every step, so it is considerably slower.
+ * </p>
+ * <p>
+ * While tracing is off, the check whether to trace is treated as a constant by the JIT compiler and removed from the
+ * compiled code.
+ * </p>
+ */
+public final class ProbableTrace {
+
+  static final int MAX_DEPTH = Math.max(1, Integer.getInteger("probably.trace.depth", 16));
+
+  private static final ProbableOperation[] OPERATIONS = ProbableOperation.values();
+  private static final int OPERATION_BITS = 8;
+  private static final int OPERATION_MASK = (1 << OPERATION_BITS) - 1;
+  private static final int MAX_CALL_SITES = (1 << (Integer.SIZE - 1 - OPERATION_BITS)) - 1;
+  private static final String PROBABLE_CLASS = Probable.class.getName();
+  private static final String TRACE_CLASS = ProbableTrace.class.getName();
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+  private static final MutableCallSite ENABLED_SITE = ProbableSwitch.create(Boolean.getBoolean("probably.trace"));
+  private static final MethodHandle ENABLED = ENABLED_SITE.dynamicInvoker();
+  private static final Map<String, Integer> CALL_SITE_IDS = new ConcurrentHashMap<>();
+  private static final List<String> CALL_SITES = new ArrayList<>();
+  private static final ProbableTrace EMPTY = new ProbableTrace(new int[] {0});
+  private static volatile boolean captureCallSites = Boolean.getBoolean("probably.trace.callSites");
+
+  private final int[] entries;
+
+  private ProbableTrace(int[] entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Start tracing operations, without capturing call sites.
+   */
+  public static void enable() {
+    captureCallSites = false;
+    ProbableSwitch.set(ENABLED_SITE, true);
+  }
+
+  /**
+   * Start tracing operations, including the code that called each operation.
+   */
+  public static void enableWithCallSites() {
+    captureCallSites = true;
+    ProbableSwitch.set(ENABLED_SITE, true);
+  }
+
+  /**
+   * Stop tracing operations. Existing traces are kept.
+   */
+  public static void disable() {
+    ProbableSwitch.set(ENABLED_SITE, false);
+  }
+
+  /**
+   * @return true if operations are being traced.
+   */
+  public static boolean isEnabled() {
+    return ProbableSwitch.isOn(ENABLED);
+  }
+
+  /**
+   * @return the number of steps in this trace, at most {@code -Dprobably.trace.depth}.
+   */
+  public int size() {
+    return entries.length - 1;
+  }
+
+  /**
+   * @return true if the Probable went through no traced operation.
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return the number of oldest steps that were dropped because the trace was full.
+   */
+  public int getDroppedCount() {
+    return entries[0] - size();
+  }
+
+  /**
+   * @param index the index of the step, from 0 (the oldest) to {@code size() - 1} (the most recent).
+   * @return the operation of the step.
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public ProbableOperation getOperation(int index) {
+    return OPERATIONS[entry(index) & OPERATION_MASK];
+  }
+
+  /**
+   * @param index the index of the step, from 0 (the oldest) to {@code size() - 1} (the most recent).
+   * @return the code that called the operation, as a stack trace element, or {@code null} if no call site was captured.
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public String getCallSite(int index) {
+    var id = entry(index) >>> OPERATION_BITS;
+    if (id == 0) {
+      return null;
+    }
+    synchronized (CALL_SITES) {
+      return CALL_SITES.get(id - 1);
+    }
+  }
+
+  @Override
+  public String toString() {
+    var builder = new StringBuilder();
+    if (getDroppedCount() > 0) {
+      builder.append("(").append(getDroppedCount()).append(" more)");
+    }
+    for (int i = 0; i < size(); i++) {
+      if (builder.length() > 0) {
+        builder.append(" -> ");
+      }
+      builder.append(getOperation(i));
+      var callSite = getCallSite(i);
+      if (callSite != null) {
+        builder.append(" at ").append(callSite);
+      }
+    }
+    return builder.toString();
+  }
+
+  static ProbableTrace of(int[] entries) {
+    return entries == null ? EMPTY : new ProbableTrace(entries);
+  }
+
+  /**
+   * Add a step to a trace. The first element of a trace holds the total number of steps, including dropped ones.
+   *
+   * @param entries   the trace of the source of the operation, or {@code null} if it has none.
+   * @param operation the operation to add.
+   * @return a new trace.
+   */
+  static int[] append(int[] entries, ProbableOperation operation) {
+    var entry = operation.ordinal();
+    if (captureCallSites) {
+      entry |= callSiteId() << OPERATION_BITS;
+    }
+    if (entries == null) {
+      return new int[] {1, entry};
+    }
+    int[] appended;
+    if (entries.length <= MAX_DEPTH) {
+      appended = Arrays.copyOf(entries, entries.length + 1);
+    } else {
+      appended = new int[entries.length];
+      System.arraycopy(entries, 2, appended, 1, entries.length - 2);
+    }
+    appended[appended.length - 1] = entry;
+    appended[0] = entries[0] + 1;
+    return appended;
+  }
+
+  private static int callSiteId() {
+    var callSite = STACK_WALKER.walk(frames -> frames.filter(frame -> !isInternal(frame.getClassName()))
+                                                    .findFirst()
+                                                    .map(frame -> frame.toStackTraceElement().toString())
+                                                    .orElse(null));
+    if (callSite == null) {
+      return 0;
+    }
+    return CALL_SITE_IDS.computeIfAbsent(callSite, ProbableTrace::register);
+  }
+
+  private static Integer register(String callSite) {
+    synchronized (CALL_SITES) {
+      if (CALL_SITES.size() >= MAX_CALL_SITES) {
+        return 0;
+      }
+      CALL_SITES.add(callSite);
+      return CALL_SITES.size();
+    }
+  }
+
+  private static boolean isInternal(String className) {
+    return className.equals(PROBABLE_CLASS)
+      || className.startsWith(PROBABLE_CLASS + "$")
+      || className.equals(TRACE_CLASS);
+  }
+
+  private int entry(int index) {
+    return entries[Objects.checkIndex(index, size()) + 1];
+  }
+
+}
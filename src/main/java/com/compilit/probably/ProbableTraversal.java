@@ -0,0 +1,134 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class ProbableTraversal<A, B> {
+
+  private static final int TASKS_PER_WORKER = 4;
+
+  private final Object[] input;
+  private final Object[] output;
+  private final Function<? super A, ? extends Probable<? extends B>> function;
+  private final AtomicReference<IndexedFailure> firstFailure = new AtomicReference<>();
+
+  private ProbableTraversal(List<A> input, Function<? super A, ? extends Probable<? extends B>> function) {
+    this.input = input.toArray();
+    this.output = new Object[this.input.length];
+    this.function = function;
+  }
+
+  static <A, B> Probable<List<B>> traverse(List<A> input,
+                                           Function<? super A, ? extends Probable<? extends B>> function) {
+    var traversal = new ProbableTraversal<A, B>(input, function);
+    for (int i = 0; i < traversal.input.length; i++) {
+      if (!traversal.apply(i)) {
+        break;
+      }
+    }
+    return traversal.result();
+  }
+
+  static <A, B> Probable<List<B>> traverseParallel(List<A> input,
+                                                   Function<? super A, ? extends Probable<? extends B>> function,
+                                                   ForkJoinPool pool) {
+    var traversal = new ProbableTraversal<A, B>(input, function);
+    var threshold = Math.max(1, traversal.input.length / (pool.getParallelism() * TASKS_PER_WORKER));
+    pool.invoke(traversal.new Segment(0, traversal.input.length, threshold));
+    return traversal.result();
+  }
+
+  /**
+   * Apply the function to the element at the given index, unless an element with a lower index has already failed.
+   *
+   * @return false if the traversal can stop, because this or an earlier element failed.
+   */
+  private boolean apply(int index) {
+    if (isSkipped(index)) {
+      return false;
+    }
+    Probable<? extends B> probable;
+    try {
+      probable = function.apply((A) input[index]);
+    } catch (Exception e) {
+      probable = Probable.failure(e, exceptionWasThrown(e));
+    }
+    if (probable != null && probable.hasFailed()) {
+      recordFailure(new IndexedFailure(index, probable));
+      return false;
+    }
+    output[index] = probable == null ? null : probable.get();
+    return true;
+  }
+
+  private boolean isSkipped(int index) {
+    var failure = firstFailure.get();
+    return failure != null && failure.index < index;
+  }
+
+  private void recordFailure(IndexedFailure failure) {
+    var current = firstFailure.get();
+    while ((current == null || failure.index < current.index) && !firstFailure.compareAndSet(current, failure)) {
+      current = firstFailure.get();
+    }
+  }
+
+  private Probable<List<B>> result() {
+    var failure = firstFailure.get();
+    if (failure != null) {
+      return (Probable<List<B>>) failure.probable;
+    }
+    return Probable.of(Collections.unmodifiableList(Arrays.asList((B[]) output)));
+  }
+
+  private static final class IndexedFailure {
+
+    private final int index;
+    private final Probable<?> probable;
+
+    private IndexedFailure(int index, Probable<?> probable) {
+      this.index = index;
+      this.probable = probable;
+    }
+  }
+
+  private final class Segment extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    private Segment(int from, int to, int threshold) {
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (isSkipped(from)) {
+        return;
+      }
+      if (to - from <= threshold) {
+        for (int i = from; i < to; i++) {
+          if (!apply(i)) {
+            return;
+          }
+        }
+        return;
+      }
+      var middle = (from + to) >>> 1;
+      invokeAll(new Segment(from, middle, threshold), new Segment(middle, to, threshold));
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.exceptionWasThrown;
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Checks a value against any number of rules and collects every violation, instead of stopping at the first one like
+ * {@link Probable#test(Predicate, String)}. Create one with {@link Probable#validate(Object)}:
+ * <pre>{@code
+ * Probable<Order> order = Probable.validate(dto)
+ *                                 .check(d -> d.getName() != null, "name is missing")
+ *                                 .check(d -> d.getAmount() > 0, INVALID_AMOUNT, dto.getAmount())
+ *                                 .result();
+ * }</pre>
+ * The result is a Probable.Value if every rule passed, or a single Probable.Failure that holds all violations (see
+ * {@link Probable#getViolations()}). A rule that throws an Exception counts as a violation with the message of the
+ * Exception. Nothing is recorded until the first rule fails. A ProbableValidation is not thread-safe and is meant to be
+ * used in a single chain.
+ *
+ * @param <T> the type of the validated value.
+ */
+public final class ProbableValidation<T> {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private final T value;
+  private ProbableViolation[] violations;
+  private int violationCount;
+
+  ProbableValidation(T value) {
+    this.value = value;
+  }
+
+  /**
+   * @param rule    the rule the value should pass.
+   * @param message the message of the violation if the value does not pass the rule.
+   * @return this validation.
+   * @throws NullPointerException if the rule or the message is {@code null}
+   */
+  public ProbableValidation<T> check(Predicate<? super T> rule, String message) {
+    Objects.requireNonNull(message, () -> paramRequired("message"));
+    return checkRule(rule, message, null, (Object[]) null);
+  }
+
+  /**
+   * @param rule            the rule the value should pass.
+   * @param message         the message of the violation if the value does not pass the rule, which may contain format
+   *                        specifiers like '%s'.
+   * @param formatArguments the arguments for the message, which are only formatted when the message is requested.
+   * @return this validation.
+   * @throws NullPointerException if the rule or the message is {@code null}
+   */
+  public ProbableValidation<T> check(Predicate<? super T> rule, String message, Object... formatArguments) {
+    Objects.requireNonNull(message, () -> paramRequired("message"));
+    return checkRule(rule, message, null, formatArguments);
+  }
+
+  /**
+   * @param rule        the rule the value should pass.
+   * @param failureCode the code of the violation if the value does not pass the rule.
+   * @return this validation.
+   * @throws NullPointerException if the rule or the failureCode is {@code null}
+   */
+  public ProbableValidation<T> check(Predicate<? super T> rule, FailureCode failureCode) {
+    Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+    return checkRule(rule, failureCode.getMessageTemplate(), failureCode, (Object[]) null);
+  }
+
+  /**
+   * @param rule            the rule the value should pass.
+   * @param failureCode     the code of the violation if the value does not pass the rule.
+   * @param formatArguments the arguments for the message template of the code.
+   * @return this validation.
+   * @throws NullPointerException if the rule or the failureCode is {@code null}
+   */
+  public ProbableValidation<T> check(Predicate<? super T> rule, FailureCode failureCode, Object... formatArguments) {
+    Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+    return checkRule(rule, failureCode.getMessageTemplate(), failureCode, formatArguments);
+  }
+
+  /**
+   * @return the number of rules the value did not pass so far.
+   */
+  public int getViolationCount() {
+    return violationCount;
+  }
+
+  /**
+   * @return a Probable.Value with the value if it passed every rule, a Probable.Nothing if the value is {@code null},
+   * or a Probable.Failure with all violations.
+   */
+  public Probable<T> result() {
+    if (violationCount == 0) {
+      return Probable.of(value);
+    }
+    return Probable.violated(Arrays.copyOf(violations, violationCount));
+  }
+
+  private ProbableValidation<T> checkRule(Predicate<? super T> rule,
+                                          String message,
+                                          FailureCode failureCode,
+                                          Object... formatArguments) {
+    Objects.requireNonNull(rule, () -> paramRequired("rule"));
+    if (value == null) {
+      return this;
+    }
+    try {
+      if (!rule.test(value)) {
+        add(new ProbableViolation(message, failureCode, formatArguments));
+      }
+    } catch (Exception e) {
+      add(new ProbableViolation(exceptionWasThrown(e), null));
+    }
+    return this;
+  }
+
+  private void add(ProbableViolation violation) {
+    if (violations == null) {
+      violations = new ProbableViolation[INITIAL_CAPACITY];
+    } else if (violationCount == violations.length) {
+      violations = Arrays.copyOf(violations, violationCount * 2);
+    }
+    violations[violationCount++] = violation;
+  }
+
+}
@@ -0,0 +1,148 @@
+package com.compilit.probably;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * The result of validating a batch of records with a {@link ProbableValidator}. The violated rules of every record are
+ * kept as bits, so the outcome of a single record is only turned into a Probable when it is requested.
+ *
+ * @param <T> the type of the records.
+ */
+public final class ProbableValidationReport<T> {
+
+  private final ProbableValidator<T> validator;
+  private final List<T> records;
+  private final long[] violations;
+  private final int words;
+  private final long[] ruleViolationCounts;
+  private final int invalidCount;
+
+  ProbableValidationReport(ProbableValidator<T> validator, List<T> records, long[] violations) {
+    this.validator = validator;
+    this.records = records;
+    this.violations = violations;
+    this.words = validator.words();
+    this.ruleViolationCounts = new long[validator.getRuleCount()];
+    var invalid = 0;
+    for (int record = 0; record < records.size(); record++) {
+      if (!isValid(record)) {
+        invalid++;
+        countViolations(record);
+      }
+    }
+    this.invalidCount = invalid;
+  }
+
+  /**
+   * @return the number of validated records.
+   */
+  public int size() {
+    return records.size();
+  }
+
+  /**
+   * @return the number of records that passed every rule, including {@code null} records.
+   */
+  public int getValidCount() {
+    return size() - invalidCount;
+  }
+
+  /**
+   * @return the number of records that violated at least one rule.
+   */
+  public int getInvalidCount() {
+    return invalidCount;
+  }
+
+  /**
+   * @param index the index of the record in the batch.
+   * @return true if the record passed every rule.
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public boolean isValid(int index) {
+    var offset = offset(index);
+    for (int word = 0; word < words; word++) {
+      if (violations[offset + word] != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param index the index of the record in the batch.
+   * @return the names of the rules the record violated, in the order the rules were added.
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public List<String> getViolatedRules(int index) {
+    var offset = offset(index);
+    var names = new ArrayList<String>();
+    for (int rule = 0; rule < ruleViolationCounts.length; rule++) {
+      if ((violations[offset + (rule >>> 6)] & (1L << rule)) != 0) {
+        names.add(validator.getRuleName(rule));
+      }
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * @param index the index of the record in the batch.
+   * @return the outcome of the record, exactly as {@link ProbableValidator#apply(Object)} would return it.
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public Probable<T> getOutcome(int index) {
+    return validator.outcome(records.get(index), violations, offset(index));
+  }
+
+  /**
+   * @return the indices of all records that violated at least one rule, in ascending order.
+   */
+  public IntStream invalidIndices() {
+    return IntStream.range(0, size()).filter(index -> !isValid(index));
+  }
+
+  /**
+   * @param ruleName the name of a rule.
+   * @return the number of records that violated the rule(s) with the given name.
+   */
+  public long getViolationCount(String ruleName) {
+    var count = 0L;
+    for (int rule = 0; rule < ruleViolationCounts.length; rule++) {
+      if (validator.getRuleName(rule).equals(ruleName)) {
+        count += ruleViolationCounts[rule];
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return the number of records that violated each rule, by rule name, in the order the rules were added.
+   */
+  public Map<String, Long> getViolationCounts() {
+    var counts = new LinkedHashMap<String, Long>();
+    for (int rule = 0; rule < ruleViolationCounts.length; rule++) {
+      counts.merge(validator.getRuleName(rule), ruleViolationCounts[rule], Long::sum);
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  private void countViolations(int record) {
+    var offset = record * words;
+    for (int rule = 0; rule < ruleViolationCounts.length; rule++) {
+      if ((violations[offset + (rule >>> 6)] & (1L << rule)) != 0) {
+        ruleViolationCounts[rule]++;
+      }
+    }
+  }
+
+  private int offset(int index) {
+    return Objects.checkIndex(index, size()) * words;
+  }
+
+}
@@ -0,0 +1,229 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@code ProbableValidator} checks many records against the same named rules, collecting every violation like a
+ * {@link ProbableValidation}. The rules are recorded once and kept in an array, and a batch of records is validated
+ * into a single {@link ProbableValidationReport}: no Probables, messages or events are created per record, and records
+ * that pass every rule cause no allocation at all. Validate a batch sequentially or in parallel:
+ * <pre>{@code
+ * ProbableValidator<Order> validator = Probable.<Order>validator()
+ *                                             .rule("name", o -> o.getName() != null, "name is missing")
+ *                                             .rule("amount", o -> o.getAmount() > 0, INVALID_AMOUNT);
+ * ProbableValidationReport<Order> report = validator.validateInParallel(orders);
+ * }</pre>
+ * A rule that throws an Exception counts as violated. Rules are not checked against {@code null} records.
+ * <p>
+ * Validators are immutable: every rule returns a new validator, so a validator can be built once and safely shared
+ * between threads.
+ * </p>
+ *
+ * @param <T> the type of the records.
+ */
+public final class ProbableValidator<T> implements Function<T, Probable<T>> {
+
+  private static final ProbableValidator<?> EMPTY = new ProbableValidator<>(new Rule[0]);
+
+  private final Rule[] rules;
+  private final Object[] predicates;
+
+  private ProbableValidator(Rule[] rules) {
+    this.rules = rules;
+    this.predicates = new Object[rules.length];
+    for (int rule = 0; rule < rules.length; rule++) {
+      predicates[rule] = rules[rule].predicate;
+    }
+  }
+
+  static <T> ProbableValidator<T> empty() {
+    return (ProbableValidator<T>) EMPTY;
+  }
+
+  /**
+   * @param name    the name of the rule, under which its violations are counted.
+   * @param rule    the rule every record should pass.
+   * @param message the message of the violation if a record does not pass the rule.
+   * @return a new validator with the rule added.
+   * @throws NullPointerException if the name, the rule or the message is {@code null}
+   */
+  public ProbableValidator<T> rule(String name, Predicate<? super T> rule, String message) {
+    Objects.requireNonNull(message, () -> paramRequired("message"));
+    return with(name, rule, message, null);
+  }
+
+  /**
+   * @param name        the name of the rule, under which its violations are counted.
+   * @param rule        the rule every record should pass.
+   * @param failureCode the code of the violation if a record does not pass the rule.
+   * @return a new validator with the rule added.
+   * @throws NullPointerException if the name, the rule or the failureCode is {@code null}
+   */
+  public ProbableValidator<T> rule(String name, Predicate<? super T> rule, FailureCode failureCode) {
+    Objects.requireNonNull(failureCode, () -> paramRequired("failureCode"));
+    return with(name, rule, failureCode.getMessageTemplate(), failureCode);
+  }
+
+  /**
+   * Validate a single record.
+   *
+   * @param record the nullable record.
+   * @return a Probable.Value with the record if it passed every rule, a Probable.Nothing if the record is {@code null},
+   * or a Probable.Failure with all violations (see {@link Probable#getViolations()}).
+   */
+  @Override
+  public Probable<T> apply(T record) {
+    var violations = new long[words()];
+    evaluate(record, violations, 0);
+    return outcome(record, violations, 0);
+  }
+
+  /**
+   * @param records the records to validate, one after the other.
+   * @return the report of all records, in the order of the list.
+   * @throws NullPointerException if the list is {@code null}
+   */
+  public ProbableValidationReport<T> validate(List<? extends T> records) {
+    Objects.requireNonNull(records, () -> paramRequired("records"));
+    return validate(records, false);
+  }
+
+  /**
+   * @param records the records to validate, in parallel on the common ForkJoinPool.
+   * @return the report of all records, in the order of the list.
+   * @throws NullPointerException if the list is {@code null}
+   */
+  public ProbableValidationReport<T> validateInParallel(List<? extends T> records) {
+    Objects.requireNonNull(records, () -> paramRequired("records"));
+    return validate(records, true);
+  }
+
+  /**
+   * @param records the records to validate, one after the other.
+   * @return the report of all records, in the order of the array.
+   * @throws NullPointerException if the array is {@code null}
+   */
+  public ProbableValidationReport<T> validate(T[] records) {
+    Objects.requireNonNull(records, () -> paramRequired("records"));
+    return validate(Arrays.asList(records), false);
+  }
+
+  /**
+   * @param records the records to validate, in parallel on the common ForkJoinPool.
+   * @return the report of all records, in the order of the array.
+   * @throws NullPointerException if the array is {@code null}
+   */
+  public ProbableValidationReport<T> validateInParallel(T[] records) {
+    Objects.requireNonNull(records, () -> paramRequired("records"));
+    return validate(Arrays.asList(records), true);
+  }
+
+  /**
+   * @param records the records to validate, in parallel if the stream is parallel.
+   * @return the report of all records, in the encounter order of the stream.
+   * @throws NullPointerException if the stream is {@code null}
+   */
+  public ProbableValidationReport<T> validate(Stream<? extends T> records) {
+    Objects.requireNonNull(records, () -> paramRequired("records"));
+    var parallel = records.isParallel();
+    return validate(records.collect(Collectors.toList()), parallel);
+  }
+
+  int getRuleCount() {
+    return rules.length;
+  }
+
+  String getRuleName(int rule) {
+    return rules[rule].name;
+  }
+
+  int words() {
+    return Math.max(1, (rules.length + Long.SIZE - 1) / Long.SIZE);
+  }
+
+  Probable<T> outcome(T record, long[] violations, int offset) {
+    var count = 0;
+    for (int word = 0; word < words(); word++) {
+      count += Long.bitCount(violations[offset + word]);
+    }
+    if (count == 0) {
+      return Probable.of(record);
+    }
+    var result = new ProbableViolation[count];
+    var index = 0;
+    for (int rule = 0; rule < rules.length; rule++) {
+      if ((violations[offset + (rule >>> 6)] & (1L << rule)) != 0) {
+        result[index++] = new ProbableViolation(rules[rule].message, rules[rule].failureCode);
+      }
+    }
+    return Probable.violated(result);
+  }
+
+  private ProbableValidationReport<T> validate(List<? extends T> records, boolean parallel) {
+    var words = words();
+    var violations = new long[records.size() * words];
+    if (parallel) {
+      IntStream.range(0, records.size())
+               .parallel()
+               .forEach(index -> evaluate(records.get(index), violations, index * words));
+    } else {
+      for (int index = 0; index < records.size(); index++) {
+        evaluate(records.get(index), violations, index * words);
+      }
+    }
+    return new ProbableValidationReport<>(this, (List<T>) records, violations);
+  }
+
+  private void evaluate(T record, long[] violations, int offset) {
+    if (record == null) {
+      return;
+    }
+    var compiled = predicates;
+    for (int rule = 0; rule < compiled.length; rule++) {
+      if (!passes((Predicate<Object>) compiled[rule], record)) {
+        violations[offset + (rule >>> 6)] |= 1L << rule;
+      }
+    }
+  }
+
+  private static boolean passes(Predicate<Object> predicate, Object record) {
+    try {
+      return predicate.test(record);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private ProbableValidator<T> with(String name, Predicate<? super T> predicate, String message, FailureCode code) {
+    Objects.requireNonNull(name, () -> paramRequired("name"));
+    Objects.requireNonNull(predicate, () -> paramRequired("rule"));
+    var newRules = Arrays.copyOf(rules, rules.length + 1);
+    newRules[rules.length] = new Rule(name, (Predicate<Object>) predicate, message, code);
+    return new ProbableValidator<>(newRules);
+  }
+
+  private static final class Rule {
+
+    private final String name;
+    private final Predicate<Object> predicate;
+    private final String message;
+    private final FailureCode failureCode;
+
+    private Rule(String name, Predicate<Object> predicate, String message, FailureCode failureCode) {
+      this.name = name;
+      this.predicate = predicate;
+      this.message = message;
+      this.failureCode = failureCode;
+    }
+  }
+
+}
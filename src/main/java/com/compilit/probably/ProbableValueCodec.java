@@ -0,0 +1,69 @@
+package com.compilit.probably;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the values of Probables into, and reads them from, the buffers of a {@link ProbableCodec}. A value codec is
+ * only called for a Probable.Value, so it never has to deal with {@code null}. Built-in codecs exist for Strings and
+ * the boxed primitives; anything else can be implemented in a few lines:
+ * <pre>{@code
+ * ProbableValueCodec<UUID> uuids = new ProbableValueCodec<>() {
+ *   public void write(UUID value, ByteBuffer buffer) {
+ *     buffer.putLong(value.getMostSignificantBits()).putLong(value.getLeastSignificantBits());
+ *   }
+ *   public UUID read(ByteBuffer buffer) {
+ *     return new UUID(buffer.getLong(), buffer.getLong());
+ *   }
+ * };
+ * }</pre>
+ * A value codec may throw any RuntimeException; the ProbableCodec turns it into a Probable.Failure.
+ *
+ * @param <T> the type of the values.
+ */
+public interface ProbableValueCodec<T> {
+
+  /**
+   * Write a value at the position of the buffer, advancing the position.
+   *
+   * @param value  the non-{@code null} value.
+   * @param buffer the buffer to write into.
+   */
+  void write(T value, ByteBuffer buffer);
+
+  /**
+   * Read a value at the position of the buffer, advancing the position.
+   *
+   * @param buffer the buffer to read from.
+   * @return the non-{@code null} value.
+   */
+  T read(ByteBuffer buffer);
+
+  /**
+   * @return a codec that writes Strings as UTF-8, prefixed by their length.
+   */
+  static ProbableValueCodec<String> strings() {
+    return BuiltInValueCodecs.STRINGS;
+  }
+
+  /**
+   * @return a codec that writes Integers as variable-length numbers of one to five bytes.
+   */
+  static ProbableValueCodec<Integer> ints() {
+    return BuiltInValueCodecs.INTS;
+  }
+
+  /**
+   * @return a codec that writes Longs as variable-length numbers of one to ten bytes.
+   */
+  static ProbableValueCodec<Long> longs() {
+    return BuiltInValueCodecs.LONGS;
+  }
+
+  /**
+   * @return a codec that writes Doubles as eight bytes, in big-endian order regardless of the order of the buffer.
+   */
+  static ProbableValueCodec<Double> doubles() {
+    return BuiltInValueCodecs.DOUBLES;
+  }
+
+}
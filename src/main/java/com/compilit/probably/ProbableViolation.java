@@ -0,0 +1,71 @@
+package com.compilit.probably;
+
+import java.util.Objects;
+
+/**
+ * A single rule that a value did not pass during a {@link ProbableValidation}. The message is formatted lazily and
+ * without a lock, like the message of a Probable.
+ */
+public final class ProbableViolation {
+
+  private final String messageTemplate;
+  private final Object[] formatArguments;
+  private final FailureCode failureCode;
+  private volatile String message;
+
+  ProbableViolation(String messageTemplate, FailureCode failureCode, Object... formatArguments) {
+    this.messageTemplate = messageTemplate;
+    this.failureCode = failureCode;
+    if (formatArguments == null || formatArguments.length == 0) {
+      this.formatArguments = null;
+      this.message = messageTemplate;
+    } else {
+      this.formatArguments = formatArguments.clone();
+    }
+  }
+
+  /**
+   * @return the message of the violated rule.
+   */
+  public String getMessage() {
+    var formattedMessage = message;
+    if (formattedMessage == null) {
+      formattedMessage = MessageFormatter.formatMessage(messageTemplate, formatArguments);
+      message = formattedMessage;
+    }
+    return formattedMessage;
+  }
+
+  /**
+   * @return the FailureCode of the violated rule, or {@code null} if the rule was checked with a message.
+   */
+  public FailureCode getFailureCode() {
+    return failureCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof ProbableViolation) {
+      var other = (ProbableViolation) obj;
+      return Objects.equals(failureCode, other.failureCode) && getMessage().equals(other.getMessage());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(failureCode, getMessage());
+  }
+
+  /**
+   * @return the message of the violated rule.
+   */
+  @Override
+  public String toString() {
+    return getMessage();
+  }
+
+}
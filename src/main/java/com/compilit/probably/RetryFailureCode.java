@@ -0,0 +1,93 @@
+package com.compilit.probably;
+
+/**
+ * The {@link FailureCode} of the Probable.Failure that {@link Probable#retry(java.util.function.Supplier, RetryPolicy)}
+ * returns once its policy gives up. Besides the reason, it carries the number of attempts that were made, so callers
+ * do not have to parse the message:
+ * <pre>{@code
+ * if (probable.getFailureCode() instanceof RetryFailureCode) {
+ *   var retryFailure = (RetryFailureCode) probable.getFailureCode();
+ *   metrics.record(retryFailure.getAttempts(), retryFailure.isTimeBudgetExhausted());
+ * }
+ * }</pre>
+ * The numeric values are negative, so they do not collide with the codes of an application. Two RetryFailureCodes are
+ * equal if their numeric values and their numbers of attempts are equal.
+ */
+public final class RetryFailureCode implements FailureCode {
+
+  /**
+   * The numeric value of a code for a policy that ran out of attempts.
+   */
+  public static final int RETRIES_EXHAUSTED = -1;
+
+  /**
+   * The numeric value of a code for a policy whose time budget would have run out before the next attempt.
+   */
+  public static final int TIME_BUDGET_EXHAUSTED = -2;
+
+  private final int code;
+  private final int attempts;
+
+  private RetryFailureCode(int code, int attempts) {
+    this.code = code;
+    this.attempts = attempts;
+  }
+
+  static RetryFailureCode retriesExhausted(int attempts) {
+    return new RetryFailureCode(RETRIES_EXHAUSTED, attempts);
+  }
+
+  static RetryFailureCode timeBudgetExhausted(int attempts) {
+    return new RetryFailureCode(TIME_BUDGET_EXHAUSTED, attempts);
+  }
+
+  /**
+   * @return {@link #RETRIES_EXHAUSTED} or {@link #TIME_BUDGET_EXHAUSTED}.
+   */
+  @Override
+  public int getCode() {
+    return code;
+  }
+
+  @Override
+  public String getMessageTemplate() {
+    return isTimeBudgetExhausted() ? Messages.RETRY_BUDGET_EXHAUSTED : Messages.RETRIES_EXHAUSTED;
+  }
+
+  /**
+   * @return the number of times the supplier was called, including the first one.
+   */
+  public int getAttempts() {
+    return attempts;
+  }
+
+  /**
+   * @return true if the policy gave up because of its time budget, false if it ran out of attempts.
+   */
+  public boolean isTimeBudgetExhausted() {
+    return code == TIME_BUDGET_EXHAUSTED;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof RetryFailureCode) {
+      var other = (RetryFailureCode) obj;
+      return code == other.code && attempts == other.attempts;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Integer.hashCode(code) + Integer.hashCode(attempts);
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(code);
+  }
+
+}
@@ -0,0 +1,222 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often and how fast {@link Probable#retry(java.util.function.Supplier, RetryPolicy)} repeats a supplier
+ * that resulted in a Probable.Failure. A RetryPolicy is immutable; every {@code with...} method returns a new policy.
+ * <p>
+ * By default every Probable.Failure is retried. Use {@link #retryingOn(Class[])} to only retry failures that were
+ * caused by one of the given exception types. A Probable.Value or Probable.Nothing is never retried.
+ * </p>
+ */
+public final class RetryPolicy {
+
+  private static final Class<?>[] ANY_EXCEPTION = new Class<?>[0];
+
+  private final int maxAttempts;
+  private final long initialDelayNanos;
+  private final long maxDelayNanos;
+  private final double multiplier;
+  private final double jitter;
+  private final Duration timeBudget;
+  private final long timeBudgetNanos;
+  private final Class<?>[] retryableExceptions;
+
+  private RetryPolicy(int maxAttempts,
+                      long initialDelayNanos,
+                      long maxDelayNanos,
+                      double multiplier,
+                      double jitter,
+                      Duration timeBudget,
+                      Class<?>[] retryableExceptions) {
+    this.maxAttempts = maxAttempts;
+    this.initialDelayNanos = initialDelayNanos;
+    this.maxDelayNanos = maxDelayNanos;
+    this.multiplier = multiplier;
+    this.jitter = jitter;
+    this.timeBudget = timeBudget;
+    this.timeBudgetNanos = toNanos(timeBudget);
+    this.retryableExceptions = retryableExceptions;
+  }
+
+  /**
+   * @param maxAttempts the maximum number of attempts, including the first one.
+   * @param delay       the delay between two attempts.
+   * @return a policy that waits the same delay before every retry.
+   * @throws NullPointerException if the delay is {@code null}
+   */
+  public static RetryPolicy fixedDelay(int maxAttempts, Duration delay) {
+    Objects.requireNonNull(delay, () -> paramRequired("delay"));
+    var delayNanos = toNanos(delay);
+    return new RetryPolicy(maxAttempts, delayNanos, delayNanos, 1, 0, Probable.UNBOUNDED, ANY_EXCEPTION);
+  }
+
+  /**
+   * @param maxAttempts  the maximum number of attempts, including the first one.
+   * @param initialDelay the delay before the first retry.
+   * @param maxDelay     the upper bound of the delay between two attempts.
+   * @return a policy that doubles the delay after every retry, up to the maxDelay.
+   * @throws NullPointerException if the initialDelay or maxDelay is {@code null}
+   */
+  public static RetryPolicy exponentialBackoff(int maxAttempts, Duration initialDelay, Duration maxDelay) {
+    Objects.requireNonNull(initialDelay, () -> paramRequired("initialDelay"));
+    Objects.requireNonNull(maxDelay, () -> paramRequired("maxDelay"));
+    return new RetryPolicy(
+      maxAttempts,
+      toNanos(initialDelay),
+      toNanos(maxDelay),
+      2,
+      0,
+      Probable.UNBOUNDED,
+      ANY_EXCEPTION
+    );
+  }
+
+  /**
+   * Randomize the delays, so that many callers that failed at the same time do not retry at the same time. A jitter of
+   * 0.5 shortens every delay by a random fraction between 0 and 50%, a jitter of 1 picks a random delay between 0 and
+   * the computed delay. Values outside of [0, 1] are clamped.
+   *
+   * @param jitter the fraction of the delay that is randomized.
+   * @return a new policy with the given jitter.
+   */
+  public RetryPolicy withJitter(double jitter) {
+    var clamped = Double.isNaN(jitter) ? 0 : Math.max(0, Math.min(1, jitter));
+    return new RetryPolicy(
+      maxAttempts,
+      initialDelayNanos,
+      maxDelayNanos,
+      multiplier,
+      clamped,
+      timeBudget,
+      retryableExceptions
+    );
+  }
+
+  /**
+   * Bound the total duration of all attempts and delays. No retry is started if its delay would end after the time
+   * budget.
+   *
+   * @param timeBudget the maximum duration of all attempts together.
+   * @return a new policy with the given time budget.
+   * @throws NullPointerException if the timeBudget is {@code null}
+   */
+  public RetryPolicy withTimeBudget(Duration timeBudget) {
+    Objects.requireNonNull(timeBudget, () -> paramRequired("timeBudget"));
+    return new RetryPolicy(
+      maxAttempts,
+      initialDelayNanos,
+      maxDelayNanos,
+      multiplier,
+      jitter,
+      timeBudget,
+      retryableExceptions
+    );
+  }
+
+  /**
+   * Only retry failures that were caused by an exception of one of the given types, or one of their subtypes.
+   *
+   * @param exceptionTypes the exception types that are worth retrying.
+   * @return a new policy that only retries the given exception types.
+   * @throws NullPointerException if the exceptionTypes, or one of them, is {@code null}
+   */
+  @SafeVarargs
+  public final RetryPolicy retryingOn(Class<? extends Exception>... exceptionTypes) {
+    Objects.requireNonNull(exceptionTypes, () -> paramRequired("exceptionTypes"));
+    var retryable = new Class<?>[exceptionTypes.length];
+    for (int i = 0; i < exceptionTypes.length; i++) {
+      retryable[i] = Objects.requireNonNull(exceptionTypes[i], () -> paramRequired("exceptionType"));
+    }
+    return new RetryPolicy(
+      maxAttempts,
+      initialDelayNanos,
+      maxDelayNanos,
+      multiplier,
+      jitter,
+      timeBudget,
+      retryable
+    );
+  }
+
+  /**
+   * @return the maximum number of attempts, including the first one.
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * @return the maximum duration of all attempts together.
+   */
+  public Duration getTimeBudget() {
+    return timeBudget;
+  }
+
+  /**
+   * @return a Probable.Failure describing why this policy cannot be used, or {@code null} if it is valid.
+   */
+  Probable<?> validate() {
+    if (maxAttempts < 1) {
+      return Probable.failure(Messages.INVALID_MAX_ATTEMPTS, maxAttempts);
+    }
+    if (initialDelayNanos < 0 || maxDelayNanos < 0 || timeBudgetNanos < 0) {
+      return Probable.failure(Messages.NEGATIVE_DURATION);
+    }
+    return null;
+  }
+
+  long getTimeBudgetNanos() {
+    return timeBudgetNanos;
+  }
+
+  /**
+   * @param outcome the outcome of an attempt.
+   * @return true if the outcome is a failure that this policy retries.
+   */
+  boolean isRetryable(Probable<?> outcome) {
+    if (!outcome.hasFailed()) {
+      return false;
+    }
+    if (retryableExceptions.length == 0) {
+      return true;
+    }
+    var exception = outcome.getException();
+    for (var exceptionType : retryableExceptions) {
+      if (exceptionType.isInstance(exception)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param failedAttempts the number of attempts that failed so far, at least 1.
+   * @return the delay before the next attempt, in nanoseconds.
+   */
+  long delayNanos(int failedAttempts) {
+    var delay = (double) initialDelayNanos;
+    for (int i = 1; i < failedAttempts && delay < maxDelayNanos; i++) {
+      delay *= multiplier;
+    }
+    delay = Math.min(delay, maxDelayNanos);
+    if (jitter > 0) {
+      delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+    }
+    return (long) delay;
+  }
+
+  private static long toNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.Messages.paramRequired;
+
+import java.util.Objects;
+
+final class SimpleFailureCode implements FailureCode {
+
+  private final int code;
+  private final String messageTemplate;
+
+  SimpleFailureCode(int code, String messageTemplate) {
+    this.code = code;
+    this.messageTemplate = Objects.requireNonNull(messageTemplate, () -> paramRequired("messageTemplate"));
+  }
+
+  @Override
+  public int getCode() {
+    return code;
+  }
+
+  @Override
+  public String getMessageTemplate() {
+    return messageTemplate;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof SimpleFailureCode) {
+      return code == ((SimpleFailureCode) obj).code;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Integer.hashCode(code);
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(code);
+  }
+
+}
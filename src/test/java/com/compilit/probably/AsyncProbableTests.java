@@ -0,0 +1,127 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncProbableTests {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void async_successfulSupplier_shouldCompleteWithValue() {
+    var probable = Probable.async(() -> TEST_VALUE, executor)
+                           .map(String::length)
+                           .test(x -> x > 0)
+                           .flatMap(x -> Probable.of(x * 2))
+                           .join();
+    ProbableAssertions.assertThat(probable).hasValue(TEST_VALUE.length() * 2);
+  }
+
+  @Test
+  void async_shouldNotBlockCaller() {
+    var release = new CompletableFuture<String>();
+    var async = Probable.async(release::join, executor).map(String::length);
+    assertThat(async.toCompletableFuture()).isNotDone();
+    release.complete(TEST_VALUE);
+    ProbableAssertions.assertThat(async.join()).hasValue(TEST_VALUE.length());
+  }
+
+  @Test
+  void async_throwingSupplier_shouldCompleteWithFailure() {
+    var probable = Probable.<String>async(() -> {throw new IllegalStateException(TEST_MESSAGE);}, executor).join();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void async_rejectingExecutor_shouldCompleteWithFailure() {
+    Executor rejecting = command -> {throw new RejectedExecutionException(TEST_MESSAGE);};
+    var async = Probable.async(() -> TEST_VALUE, rejecting);
+    assertThat(async.toCompletableFuture()).isCompleted();
+    ProbableAssertions.assertThat(async.join())
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void map_throwingFunction_shouldCompleteWithFailure() {
+    var probable = Probable.async(() -> TEST_VALUE, executor)
+                           .map(x -> {throw new IllegalStateException(TEST_MESSAGE);})
+                           .join();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void of_exceptionalStage_shouldCompleteWithFailure() {
+    var stage = CompletableFuture.<String>failedFuture(new IllegalStateException(TEST_MESSAGE));
+    var probable = AsyncProbable.of(stage, executor).map(String::length).join();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+    assertThat(probable.getException()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void or_failure_shouldCompleteWithOther() {
+    var probable = AsyncProbable.of(Probable.<String>failure(TEST_MESSAGE), executor)
+                                .or(() -> Probable.of(TEST_VALUE))
+                                .join();
+    ProbableAssertions.assertThat(probable).hasValue(TEST_VALUE);
+  }
+
+  @Test
+  void or_throwingSupplier_shouldCompleteWithFailure() {
+    var probable = AsyncProbable.of(Probable.<String>nothing(), executor)
+                                .or(() -> {throw new IllegalStateException(TEST_MESSAGE);})
+                                .join();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void thenAccept_value_shouldRunOnExecutor() {
+    var thread = new AtomicReference<Thread>();
+    Probable.async(() -> TEST_VALUE, executor)
+            .thenAccept(x -> thread.set(Thread.currentThread()))
+            .join();
+    assertThat(thread.get()).isNotEqualTo(Thread.currentThread());
+  }
+
+  @Test
+  void flatMapAsync_value_shouldChainAsyncProcess() {
+    var probable = Probable.async(() -> TEST_VALUE, executor)
+                           .flatMapAsync(x -> Probable.async(x::length, executor))
+                           .join();
+    ProbableAssertions.assertThat(probable).hasValue(TEST_VALUE.length());
+  }
+
+  @Test
+  void flatMapAsync_failure_shouldPropagateFailure() {
+    var failure = Probable.<String>failure(TEST_MESSAGE);
+    var probable = AsyncProbable.of(failure, executor)
+                                .flatMapAsync(x -> Probable.async(x::length, executor))
+                                .join();
+    assertThat(probable).isSameAs(failure);
+  }
+
+}
@@ -0,0 +1,159 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyProbableTests {
+
+  @Test
+  void lazy_notAccessed_shouldNotCallSupplier() {
+    var calls = new AtomicInteger();
+    var lazy = Probable.lazy(calls::incrementAndGet)
+                       .map(x -> x * 2)
+                       .test(x -> x > 0)
+                       .flatMap(Probable::of);
+    assertThat(calls).hasValue(0);
+    assertThat(lazy.isResolved()).isFalse();
+    assertThat(lazy.get()).isEqualTo(2);
+    assertThat(lazy.isResolved()).isTrue();
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void lazy_accessedMultipleTimes_shouldCallSupplierOnce() {
+    var calls = new AtomicInteger();
+    var lazy = Probable.lazy(() -> calls.incrementAndGet() + TEST_VALUE);
+    assertThat(lazy.hasValue()).isTrue();
+    assertThat(lazy.getMessage()).isEqualTo(Messages.NOTHING_TO_REPORT);
+    assertThat(lazy.resolve()).isSameAs(lazy.resolve());
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void lazy_accessedConcurrently_shouldCallSupplierOnce() throws Exception {
+    var calls = new AtomicInteger();
+    var start = new CountDownLatch(1);
+    var lazy = Probable.lazy(() -> {
+      calls.incrementAndGet();
+      return TEST_VALUE;
+    });
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var futures = new ArrayList<Future<Probable<String>>>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return lazy.resolve();
+        }));
+      }
+      start.countDown();
+      var first = futures.get(0).get(5, TimeUnit.SECONDS);
+      for (var future : futures) {
+        assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void lazy_supplierThrowsError_shouldRunAgainOnNextAccess() {
+    var calls = new AtomicInteger();
+    var lazy = Probable.lazy(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new AssertionError(TEST_MESSAGE);
+      }
+      return TEST_VALUE;
+    });
+    assertThatThrownBy(lazy::resolve).isInstanceOf(AssertionError.class).hasMessage(TEST_MESSAGE);
+    assertThat(lazy.isResolved()).isFalse();
+    ProbableAssertions.assertThat(lazy.resolve()).hasValue(TEST_VALUE);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void or_fallbackSupplierThrows_shouldPropagateAndRunAgainOnNextAccess() {
+    var calls = new AtomicInteger();
+    var lazy = Probable.<String>lazy(() -> null).or(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException(TEST_MESSAGE);
+      }
+      return Probable.of(TEST_VALUE);
+    });
+    assertThatThrownBy(lazy::resolve).isInstanceOf(IllegalStateException.class).hasMessage(TEST_MESSAGE);
+    assertThat(lazy.isResolved()).isFalse();
+    ProbableAssertions.assertThat(lazy.resolve()).hasValue(TEST_VALUE);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void lazy_throwingSupplier_shouldResolveIntoFailure() {
+    var lazy = Probable.<String>lazy(() -> {
+      throw new IllegalStateException(TEST_MESSAGE);
+    });
+    ProbableAssertions.assertThat(lazy.resolve())
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+    assertThat(lazy.getException()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void lazy_throwingMapping_shouldResolveIntoFailure() {
+    var lazy = Probable.lazy(() -> TEST_VALUE)
+                       .map(x -> {throw new IllegalStateException(TEST_MESSAGE);});
+    assertThat(lazy.hasFailed()).isTrue();
+    assertThat(lazy.getMessage()).isEqualTo(TEST_MESSAGE);
+  }
+
+  @Test
+  void or_primaryHasValue_shouldNotResolveFallback() {
+    var fallback = Probable.lazy(() -> "fallback");
+    var lazy = Probable.lazy(() -> TEST_VALUE).or(fallback);
+    assertThat(lazy.get()).isEqualTo(TEST_VALUE);
+    assertThat(fallback.isResolved()).isFalse();
+  }
+
+  @Test
+  void or_primaryFailed_shouldResolveFallback() {
+    var calls = new AtomicInteger();
+    var lazy = Probable.<String>lazy(() -> null)
+                       .test(x -> false, TEST_MESSAGE)
+                       .or(() -> {
+                         calls.incrementAndGet();
+                         return Probable.of(TEST_VALUE);
+                       });
+    assertThat(calls).hasValue(0);
+    assertThat(lazy.get()).isEqualTo(TEST_VALUE);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void resolve_recursiveAccess_shouldReturnFailure() {
+    var holder = new ArrayList<LazyProbable<String>>();
+    holder.add(new LazyProbable<>(() -> holder.get(0).resolve()));
+    ProbableAssertions.assertThat(holder.get(0).resolve())
+                      .hasFailed()
+                      .hasMessage(Messages.RECURSIVE_RESOLUTION);
+  }
+
+  @Test
+  void toString_notResolved_shouldNotResolve() {
+    var lazy = Probable.lazy(() -> TEST_VALUE);
+    assertThat(lazy).hasToString(Messages.NOT_RESOLVED);
+    lazy.resolve();
+    assertThat(lazy).hasToString(TEST_VALUE);
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class ProbableAllocationTests {
+
+  private static final int WARMUP_ITERATIONS = 10_000;
+
+  private final com.sun.management.ThreadMXBean threadMXBean =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @BeforeEach
+  void disableDebugLogging() {
+    Logger logger = (Logger) LoggerFactory.getLogger(Probable.class);
+    logger.setLevel(Level.INFO);
+  }
+
+  @Test
+  void nothing_shouldReturnSharedInstance() {
+    assertThat(Probable.nothing()).isSameAs(Probable.nothing());
+    assertThat(Probable.of((Object) null)).isSameAs(Probable.nothing());
+  }
+
+  @Test
+  void of_booleanOrEnum_shouldReturnSharedInstance() {
+    assertThat(Probable.of(true)).isSameAs(Probable.of(Boolean.TRUE));
+    assertThat(Probable.of(false)).isSameAs(Probable.value(false));
+    assertThat(Probable.of(TimeUnit.SECONDS)).isSameAs(Probable.of(TimeUnit.SECONDS));
+    assertThat(Probable.of(TimeUnit.SECONDS).get()).isEqualTo(TimeUnit.SECONDS);
+  }
+
+  @Test
+  void map_failure_shouldReturnSameInstance() {
+    var failure = Probable.<String>failure(TEST_MESSAGE);
+    assertThat(failure.map(String::length)).isSameAs(failure);
+    assertThat(failure.flatMap(Probable::of)).isSameAs(failure);
+    assertThat(failure.test(x -> x.equals(TEST_VALUE))).isSameAs(failure);
+  }
+
+  @Test
+  void chain_failure_shouldNotAllocate() {
+    var failure = Probable.<String>failure(TEST_MESSAGE);
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      tenStepChain(failure);
+    }
+    var threadId = Thread.currentThread().getId();
+    threadMXBean.getThreadAllocatedBytes(threadId);
+    var before = threadMXBean.getThreadAllocatedBytes(threadId);
+    var result = tenStepChain(failure);
+    var after = threadMXBean.getThreadAllocatedBytes(threadId);
+    assertThat(result).isSameAs(failure);
+    assertThat(after - before).isZero();
+  }
+
+  @Test
+  void chain_nothing_shouldNotAllocate() {
+    var nothing = Probable.<String>nothing();
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      tenStepChain(nothing);
+    }
+    var threadId = Thread.currentThread().getId();
+    threadMXBean.getThreadAllocatedBytes(threadId);
+    var before = threadMXBean.getThreadAllocatedBytes(threadId);
+    var result = tenStepChain(nothing);
+    var after = threadMXBean.getThreadAllocatedBytes(threadId);
+    assertThat(result).isSameAs(nothing);
+    assertThat(after - before).isZero();
+  }
+
+  private static Probable<String> tenStepChain(Probable<String> probable) {
+    return probable.map(String::trim)
+                   .flatMap(Probable::of)
+                   .test(x -> !x.isEmpty())
+                   .map(String::toUpperCase)
+                   .test(x -> x.startsWith("T"), TEST_MESSAGE)
+                   .thenAccept(x -> {})
+                   .flatMap(x -> Probable.of(x.toLowerCase()))
+                   .map(x -> x + TEST_VALUE)
+                   .test(x -> x.contains(TEST_VALUE))
+                   .map(String::strip);
+  }
+
+}
@@ -0,0 +1,133 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProbableCacheTests {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void get_repeatedKey_shouldLoadOnce() {
+    var cache = ProbableCache.of(this::load, 10);
+    ProbableAssertions.assertThat(cache.get(1)).hasValue("value 1");
+    ProbableAssertions.assertThat(cache.get(1)).hasValue("value 1");
+    assertThat(loads).hasValue(1);
+    var statistics = cache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+    assertThat(statistics.getHitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void get_failure_shouldNotBeCachedByDefault() {
+    var cache = ProbableCache.<Integer, String>of(key -> {
+      loads.incrementAndGet();
+      return Probable.failure(TEST_MESSAGE);
+    }, 10);
+    ProbableAssertions.assertThat(cache.get(1)).hasFailed().hasMessage(TEST_MESSAGE);
+    cache.get(1);
+    assertThat(loads).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void get_throwingLoader_shouldReturnFailure() {
+    var cache = ProbableCache.<Integer, String>of(key -> {throw new IllegalStateException(TEST_MESSAGE);}, 10);
+    ProbableAssertions.assertThat(cache.get(1)).hasFailed().hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void get_nullFromLoader_shouldReturnNothing() {
+    var cache = ProbableCache.<Integer, String>of(key -> null, 10);
+    ProbableAssertions.assertThat(cache.get(1)).isEmpty();
+  }
+
+  @Test
+  void get_separateTtls_shouldExpirePerOutcome() throws InterruptedException {
+    var cache = ProbableCache.<Integer, String>of(key -> {
+      loads.incrementAndGet();
+      return key == 0 ? Probable.nothing() : Probable.of("value " + key);
+    }, 10, Duration.ofMinutes(1), Duration.ofMillis(20), Duration.ZERO);
+    cache.get(0);
+    cache.get(1);
+    Thread.sleep(50);
+    cache.get(0);
+    cache.get(1);
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void invalidate_shouldLoadAgain() {
+    var cache = ProbableCache.of(this::load, 10);
+    cache.get(1);
+    cache.get(2);
+    cache.invalidate(1);
+    cache.get(1);
+    assertThat(loads).hasValue(3);
+    cache.invalidateAll();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void get_full_shouldEvictLeastRecentlyUsed() {
+    var cache = ProbableCache.of(this::load, 2);
+    cache.get(1);
+    cache.get(2);
+    cache.get(1);
+    cache.get(3);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+    cache.get(1);
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void get_oneOffKeys_shouldNotEvictFrequentlyUsedEntries() {
+    var cache = ProbableCache.of(this::load, 10);
+    for (int round = 0; round < 5; round++) {
+      for (int key = 0; key < 10; key++) {
+        cache.get(key);
+      }
+    }
+    var loadsBeforeScan = loads.get();
+    for (int key = 1000; key < 2000; key++) {
+      cache.get(key);
+      cache.get(key % 10);
+    }
+    assertThat(loads.get() - loadsBeforeScan).isEqualTo(1000);
+    assertThat(cache.size()).isEqualTo(10);
+  }
+
+  @Test
+  void get_concurrentAccess_shouldStayWithinBounds() throws InterruptedException {
+    var cache = ProbableCache.of(this::load, 100);
+    var executor = Executors.newFixedThreadPool(8);
+    for (int thread = 0; thread < 8; thread++) {
+      var offset = thread;
+      executor.execute(() -> {
+        for (int i = 0; i < 20_000; i++) {
+          var key = (i * 31 + offset) % 500;
+          ProbableAssertions.assertThat(cache.get(key)).hasValue("value " + key);
+        }
+      });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(cache.size()).isLessThanOrEqualTo(100);
+    var statistics = cache.getStatistics();
+    assertThat(statistics.getHitCount() + statistics.getMissCount()).isEqualTo(160_000);
+  }
+
+  private Probable<String> load(Integer key) {
+    loads.incrementAndGet();
+    return Probable.of("value " + key);
+  }
+}
@@ -0,0 +1,127 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.ProbableCircuitBreaker.State;
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class ProbableCircuitBreakerTests {
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void of_closed_shouldCallSupplier() {
+    var breaker = ProbableCircuitBreaker.of(0.5, 4, Duration.ofSeconds(10), Duration.ofSeconds(10));
+    ProbableAssertions.assertThat(breaker.of(counting(() -> TEST_VALUE))).hasValue(TEST_VALUE);
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void of_failureRateReached_shouldOpenAndRejectWithoutCallingSupplier() {
+    var breaker = ProbableCircuitBreaker.of(0.5, 4, Duration.ofSeconds(10), Duration.ofSeconds(10));
+    breaker.of(counting(() -> TEST_VALUE));
+    breaker.of(counting(() -> TEST_VALUE));
+    breaker.of(counting(this::fail));
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    breaker.of(counting(this::fail));
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.getFailureRate()).isEqualTo(0.5);
+
+    var rejected = breaker.of(counting(() -> TEST_VALUE));
+    ProbableAssertions.assertThat(rejected)
+                      .hasFailed()
+                      .hasMessage(Messages.CIRCUIT_OPEN);
+    assertThat(breaker.isRejection(rejected)).isTrue();
+    assertThat(breaker.of(() -> TEST_VALUE)).isSameAs(rejected);
+    assertThat(calls).hasValue(4);
+  }
+
+  @Test
+  void of_nothing_shouldCountAsSuccess() {
+    var breaker = ProbableCircuitBreaker.of(0.5, 2, Duration.ofSeconds(10), Duration.ofSeconds(10));
+    breaker.of(() -> null);
+    breaker.of(() -> null);
+    assertThat(breaker.getFailureRate()).isZero();
+  }
+
+  @Test
+  void of_successfulProbe_shouldClose() {
+    var transitions = new CopyOnWriteArrayList<String>();
+    var breaker = opened(transitions);
+    waitForOpenDuration();
+    ProbableAssertions.assertThat(breaker.of(() -> TEST_VALUE)).hasValue(TEST_VALUE);
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.getFailureRate()).isZero();
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+  }
+
+  @Test
+  void of_failedProbe_shouldOpenAgain() {
+    var transitions = new CopyOnWriteArrayList<String>();
+    var breaker = opened(transitions);
+    waitForOpenDuration();
+    ProbableAssertions.assertThat(breaker.of(this::fail)).hasFailed().hasMessage(TEST_MESSAGE);
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+  }
+
+  @Test
+  void of_throwingListener_shouldNotAffectBreaker() {
+    var breaker = ProbableCircuitBreaker.of(1, 1, Duration.ofSeconds(10), Duration.ofSeconds(10))
+                                        .addListener((cb, from, to) -> {throw new IllegalStateException();});
+    breaker.of(this::fail);
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void of_concurrentCalls_shouldOpenExactlyOnce() throws InterruptedException {
+    var opened = new AtomicInteger();
+    var breaker = ProbableCircuitBreaker.of(0.5, 100, Duration.ofSeconds(10), Duration.ofSeconds(10))
+                                        .addListener((cb, from, to) -> opened.incrementAndGet());
+    var executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 10_000; i++) {
+      executor.execute(() -> breaker.of(this::fail));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(opened).hasValue(1);
+  }
+
+  private ProbableCircuitBreaker opened(List<String> transitions) {
+    var breaker = ProbableCircuitBreaker.of(1, 1, Duration.ofSeconds(10), Duration.ofMillis(20))
+                                        .addListener((cb, from, to) -> transitions.add(from + "->" + to));
+    breaker.of(this::fail);
+    return breaker;
+  }
+
+  private static void waitForOpenDuration() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private <T> Supplier<T> counting(Supplier<T> supplier) {
+    return () -> {
+      calls.incrementAndGet();
+      return supplier.get();
+    };
+  }
+
+  private String fail() {
+    throw new IllegalStateException(TEST_MESSAGE);
+  }
+}
@@ -0,0 +1,198 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.ProbableAssertions.assertThat;
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.probably.testutil.TestFailureCode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProbableCodecTests {
+
+  private final ProbableCodec<String> codec = ProbableCodec.of(ProbableValueCodec.strings())
+                                                           .withFailureCodes(TestFailureCode.values());
+
+  @Test
+  void write_value_shouldReadSameValue() {
+    var buffer = ByteBuffer.allocate(64);
+    var written = codec.write(Probable.of(TEST_VALUE), buffer);
+    assertThat(written).hasValue(buffer.position());
+    buffer.flip();
+    var read = codec.read(buffer);
+    assertThat(read).hasValue(Probable.of(TEST_VALUE));
+    assertThat(read.get().getMessage()).isEqualTo(Probable.of(TEST_VALUE).getMessage());
+    assertThat(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void write_nothingWithMessage_shouldReadMessage() {
+    var buffer = ByteBuffer.allocate(64);
+    codec.write(Probable.nothing("nothing for %s", TEST_VALUE), buffer);
+    buffer.flip();
+    var read = codec.read(buffer).get();
+    assertThat(read).isEmpty();
+    assertThat(read.getMessage()).isEqualTo("nothing for " + TEST_VALUE);
+  }
+
+  @Test
+  void write_failureWithException_shouldReadExceptionSummary() {
+    var buffer = ByteBuffer.allocate(128);
+    codec.write(Probable.of(() -> {throw new IllegalStateException(TEST_MESSAGE);}), buffer);
+    buffer.flip();
+    var read = codec.read(buffer).get();
+    assertThat(read).hasFailed();
+    assertThat(read.getMessage()).isEqualTo(TEST_MESSAGE);
+    assertThat(read.getException()).isInstanceOf(ProbableCodec.DecodedException.class)
+                                   .hasMessage(TEST_MESSAGE)
+                                   .hasToString(IllegalStateException.class.getName() + ": " + TEST_MESSAGE);
+    assertThat(((ProbableCodec.DecodedException) read.getException()).getClassName())
+      .isEqualTo(IllegalStateException.class.getName());
+    assertThat(read.getException().getStackTrace()).isEmpty();
+  }
+
+  @Test
+  void write_failureWithCode_shouldReadKnownCode() {
+    var buffer = ByteBuffer.allocate(128);
+    codec.write(Probable.failure(TestFailureCode.MISSING_FIELD, "name"), buffer);
+    buffer.flip();
+    var read = codec.read(buffer).get();
+    assertThat(read.hasFailedWith(TestFailureCode.MISSING_FIELD)).isTrue();
+    assertThat(read.getMessage()).isEqualTo("field name is missing");
+  }
+
+  @Test
+  void write_failureWithUnknownCode_shouldReadIntBackedCode() {
+    var buffer = ByteBuffer.allocate(128);
+    codec.write(Probable.failure(FailureCode.of(-42, "unknown")), buffer);
+    buffer.flip();
+    var read = ProbableCodec.of(ProbableValueCodec.strings()).read(buffer).get();
+    assertThat(read.hasFailedWith(FailureCode.of(-42, "unknown"))).isTrue();
+    assertThat(read.getFailureCode().getMessageTemplate()).isEqualTo("unknown");
+  }
+
+  @Test
+  void write_failureWithViolations_shouldReadViolations() {
+    var probable = Probable.validate(TEST_VALUE)
+                           .check(String::isEmpty, "value is not empty")
+                           .check(x -> false, TestFailureCode.INVALID_FORMAT)
+                           .result();
+    var buffer = ByteBuffer.allocate(256);
+    codec.write(probable, buffer);
+    buffer.flip();
+    var read = codec.read(buffer).get();
+    assertThat(read).hasFailed();
+    assertThat(read.getMessage()).isEqualTo(probable.getMessage());
+    assertThat(read.getViolations()).isEqualTo(probable.getViolations());
+  }
+
+  @Test
+  void writeBatch_shouldReadAllProbablesInOrderAndShareStrings() {
+    var probables = new ArrayList<Probable<String>>();
+    for (int i = 0; i < 100; i++) {
+      probables.add(i % 2 == 0 ? Probable.of(TEST_VALUE) : Probable.failure(TEST_MESSAGE));
+    }
+    var buffer = ByteBuffer.allocateDirect(1024);
+    var written = codec.writeBatch(probables, buffer);
+    assertThat(written).hasValue(buffer.position());
+    var header = 4 + 1;
+    var values = 50 * (1 + 1 + TEST_VALUE.length());
+    var firstFailure = 1 + 1 + 1 + TEST_MESSAGE.length();
+    var otherFailures = 49 * (1 + 1);
+    assertThat(buffer.position()).isEqualTo(header + values + firstFailure + otherFailures);
+    buffer.flip();
+    var read = codec.readBatch(buffer);
+    assertThat(read.get()).isEqualTo(probables);
+    assertThat(read.get().get(1)).hasFailed();
+    assertThat(read.get().get(1).getMessage()).isEqualTo(TEST_MESSAGE);
+  }
+
+  @Test
+  void writeBatch_multipleWrites_shouldReadOneAfterTheOther() {
+    var buffer = ByteBuffer.allocate(256);
+    codec.writeBatch(List.of(Probable.of("first"), Probable.nothing()), buffer);
+    codec.write(Probable.of("second"), buffer);
+    buffer.flip();
+    assertThat(codec.readBatch(buffer).get()).containsExactly(Probable.of("first"), Probable.nothing());
+    assertThat(codec.readBatch(buffer).get()).containsExactly(Probable.of("second"));
+    assertThat(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void write_builtInValueCodecs_shouldReadSameValues() {
+    var buffer = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+    ProbableCodec.of(ProbableValueCodec.ints()).write(Probable.of(Integer.MIN_VALUE), buffer);
+    ProbableCodec.of(ProbableValueCodec.longs()).write(Probable.of(-1L), buffer);
+    ProbableCodec.of(ProbableValueCodec.doubles()).write(Probable.of(Math.PI), buffer);
+    ProbableCodec.of(ProbableValueCodec.strings()).write(Probable.of("été ☃"), buffer);
+    buffer.flip();
+    assertThat(ProbableCodec.of(ProbableValueCodec.ints()).read(buffer).get()).hasValue(Integer.MIN_VALUE);
+    assertThat(ProbableCodec.of(ProbableValueCodec.longs()).read(buffer).get()).hasValue(-1L);
+    assertThat(ProbableCodec.of(ProbableValueCodec.doubles()).read(buffer).get()).hasValue(Math.PI);
+    assertThat(ProbableCodec.of(ProbableValueCodec.strings()).read(buffer).get()).hasValue("été ☃");
+  }
+
+  @Test
+  void write_bufferTooSmall_shouldReturnFailureAndKeepPosition() {
+    var buffer = ByteBuffer.allocate(8);
+    buffer.put((byte) 1);
+    var written = codec.write(Probable.of(TEST_VALUE), buffer);
+    assertThat(written).hasFailed();
+    assertThat(written.getMessage()).contains("7 bytes remaining");
+    assertThat(buffer.position()).isEqualTo(1);
+  }
+
+  @Test
+  void write_valueCodecThrows_shouldReturnFailure() {
+    var failing = ProbableCodec.<String>of(new ProbableValueCodec<>() {
+      @Override
+      public void write(String value, ByteBuffer buffer) {
+        throw new IllegalStateException(TEST_MESSAGE);
+      }
+
+      @Override
+      public String read(ByteBuffer buffer) {
+        return null;
+      }
+    });
+    var buffer = ByteBuffer.allocate(64);
+    assertThat(failing.write(Probable.of(TEST_VALUE), buffer)).hasFailed();
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  void read_malformedInput_shouldReturnFailureAndKeepPosition() {
+    assertThat(codec.read(ByteBuffer.wrap(new byte[] {'X', 'B', 1, 0, 0}))).hasFailed();
+    assertThat(codec.read(ByteBuffer.wrap(new byte[] {'P', 'B', 2, 0, 0}))).hasFailed();
+    assertThat(codec.read(ByteBuffer.wrap(new byte[] {'P', 'B', 1, 0, 3}))).hasFailed();
+    assertThat(codec.read(ByteBuffer.wrap(new byte[] {'P', 'B', 1, 0, 4, 5}))).hasFailed();
+    assertThat(codec.readBatch(ByteBuffer.wrap(new byte[] {'P', 'B', 1, 1, 100, 1}))).hasFailed();
+    var buffer = ByteBuffer.allocate(64);
+    codec.write(Probable.of(TEST_VALUE), buffer);
+    buffer.flip().limit(buffer.limit() - 1);
+    assertThat(codec.read(buffer)).hasFailed();
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  void read_batch_shouldReturnFailure() {
+    var buffer = ByteBuffer.allocate(64);
+    codec.writeBatch(List.of(Probable.of(TEST_VALUE)), buffer);
+    buffer.flip();
+    assertThat(codec.read(buffer)).hasFailed();
+  }
+
+  @Test
+  void write_null_shouldThrowNullPointerException() {
+    var buffer = ByteBuffer.allocate(64);
+    assertThatThrownBy(() -> codec.write(null, buffer)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> codec.writeBatch(List.of(), null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> ProbableCodec.of(null)).isInstanceOf(NullPointerException.class);
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import com.compilit.probably.testutil.TestFailureCode;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ProbableCollectorsTests {
+
+  private static Probable<Integer> probable(int i) {
+    if (i % 10 == 0) {
+      return Probable.failure(TestFailureCode.MISSING_FIELD, "field" + (i % 20));
+    }
+    if (i % 3 == 0) {
+      return Probable.nothing();
+    }
+    return Probable.of(i);
+  }
+
+  @Test
+  void partitioning_shouldSplitOutcomes() {
+    var partition = Stream.of(Probable.of(1), Probable.<Integer>nothing(), Probable.<Integer>failure(TEST_MESSAGE),
+                              Probable.of(2))
+                          .collect(ProbableCollectors.partitioning());
+    assertThat(partition.getValues()).containsExactly(1, 2);
+    assertThat(partition.getNothings()).hasSize(1);
+    assertThat(partition.getFailures()).extracting(Probable::getMessage).containsExactly(TEST_MESSAGE);
+    assertThat(partition.hasNoFailures()).isFalse();
+  }
+
+  @Test
+  void partitioning_parallel_shouldEqualSequential() {
+    var sequential = IntStream.range(0, 10_000).mapToObj(ProbableCollectorsTests::probable)
+                              .collect(ProbableCollectors.partitioning());
+    var parallel = IntStream.range(0, 10_000).parallel().mapToObj(ProbableCollectorsTests::probable)
+                            .collect(ProbableCollectors.partitioning());
+    assertThat(parallel.getValues()).isEqualTo(sequential.getValues());
+    assertThat(parallel.getNothings()).hasSameSizeAs(sequential.getNothings());
+    assertThat(parallel.getFailures()).extracting(Probable::getMessage)
+                                      .isEqualTo(sequential.getFailures().stream()
+                                                           .map(Probable::getMessage)
+                                                           .collect(Collectors.toList()));
+  }
+
+  @Test
+  void countingFailuresByMessage_shouldCountPerMessage() {
+    var counts = IntStream.range(0, 100).parallel().mapToObj(ProbableCollectorsTests::probable)
+                          .collect(ProbableCollectors.countingFailuresByMessage());
+    assertThat(counts).containsEntry("field field0 is missing", 5L)
+                      .containsEntry("field field10 is missing", 5L)
+                      .hasSize(2);
+  }
+
+  @Test
+  void countingFailuresByCode_shouldCountPerCode() {
+    var counts = Stream.concat(IntStream.range(0, 100).mapToObj(ProbableCollectorsTests::probable),
+                               Stream.of(Probable.<Integer>failure(TEST_MESSAGE)))
+                       .collect(ProbableCollectors.countingFailuresByCode());
+    assertThat(counts).containsExactlyEntriesOf(Map.of(TestFailureCode.MISSING_FIELD, 10L));
+  }
+
+  @Test
+  void sequence_noFailures_shouldReturnAllValues() {
+    var probable = Stream.of(Probable.of(1), Probable.<Integer>nothing(), Probable.of(3))
+                         .collect(ProbableCollectors.sequence());
+    ProbableAssertions.assertThat(probable).hasValue();
+    assertThat(probable.get()).containsExactly(1, null, 3);
+  }
+
+  @Test
+  void sequence_failures_shouldReturnFirstFailureInEncounterOrder() {
+    var probable = IntStream.range(1, 10_000).parallel()
+                            .mapToObj(i -> i % 1000 == 0
+                              ? Probable.<Integer>failure("failure %d", i)
+                              : Probable.of(i))
+                            .collect(ProbableCollectors.sequence());
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage("failure 1000");
+  }
+
+  @Test
+  void sequence_parallel_shouldKeepEncounterOrder() {
+    var expected = IntStream.range(1, 10_000).boxed().collect(Collectors.toList());
+    var probable = expected.parallelStream().map(Probable::of).collect(ProbableCollectors.sequence());
+    assertThat(probable.get()).isEqualTo(expected);
+  }
+
+  @Test
+  void sequence_empty_shouldReturnEmptyList() {
+    var probable = Stream.<Probable<String>>empty().collect(ProbableCollectors.sequence());
+    assertThat(probable.get()).isEqualTo(List.of());
+  }
+
+}
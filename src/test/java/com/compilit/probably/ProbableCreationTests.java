@@ -4,7 +4,9 @@ import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
 import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
 
 import com.compilit.probably.testutil.ProbableAssertions;
+import com.compilit.probably.testutil.TestFailureCode;
 import com.compilit.probably.testutil.TestValue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -99,4 +101,50 @@ class ProbableCreationTests {
                       .hasMessage(expected);
   }
 
+  @Test
+  void failure_withFormattedMessage_shouldFormatOnlyOnFirstGetMessage() {
+    var formatCount = new AtomicInteger();
+    var argument = new Object() {
+      @Override
+      public String toString() {
+        formatCount.incrementAndGet();
+        return "test";
+      }
+    };
+    var probable = Probable.failure("test %s", argument);
+    Assertions.assertThat(formatCount).hasValue(0);
+    Assertions.assertThat(probable.getMessage()).isEqualTo("test test");
+    Assertions.assertThat(probable.getMessage()).isEqualTo("test test");
+    Assertions.assertThat(formatCount).hasValue(1);
+  }
+
+  @Test
+  void failure_argumentsChangedAfterCreation_shouldUseArgumentSnapshot() {
+    var arguments = new Object[]{"test"};
+    var probable = Probable.failure("test %s", arguments);
+    arguments[0] = "changed";
+    ProbableAssertions.assertThat(probable)
+                      .hasMessage("test test");
+  }
+
+  @Test
+  void failure$FailureCode_shouldReturnFailedProbableWithCode() {
+    var probable = Probable.failure(TestFailureCode.MISSING_FIELD, "name");
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage("field name is missing");
+    Assertions.assertThat(probable.getFailureCode()).isEqualTo(TestFailureCode.MISSING_FIELD);
+    Assertions.assertThat(probable.getException()).isNull();
+  }
+
+  @Test
+  void failure$intFailureCode_shouldReturnFailedProbableWithCode() {
+    var probable = Probable.failure(FailureCode.of(404, "%s not found"), TEST_VALUE);
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_VALUE + " not found");
+    Assertions.assertThat(probable.hasFailedWith(FailureCode.of(404, "other template"))).isTrue();
+    Assertions.assertThat(probable.getFailureCode().getCode()).isEqualTo(404);
+  }
+
 }
@@ -0,0 +1,82 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProbableEventsTests {
+
+  private final List<ProbableEventType> types = new CopyOnWriteArrayList<>();
+  private final List<Probable<?>> probables = new CopyOnWriteArrayList<>();
+  private final ProbableEventListener listener = (type, probable) -> {
+    types.add(type);
+    probables.add(probable);
+  };
+
+  @BeforeEach
+  void setUp() {
+    ProbableEvents.clearListeners();
+    ProbableEvents.addListener(listener);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ProbableEvents.clearListeners();
+    ProbableEvents.addListener(ProbableEvents.loggingListener());
+  }
+
+  @Test
+  void map_value_shouldPublishMapAppliedWithResult() {
+    var result = Probable.of(TEST_VALUE).map(String::length);
+    assertThat(types).containsExactly(ProbableEventType.MAP_APPLIED);
+    assertThat(probables).containsExactly(result);
+  }
+
+  @Test
+  void map_nothing_shouldPublishMapNotApplied() {
+    Probable.nothing().map(Object::toString);
+    assertThat(types).containsExactly(ProbableEventType.MAP_NOT_APPLIED);
+  }
+
+  @Test
+  void test_failingPredicate_shouldPublishTestFailedWithFailure() {
+    var result = Probable.of(TEST_VALUE).test(String::isEmpty, TEST_MESSAGE);
+    assertThat(types).containsExactly(ProbableEventType.TEST_FAILED);
+    assertThat(probables).containsExactly(result);
+  }
+
+  @Test
+  void thenAccept_throwingConsumer_shouldPublishAcceptFailed() {
+    Probable.of(TEST_VALUE).thenAccept(x -> {throw new IllegalStateException(TEST_MESSAGE);});
+    assertThat(types).containsExactly(ProbableEventType.ACCEPT_SUCCESSFUL, ProbableEventType.ACCEPT_FAILED);
+    assertThat(ProbableEventType.ACCEPT_FAILED.getOperation()).isEqualTo("thenAccept");
+  }
+
+  @Test
+  void removeListener_shouldStopPublishing() {
+    ProbableEvents.removeListener(listener);
+    assertThat(ProbableEvents.hasListeners()).isFalse();
+    Probable.of(TEST_VALUE).map(String::length);
+    assertThat(types).isEmpty();
+  }
+
+  @Test
+  void throwingListener_shouldNotAffectOutcome() {
+    ProbableEvents.addListener((type, probable) -> {throw new IllegalStateException(TEST_MESSAGE);});
+    ProbableAssertions.assertThat(Probable.of(TEST_VALUE).map(String::length)).hasValue(10);
+    assertThat(types).containsExactly(ProbableEventType.MAP_APPLIED);
+  }
+
+  @Test
+  void loggingListener_shouldBeRegisteredByDefault() {
+    tearDown();
+    assertThat(ProbableEvents.hasListeners()).isTrue();
+  }
+}
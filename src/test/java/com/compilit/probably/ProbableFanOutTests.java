@@ -0,0 +1,128 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class ProbableFanOutTests {
+
+  @Test
+  void all_successfulSuppliers_shouldReturnValuesInOrder() {
+    List<Supplier<String>> suppliers = List.of(() -> sleepAndReturn(50, "a"), () -> "b", () -> null);
+    var probable = Probable.all(suppliers);
+    ProbableAssertions.assertThat(probable).hasValue();
+    assertThat(probable.get()).containsExactly("a", "b", null);
+  }
+
+  @Test
+  void all_suppliersRunConcurrently_shouldTakeAboutAsLongAsSlowest() {
+    var start = new CountDownLatch(3);
+    Supplier<String> supplier = () -> {
+      start.countDown();
+      try {
+        return start.await(5, TimeUnit.SECONDS) ? TEST_VALUE : null;
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    };
+    var probable = Probable.all(List.of(supplier, supplier, supplier));
+    assertThat(probable.get()).containsExactly(TEST_VALUE, TEST_VALUE, TEST_VALUE);
+  }
+
+  @Test
+  void all_failingSupplier_shouldFailFastAndCancelOthers() {
+    Supplier<String> slow = () -> sleepAndReturn(10_000, TEST_VALUE);
+    Supplier<String> failing = () -> {throw new IllegalStateException(TEST_MESSAGE);};
+    var started = System.nanoTime();
+    var probable = Probable.all(List.of(slow, failing, slow));
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+    assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void all_deadlinePassed_shouldReturnFailure() {
+    List<Supplier<String>> suppliers = List.of(() -> sleepAndReturn(10_000, TEST_VALUE));
+    var probable = Probable.all(suppliers, 1, Duration.ofMillis(50));
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.DEADLINE_PASSED, Duration.ofMillis(50)));
+  }
+
+  @Test
+  void all_concurrencyCap_shouldNeverExceedCap() {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    Supplier<Integer> supplier = () -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleepAndReturn(20, null);
+      running.decrementAndGet();
+      return 1;
+    };
+    var probable = Probable.all(List.of(supplier, supplier, supplier, supplier, supplier), 2, Duration.ofSeconds(10));
+    assertThat(probable.get()).hasSize(5);
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void all_invalidConcurrency_shouldReturnFailure() {
+    List<Supplier<String>> suppliers = List.of(() -> TEST_VALUE);
+    ProbableAssertions.assertThat(Probable.all(suppliers, 0, Duration.ofSeconds(1))).hasFailed();
+  }
+
+  @Test
+  void allSettled_mixedOutcomes_shouldReturnEveryOutcome() {
+    List<Supplier<String>> suppliers = List.of(
+      () -> TEST_VALUE,
+      () -> {throw new IllegalStateException(TEST_MESSAGE);},
+      () -> null
+    );
+    var probables = Probable.allSettled(suppliers);
+    assertThat(probables).hasSize(3);
+    ProbableAssertions.assertThat(probables.get(0)).hasValue(TEST_VALUE);
+    ProbableAssertions.assertThat(probables.get(1)).hasFailed().hasMessage(TEST_MESSAGE);
+    ProbableAssertions.assertThat(probables.get(2)).isEmpty();
+  }
+
+  @Test
+  void allSettled_deadlinePassed_shouldFailUnfinishedSuppliers() {
+    List<Supplier<String>> suppliers = List.of(() -> TEST_VALUE, () -> sleepAndReturn(10_000, TEST_VALUE));
+    var probables = Probable.allSettled(suppliers, 2, Duration.ofMillis(200));
+    ProbableAssertions.assertThat(probables.get(0)).hasValue(TEST_VALUE);
+    ProbableAssertions.assertThat(probables.get(1)).hasFailed();
+  }
+
+  @Test
+  void all_hugeTimeout_shouldNotOverflow() {
+    List<Supplier<String>> suppliers = List.of(() -> TEST_VALUE);
+    var probable = Probable.all(suppliers, 1, Duration.ofSeconds(Long.MAX_VALUE));
+    ProbableAssertions.assertThat(probable).hasValue(List.of(TEST_VALUE));
+  }
+
+  @Test
+  void allSettled_hugeTimeout_shouldNotOverflow() {
+    List<Supplier<String>> suppliers = List.of(() -> TEST_VALUE);
+    var probables = Probable.allSettled(suppliers, 1, Duration.ofSeconds(Long.MAX_VALUE));
+    ProbableAssertions.assertThat(probables.get(0)).hasValue(TEST_VALUE);
+  }
+
+  private static <T> T sleepAndReturn(long millis, T value) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return value;
+  }
+
+}
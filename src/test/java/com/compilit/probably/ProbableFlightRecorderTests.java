@@ -0,0 +1,97 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.TestFailureCode;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class ProbableFlightRecorderTests {
+
+  @Test
+  void of_shouldRecordSupplierEvent() throws Exception {
+    var events = record(() -> Probable.of(() -> {throw new IllegalStateException(TEST_MESSAGE);}));
+    var supplierEvents = named(events, "com.compilit.probably.Supplier");
+    assertThat(supplierEvents).hasSize(1);
+    var event = supplierEvents.get(0);
+    assertThat(event.getString("operation")).isEqualTo("OF");
+    assertThat(event.getString("outcome")).isEqualTo("FAILURE");
+    assertThat(event.getString("message")).contains(TEST_MESSAGE);
+    assertThat(event.getClass("exceptionClass").getName()).isEqualTo(IllegalStateException.class.getName());
+  }
+
+  @Test
+  void failureOnException_shouldRecordExceptionCaughtEvent() throws Exception {
+    var events = record(() -> Probable.of(TEST_VALUE).map(x -> {throw new IllegalArgumentException(TEST_MESSAGE);}));
+    var caught = named(events, "com.compilit.probably.ExceptionCaught");
+    assertThat(caught).hasSize(1);
+    assertThat(caught.get(0).getString("operation")).isEqualTo("map");
+    assertThat(caught.get(0).getString("message")).isEqualTo(TEST_MESSAGE);
+    assertThat(caught.get(0).getClass("exceptionClass").getName())
+      .isEqualTo(IllegalArgumentException.class.getName());
+  }
+
+  @Test
+  void failure_shouldRecordFailureEvent() throws Exception {
+    var events = record(() -> {
+      Probable.failure(TestFailureCode.MISSING_FIELD, "name");
+      Probable.of(TEST_VALUE);
+    });
+    var failures = named(events, "com.compilit.probably.Failure");
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0).getString("message")).isEqualTo("field name is missing");
+    assertThat(failures.get(0).getString("failureCode")).isEqualTo(TestFailureCode.MISSING_FIELD.toString());
+    assertThat(failures.get(0).getStackTrace()).isNotNull();
+  }
+
+  @Test
+  void defaultConfiguration_shouldNotRecordFailuresOrStackTraces() throws Exception {
+    var file = Files.createTempFile("probably", ".jfr");
+    try (var recording = new Recording(Configuration.getConfiguration("default"))) {
+      recording.start();
+      Probable.of(TEST_VALUE).map(x -> {throw new IllegalArgumentException(TEST_MESSAGE);});
+      Probable.failure(TestFailureCode.MISSING_FIELD, "name");
+      recording.stop();
+      recording.dump(file);
+      var events = RecordingFile.readAllEvents(file);
+      assertThat(named(events, "com.compilit.probably.Failure")).isEmpty();
+      var caught = named(events, "com.compilit.probably.ExceptionCaught");
+      assertThat(caught).hasSize(1);
+      assertThat(caught.get(0).getStackTrace()).isNull();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> record(Runnable runnable) throws Exception {
+    var file = Files.createTempFile("probably", ".jfr");
+    try (var recording = new Recording()) {
+      recording.enable("com.compilit.probably.Supplier").withThreshold(Duration.ZERO);
+      recording.enable("com.compilit.probably.ExceptionCaught");
+      recording.enable("com.compilit.probably.Failure").withStackTrace();
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream()
+                 .filter(event -> event.getEventType().getName().equals(name))
+                 .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,237 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.ProbableAssertions.assertThat;
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.probably.testutil.TestFailureCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ProbableJsonTests {
+
+  private final ProbableJson<String> json = ProbableJson.of(ProbableJsonValueCodec.strings())
+                                                        .withFailureCodes(TestFailureCode.values());
+
+  @Test
+  void toJson_value_shouldWriteEnvelope() {
+    assertThat(json.toJson(Probable.of(TEST_VALUE)))
+      .hasValue("{\"outcome\":\"VALUE\",\"value\":\"test value\",\"message\":\"Nothing to report\"}");
+  }
+
+  @Test
+  void toJson_failure_shouldWriteFailureDetails() {
+    var probable = Probable.<String>failure(new IllegalStateException(TEST_MESSAGE), "failed");
+    assertThat(json.toJson(probable))
+      .hasValue("{\"outcome\":\"FAILURE\",\"message\":\"failed\",\"exception\":{\"className\":"
+                  + "\"java.lang.IllegalStateException\",\"message\":\"test message\"}}");
+    assertThat(json.toJson(Probable.failure(TestFailureCode.INVALID_FORMAT)))
+      .hasValue("{\"outcome\":\"FAILURE\",\"message\":\"invalid format\",\"failureCode\":{\"code\":2,"
+                  + "\"messageTemplate\":\"invalid format\"}}");
+  }
+
+  @Test
+  void toJson_specialCharacters_shouldEscapeAndReadBack() {
+    var value = "quote \" backslash \\ newline \n tab \t control \u0001 unicode été ☃";
+    var written = json.toJson(Probable.of(value)).get();
+    assertThat(written).doesNotContain("\n").contains("\\u0001");
+    assertThat(json.fromJson(written).get()).hasValue(value);
+  }
+
+  @Test
+  void fromJson_failure_shouldReadFailureDetails() {
+    var probable = Probable.validate(TEST_VALUE)
+                           .check(String::isEmpty, "value is not empty")
+                           .check(x -> false, TestFailureCode.MISSING_FIELD, "name")
+                           .result();
+    var read = json.fromJson(json.toJson(probable).get()).get();
+    assertThat(read).hasFailed();
+    assertThat(read.getMessage()).isEqualTo(probable.getMessage());
+    assertThat(read.getViolations()).isEqualTo(probable.getViolations());
+    assertThat(read.getViolations().get(1).getFailureCode()).isEqualTo(TestFailureCode.MISSING_FIELD);
+
+    var failure = Probable.<String>of(() -> {throw new IllegalStateException(TEST_MESSAGE);});
+    read = json.fromJson(json.toJson(failure).get()).get();
+    assertThat(read.getException()).isInstanceOf(ProbableCodec.DecodedException.class).hasMessage(TEST_MESSAGE);
+    assertThat(((ProbableCodec.DecodedException) read.getException()).getClassName())
+      .isEqualTo(IllegalStateException.class.getName());
+
+    read = json.fromJson(json.toJson(Probable.failure(TestFailureCode.INVALID_FORMAT)).get()).get();
+    assertThat(read.hasFailedWith(TestFailureCode.INVALID_FORMAT)).isTrue();
+  }
+
+  @Test
+  void fromJson_handWrittenEnvelope_shouldIgnoreWhitespaceAndFieldOrder() {
+    var read = ProbableJson.of(ProbableJsonValueCodec.longs())
+                           .fromJson(" { \"message\" : \"found\" ,\n \"value\" : -12 , \"outcome\" : \"VALUE\" } ");
+    assertThat(read.get()).hasValue(-12L);
+    assertThat(read.get().getMessage()).isEqualTo("found");
+    assertThat(json.fromJson("{\"outcome\":\"NOTHING\"}").get()).isEmpty();
+  }
+
+  @Test
+  void fromJson_builtInValueCodecs_shouldReadSameValues() {
+    assertRoundTrip(ProbableJsonValueCodec.ints(), Integer.MIN_VALUE);
+    assertRoundTrip(ProbableJsonValueCodec.longs(), Long.MAX_VALUE);
+    assertRoundTrip(ProbableJsonValueCodec.doubles(), 1.5e-300);
+    assertRoundTrip(ProbableJsonValueCodec.booleans(), true);
+    assertThat(ProbableJson.of(ProbableJsonValueCodec.doubles()).toJson(Probable.of(Double.NaN))).hasFailed();
+  }
+
+  @Test
+  void fromJson_malformedJson_shouldReturnFailure() {
+    assertThat(json.fromJson("")).hasFailed();
+    assertThat(json.fromJson("[]")).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":\"MAYBE\"}")).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":\"VALUE\"}")).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":\"VALUE\",\"value\":12}")).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":\"FAILURE\",\"failureCode\":{\"code\":\"x\"}}")).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":\"NOTHING\"")).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":nul}")).hasFailed();
+    assertThat(json.fromJson("[".repeat(1000))).hasFailed();
+    assertThat(json.fromJson("{\"outcome\":\"NOTHING\"}").get()).isEmpty();
+  }
+
+  @Test
+  void fromJson_numbers_shouldFollowJsonGrammar() {
+    var doubles = ProbableJson.of(ProbableJsonValueCodec.doubles());
+    var invalid = new String[] {"01", "-01", "1.", "-.5", ".5", "+1", "1e", "1e+", "1e5+", "1.5e-", "1..5", "--1", "-"};
+    for (var number : invalid) {
+      assertThat(doubles.fromJson(valueEnvelope(number))).as(number).hasFailed();
+    }
+    for (var number : new String[] {"0", "-12", "0.5", "-1.5e-3", "1E+2", "12e1"}) {
+      assertThat(doubles.fromJson(valueEnvelope(number)).get()).as(number).hasValue(Double.parseDouble(number));
+    }
+  }
+
+  @Test
+  void fromJson_numbersOutOfRange_shouldNotLosePrecision() {
+    var longs = ProbableJson.of(ProbableJsonValueCodec.longs());
+    assertThat(longs.fromJson(valueEnvelope("9223372036854775808"))).hasFailed();
+    var raw = ProbableJson.of(new ProbableJsonValueCodec<Object>() {
+      public void write(Object value, Appendable json) {
+      }
+
+      public Object read(Object json) {
+        return json;
+      }
+    });
+    assertThat(raw.fromJson(valueEnvelope("-9223372036854775809")).get())
+      .hasValue(new BigInteger("-9223372036854775809"));
+    assertThat(raw.fromJson(valueEnvelope("1.5e400")).get()).hasValue(new BigDecimal("1.5e400"));
+  }
+
+  @Test
+  void writeStream_shouldWriteOneEnvelopePerLineAndReadThemBack() {
+    var probables = IntStream.range(0, 100)
+                             .mapToObj(i -> i % 3 == 0
+                                            ? Probable.<String>failure("failed %d", i)
+                                            : Probable.of("v" + i))
+                             .collect(Collectors.toList());
+    var output = new StringBuilder();
+    assertThat(json.writeStream(probables.stream(), output)).hasValue(100L);
+    assertThat(output.toString().lines()).hasSize(100);
+
+    assertThat(json.readStream(new StringReader(output.toString())).collect(Collectors.toList()))
+      .isEqualTo(probables);
+  }
+
+  @Test
+  void readStream_endlessInput_shouldReadLazily() {
+    var line = "{\"outcome\":\"VALUE\",\"value\":\"v\"}\n";
+    var endless = new Reader() {
+      private int position;
+
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+          buffer[offset + i] = line.charAt(position++ % line.length());
+        }
+        return length;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try (var stream = json.readStream(endless)) {
+      assertThat(stream.limit(3).collect(Collectors.toList())).containsExactly(Probable.of("v"),
+                                                                               Probable.of("v"),
+                                                                               Probable.of("v"));
+    }
+  }
+
+  @Test
+  void readStream_malformedLine_shouldReturnFailureAndContinue() {
+    var input = "{\"outcome\":\"VALUE\",\"value\":\"a\"}\n\n{\"outcome\":\n{\"outcome\":\"VALUE\",\"value\":\"b\"} x\n"
+      + "{\"outcome\":\"VALUE\",\"value\":\"c\"}";
+    var read = json.readStream(new StringReader(input)).collect(Collectors.toList());
+    assertThat(read).hasSize(4);
+    assertThat(read.get(0)).hasValue("a");
+    assertThat(read.get(1)).hasFailed();
+    assertThat(read.get(2)).hasFailed();
+    assertThat(read.get(3)).hasValue("c");
+  }
+
+  @Test
+  void write_outputStream_shouldWriteUtf8() {
+    var output = new ByteArrayOutputStream();
+    assertThat(json.write(Probable.of("☃"), output)).isEmpty();
+    assertThat(json.writeStream(Stream.of(Probable.of("a"), Probable.nothing()), output)).hasValue(2L);
+    var lines = output.toString(StandardCharsets.UTF_8);
+    assertThat(json.fromJson(lines.substring(0, lines.indexOf('}') + 1)).get()).hasValue("☃");
+  }
+
+  @Test
+  void write_outputThrows_shouldReturnFailure() {
+    var failing = new Writer() {
+      @Override
+      public void write(char[] buffer, int offset, int length) throws IOException {
+        throw new IOException(TEST_MESSAGE);
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    var written = json.write(Probable.of(TEST_VALUE), failing);
+    assertThat(written).hasFailed();
+    assertThat(written.getException()).hasMessage(TEST_MESSAGE);
+    assertThat(json.writeStream(Stream.of(Probable.of(TEST_VALUE)), failing)).hasFailed();
+  }
+
+  @Test
+  void write_null_shouldThrowNullPointerException() {
+    assertThatThrownBy(() -> json.toJson(null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> json.writeStream(Stream.of((Probable<String>) null), new StringBuilder()))
+      .isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> json.readStream(null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> ProbableJson.of(null)).isInstanceOf(NullPointerException.class);
+  }
+
+  private static <T> void assertRoundTrip(ProbableJsonValueCodec<T> valueCodec, T value) {
+    var json = ProbableJson.of(valueCodec);
+    assertThat(json.fromJson(json.toJson(Probable.of(value)).get()).get()).hasValue(value);
+  }
+
+  private static String valueEnvelope(String value) {
+    return "{\"outcome\":\"VALUE\",\"value\":" + value + "}";
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.compilit.probably.testutil.MemoryAppender;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class ProbableLoggerTests {
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(Probable.class);
+  private final MemoryAppender memoryAppender = new MemoryAppender();
+  private Level originalLevel;
+
+  @BeforeEach
+  void setUp() {
+    originalLevel = logger.getLevel();
+    memoryAppender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+    logger.setLevel(Level.INFO);
+    logger.addAppender(memoryAppender);
+    memoryAppender.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(memoryAppender);
+    logger.setLevel(originalLevel);
+  }
+
+  @Test
+  void log_shouldAddKeyValuePairs() {
+    Probable.of(TEST_VALUE).log("test {}", "123");
+    var event = singleEvent();
+    assertThat(event.getFormattedMessage())
+      .isEqualTo("Probable.Value(test value, Nothing to report), log message: test 123");
+    assertThat(keyValues(event))
+      .containsEntry(ProbableLogger.OUTCOME_KEY, "VALUE")
+      .containsEntry(ProbableLogger.VALUE_KEY, TEST_VALUE)
+      .doesNotContainKey(ProbableLogger.EXCEPTION_CLASS_KEY);
+  }
+
+  @Test
+  void log_failureWithException_shouldAddCauseAndExceptionClass() {
+    Probable.of(() -> {throw new IllegalStateException(TEST_MESSAGE);}).log(org.slf4j.event.Level.WARN, null);
+    var event = singleEvent();
+    assertThat(event.getLevel()).isEqualTo(Level.WARN);
+    assertThat(event.getFormattedMessage()).startsWith("Probable.Failure(null, ");
+    assertThat(event.getThrowableProxy().getClassName()).isEqualTo(IllegalStateException.class.getName());
+    assertThat(keyValues(event))
+      .containsEntry(ProbableLogger.OUTCOME_KEY, "FAILURE")
+      .containsEntry(ProbableLogger.MESSAGE_KEY, TEST_MESSAGE)
+      .doesNotContainKey(ProbableLogger.VALUE_KEY)
+      .containsEntry(ProbableLogger.EXCEPTION_CLASS_KEY, IllegalStateException.class.getName());
+  }
+
+  @Test
+  void log_levelDisabled_shouldNotEvaluateTheProbable() {
+    var toStringCalls = new AtomicInteger();
+    var value = new Object() {
+      @Override
+      public String toString() {
+        toStringCalls.incrementAndGet();
+        return TEST_VALUE;
+      }
+    };
+    Probable.of(value).log(org.slf4j.event.Level.DEBUG, TEST_MESSAGE);
+    assertThat(memoryAppender.getSize()).isZero();
+    assertThat(toStringCalls.get()).isZero();
+  }
+
+  private ILoggingEvent singleEvent() {
+    assertThat(memoryAppender.getLoggedEvents()).hasSize(1);
+    var event = memoryAppender.getLoggedEvents().get(0);
+    assertThat(event.getLoggerName()).isEqualTo(Probable.class.getName());
+    return event;
+  }
+
+  private static Map<String, Object> keyValues(ILoggingEvent event) {
+    return event.getKeyValuePairs()
+                .stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+  }
+
+}
@@ -12,6 +12,7 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import com.compilit.probably.testutil.MemoryAppender;
 import com.compilit.probably.testutil.ProbableAssertions;
+import com.compilit.probably.testutil.TestFailureCode;
 import com.compilit.probably.testutil.TestValue;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
@@ -456,4 +457,33 @@ class ProbableMethodTests {
     var otherProbable = Probable.of("something else");
     assertThat(probable.or(() -> otherProbable)).isEqualTo(otherProbable);
   }
+
+  @Test
+  void getFailureCode_noFailureCode_shouldReturnNull() {
+    assertThat(Probable.failure(TEST_MESSAGE).getFailureCode()).isNull();
+    assertThat(Probable.of(TEST_VALUE).getFailureCode()).isNull();
+    assertThat(Probable.nothing().getFailureCode()).isNull();
+  }
+
+  @Test
+  void hasFailedWith_sameCode_shouldReturnTrue() {
+    var probable = Probable.<String>failure(TestFailureCode.INVALID_FORMAT).map(String::length);
+    assertThat(probable.hasFailedWith(TestFailureCode.INVALID_FORMAT)).isTrue();
+    assertThat(probable.hasFailedWith(TestFailureCode.MISSING_FIELD)).isFalse();
+  }
+
+  @Test
+  void getFailureCode_switch_shouldBranchOnCode() {
+    var probable = Probable.failure(TestFailureCode.MISSING_FIELD, "name");
+    String outcome;
+    switch ((TestFailureCode) probable.getFailureCode()) {
+      case MISSING_FIELD:
+        outcome = "missing";
+        break;
+      case INVALID_FORMAT:
+      default:
+        outcome = "other";
+    }
+    assertThat(outcome).isEqualTo("missing");
+  }
 }
@@ -0,0 +1,89 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.lang.management.ManagementFactory;
+import javax.management.Attribute;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProbableMetricsTests {
+
+  @BeforeEach
+  void setUp() {
+    ProbableMetrics.reset();
+    ProbableMetrics.enable();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ProbableMetrics.disable();
+    ProbableMetrics.reset();
+  }
+
+  @Test
+  void operations_shouldBeCountedPerOutcome() {
+    Probable.of(TEST_VALUE)
+            .map(String::length)
+            .test(x -> x > 100, TEST_MESSAGE)
+            .map(Object::toString);
+    Probable.of(() -> null);
+    var snapshot = ProbableMetrics.snapshot();
+    assertThat(snapshot.getCount(ProbableOperation.OF, ProbableOutcome.VALUE)).isEqualTo(1);
+    assertThat(snapshot.getCount(ProbableOperation.OF, ProbableOutcome.NOTHING)).isEqualTo(1);
+    assertThat(snapshot.getCount(ProbableOperation.MAP, ProbableOutcome.VALUE)).isEqualTo(1);
+    assertThat(snapshot.getCount(ProbableOperation.MAP, ProbableOutcome.FAILURE)).isEqualTo(1);
+    assertThat(snapshot.getCount(ProbableOperation.TEST, ProbableOutcome.FAILURE)).isEqualTo(1);
+    assertThat(snapshot.getCount(ProbableOperation.MAP)).isEqualTo(2);
+    assertThat(snapshot.toMap()).containsEntry("TEST.FAILURE", 1L);
+  }
+
+  @Test
+  void caughtExceptions_shouldBeCounted() {
+    Probable.of(TEST_VALUE).thenAccept(x -> {throw new IllegalStateException(TEST_MESSAGE);});
+    Probable.of(TEST_VALUE).thenRun(() -> {throw new IllegalStateException(TEST_MESSAGE);});
+    var snapshot = ProbableMetrics.snapshot();
+    assertThat(snapshot.getCaughtExceptions()).isEqualTo(2);
+    assertThat(snapshot.getCount(ProbableOperation.THEN_ACCEPT, ProbableOutcome.FAILURE)).isEqualTo(1);
+    assertThat(snapshot.getCount(ProbableOperation.THEN_RUN, ProbableOutcome.FAILURE)).isEqualTo(1);
+  }
+
+  @Test
+  void disabled_shouldNotCount() {
+    ProbableMetrics.disable();
+    Probable.of(TEST_VALUE).map(String::length);
+    assertThat(ProbableMetrics.isEnabled()).isFalse();
+    assertThat(ProbableMetrics.snapshot().getCount(ProbableOperation.MAP)).isZero();
+  }
+
+  @Test
+  void reset_shouldClearCounters() {
+    Probable.of(TEST_VALUE);
+    ProbableMetrics.reset();
+    assertThat(ProbableMetrics.snapshot().getCount(ProbableOperation.OF)).isZero();
+  }
+
+  @Test
+  void registerMBean_shouldExposeCountsAndToggle() throws Exception {
+    var registered = ProbableMetrics.registerMBean();
+    ProbableAssertions.assertThat(registered).hasValue(new ObjectName(ProbableMetrics.OBJECT_NAME));
+    var server = ManagementFactory.getPlatformMBeanServer();
+    var name = registered.get();
+    try {
+      ProbableAssertions.assertThat(ProbableMetrics.registerMBean()).hasFailed();
+      Probable.of(TEST_VALUE);
+      assertThat(server.getAttribute(name, "CaughtExceptions")).isEqualTo(0L);
+      server.setAttribute(name, new Attribute("Enabled", false));
+      assertThat(ProbableMetrics.isEnabled()).isFalse();
+      server.invoke(name, "reset", new Object[0], new String[0]);
+      assertThat(ProbableMetrics.snapshot().getCount(ProbableOperation.OF)).isZero();
+    } finally {
+      server.unregisterMBean(name);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProbablePipelineTests {
+
+  private static final String TOO_SHORT = "too short";
+
+  private final List<Integer> accepted = new ArrayList<>();
+
+  private final ProbablePipeline<String, Integer> pipeline = Probable.<String>pipeline()
+                                                                     .map(String::trim)
+                                                                     .test(x -> x.length() > 2, TOO_SHORT)
+                                                                     .flatMap(this::parse)
+                                                                     .test(x -> x > 0)
+                                                                     .thenAccept(accepted::add)
+                                                                     .map(x -> x * 2);
+
+  private Probable<Integer> fluent(Probable<String> probable) {
+    return probable.map(String::trim)
+                   .test(x -> x.length() > 2, TOO_SHORT)
+                   .flatMap(this::parse)
+                   .test(x -> x > 0)
+                   .<Integer>thenAccept(accepted::add)
+                   .map(x -> x * 2);
+  }
+
+  private Probable<Integer> parse(String value) {
+    return Probable.of(() -> Integer.valueOf(value));
+  }
+
+  @Test
+  void apply_validInput_shouldEqualFluentChain() {
+    assertSameOutcome(Probable.of(" 123 "));
+    assertThat(pipeline.apply(" 123 ").get()).isEqualTo(246);
+    assertThat(accepted).containsExactly(123, 123, 123);
+  }
+
+  @Test
+  void apply_failingTest_shouldCarryMessageOfThatStep() {
+    assertSameOutcome(Probable.of("1"));
+    ProbableAssertions.assertThat(pipeline.apply("1"))
+                      .hasFailed()
+                      .hasMessage(TOO_SHORT);
+  }
+
+  @Test
+  void apply_failingDefaultTest_shouldCarryDefaultMessage() {
+    assertSameOutcome(Probable.of("-123"));
+    ProbableAssertions.assertThat(pipeline.apply("-123"))
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.FAILED_PREDICATE, -123));
+  }
+
+  @Test
+  void apply_throwingStep_shouldEqualFluentChain() {
+    assertSameOutcome(Probable.of("abc"));
+    var pipelineResult = pipeline.apply("abc");
+    ProbableAssertions.assertThat(pipelineResult).hasFailed();
+    assertThat(pipelineResult.getException()).isInstanceOf(NumberFormatException.class);
+    var throwing = Probable.<String>pipeline().map(x -> {throw new IllegalStateException(TEST_MESSAGE);});
+    ProbableAssertions.assertThat(throwing.apply(TEST_VALUE))
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void apply_failure_shouldReturnSameInstance() {
+    var failure = Probable.<String>failure(TEST_MESSAGE);
+    assertThat(pipeline.apply(failure)).isSameAs(failure);
+  }
+
+  @Test
+  void apply_nothing_shouldEqualFluentChain() {
+    assertSameOutcome(Probable.nothing());
+    assertSameOutcome(Probable.nothing(TEST_MESSAGE));
+    var testOnly = Probable.<String>pipeline().test(x -> false);
+    assertThat(testOnly.apply(Probable.nothing(TEST_MESSAGE)).getMessage()).isEqualTo(TEST_MESSAGE);
+    assertThat(testOnly.apply((String) null).hasFailed()).isFalse();
+  }
+
+  @Test
+  void apply_flatMapToNothing_shouldEqualFluentChain() {
+    var flatMapToNothing = Probable.<String>pipeline().flatMap(x -> Probable.<String>nothing(TEST_MESSAGE))
+                                                       .test(x -> false);
+    var expected = Probable.of(TEST_VALUE).flatMap(x -> Probable.<String>nothing(TEST_MESSAGE)).test(x -> false);
+    var actual = flatMapToNothing.apply(TEST_VALUE);
+    assertThat(actual.hasValue()).isFalse();
+    assertThat(actual.hasFailed()).isFalse();
+    assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+  }
+
+  @Test
+  void apply_flatMapReturnsNull_shouldEqualFluentChain() {
+    var flatMapToNull = Probable.<String>pipeline().flatMap(x -> null).map(String::valueOf);
+    var expected = Probable.of(TEST_VALUE).flatMap(x -> null).map(String::valueOf);
+    var actual = flatMapToNull.apply(TEST_VALUE);
+    ProbableAssertions.assertThat(actual).hasFailed().hasMessage(Messages.FLATMAP_RETURNED_NULL);
+    ProbableAssertions.assertThat(expected).hasFailed().hasMessage(Messages.FLATMAP_RETURNED_NULL);
+    assertThat(actual.getException()).isInstanceOf(NullPointerException.class);
+    assertThat(expected.getException()).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void apply_asFunction_shouldWorkWithFlatMap() {
+    var result = Probable.of(" 420 ").flatMap(pipeline);
+    ProbableAssertions.assertThat(result).hasValue(840);
+  }
+
+  @Test
+  void steps_shouldNotChangeOriginalPipeline() {
+    var base = Probable.<String>pipeline().map(String::length);
+    var extended = base.test(x -> x > 100, TOO_SHORT);
+    ProbableAssertions.assertThat(base.apply(TEST_VALUE)).hasValue(TEST_VALUE.length());
+    ProbableAssertions.assertThat(extended.apply(TEST_VALUE)).hasFailed();
+  }
+
+  private void assertSameOutcome(Probable<String> input) {
+    var expected = fluent(input);
+    var actual = pipeline.apply(input);
+    assertThat(actual.hasFailed()).isEqualTo(expected.hasFailed());
+    assertThat(actual.hasValue()).isEqualTo(expected.hasValue());
+    assertThat(actual.get()).isEqualTo(expected.get());
+    assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+  }
+
+}
@@ -0,0 +1,147 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import com.compilit.probably.testutil.TestFailureCode;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ProbablePrimitiveTests {
+
+  @Test
+  void of_int_shouldHaveValue() {
+    var probable = ProbableInt.of(42);
+    assertThat(probable.hasValue()).isTrue();
+    assertThat(probable.isEmpty()).isFalse();
+    assertThat(probable.hasFailed()).isFalse();
+    assertThat(probable.getAsInt()).isEqualTo(42);
+    assertThat(probable.getMessage()).isEqualTo(Messages.NOTHING_TO_REPORT);
+  }
+
+  @Test
+  void of_smallInt_shouldReturnSharedInstance() {
+    assertThat(ProbableInt.of(7)).isSameAs(ProbableInt.of(7));
+    assertThat(ProbableLong.of(7L)).isSameAs(ProbableLong.of(7L));
+  }
+
+  @Test
+  void of_throwingSupplier_shouldReturnFailure() {
+    var probable = ProbableLong.of(() -> {throw new IllegalStateException(TEST_MESSAGE);});
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getMessage()).isEqualTo(TEST_MESSAGE);
+    assertThat(probable.getException()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void nothing_shouldBeEmptyWithoutFailure() {
+    var probable = ProbableDouble.nothing("no %s", "price");
+    assertThat(probable.isEmpty()).isTrue();
+    assertThat(probable.hasFailed()).isFalse();
+    assertThat(probable.getMessage()).isEqualTo("no price");
+    assertThat(probable.orElse(1.5)).isEqualTo(1.5);
+  }
+
+  @Test
+  void failure_withFailureCode_shouldKeepFailureCode() {
+    var probable = ProbableInt.failure(TestFailureCode.MISSING_FIELD, "age");
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getFailureCode()).isEqualTo(TestFailureCode.MISSING_FIELD);
+    assertThat(probable.getMessage()).isEqualTo("field age is missing");
+  }
+
+  @Test
+  void map_value_shouldApplyFunction() {
+    assertThat(ProbableInt.of(20).map(x -> x + 1).getAsInt()).isEqualTo(21);
+    assertThat(ProbableLong.of(20L).map(x -> x * 2).getAsLong()).isEqualTo(40L);
+    assertThat(ProbableDouble.of(1.5).map(x -> x * 2).getAsDouble()).isEqualTo(3.0);
+  }
+
+  @Test
+  void map_failure_shouldReturnSameInstance() {
+    var failure = ProbableInt.failure(TEST_MESSAGE);
+    assertThat(failure.map(x -> x + 1)).isSameAs(failure);
+  }
+
+  @Test
+  void map_throwingFunction_shouldReturnFailure() {
+    var probable = ProbableInt.of(1).map(x -> x / 0);
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getException()).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void test_failingPredicate_shouldReturnFailure() {
+    var probable = ProbableInt.of(5).test(x -> x > 10);
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getMessage()).isEqualTo(String.format(Messages.FAILED_PREDICATE, 5));
+    assertThat(ProbableInt.of(5).test(x -> x > 10, TEST_MESSAGE).getMessage()).isEqualTo(TEST_MESSAGE);
+  }
+
+  @Test
+  void test_passingPredicate_shouldReturnSameInstance() {
+    var probable = ProbableLong.of(500L);
+    assertThat(probable.test(x -> x > 10)).isSameAs(probable);
+  }
+
+  @Test
+  void thenAccept_value_shouldCallConsumer() {
+    var consumed = new AtomicLong();
+    ProbableLong.of(12L).thenAccept(consumed::set);
+    assertThat(consumed).hasValue(12L);
+  }
+
+  @Test
+  void mapToInt_value_shouldReturnProbableInt() {
+    var probable = Probable.of("probably").mapToInt(String::length);
+    assertThat(probable.getAsInt()).isEqualTo(8);
+  }
+
+  @Test
+  void mapToLong_failure_shouldKeepFailureDetails() {
+    var exception = new IllegalArgumentException(TEST_MESSAGE);
+    var probable = Probable.<String>failure(exception, TEST_MESSAGE).mapToLong(Long::parseLong);
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getMessage()).isEqualTo(TEST_MESSAGE);
+    assertThat(probable.getException()).isSameAs(exception);
+  }
+
+  @Test
+  void mapToDouble_throwingFunction_shouldReturnFailure() {
+    var probable = Probable.of("not a number").mapToDouble(Double::parseDouble);
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getException()).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void mapToObj_value_shouldReturnProbable() {
+    ProbableAssertions.assertThat(ProbableInt.of(3).mapToObj(Integer::toString))
+                      .hasValue("3");
+  }
+
+  @Test
+  void mapToObj_failure_shouldReturnOriginalFailure() {
+    var failure = Probable.<String>failure(TEST_MESSAGE);
+    var probable = failure.mapToInt(String::length).mapToObj(x -> x);
+    assertThat(probable).isSameAs(failure);
+  }
+
+  @Test
+  void boxed_nothing_shouldReturnNothing() {
+    ProbableAssertions.assertThat(ProbableDouble.nothing().boxed()).isEmpty();
+    assertThat(ProbableDouble.of(2.5).boxed().get()).isEqualTo(2.5);
+  }
+
+  @Test
+  void or_nothing_shouldReturnAlternative() {
+    assertThat(ProbableInt.nothing().or(() -> ProbableInt.of(1000)).getAsInt()).isEqualTo(1000);
+  }
+
+  @Test
+  void equals_sameValues_shouldBeEqual() {
+    assertThat(ProbableInt.of(1000)).isEqualTo(ProbableInt.of(1000)).hasSameHashCodeAs(ProbableInt.of(1000));
+    assertThat(ProbableDouble.of(Double.NaN)).isEqualTo(ProbableDouble.of(Double.NaN));
+    assertThat(ProbableInt.nothing()).isNotEqualTo(ProbableInt.of(0));
+  }
+}
@@ -0,0 +1,156 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ProbableRetryTests {
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void retry_succeedsAfterFailures_shouldReturnValue() {
+    var probable = Probable.retry(failingTimes(2), RetryPolicy.fixedDelay(5, Duration.ofMillis(1)));
+    ProbableAssertions.assertThat(probable).hasValue(TEST_VALUE);
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void retry_alwaysFailing_shouldRecordAttemptsAndLastException() {
+    var probable = Probable.retry(failingTimes(10), RetryPolicy.fixedDelay(3, Duration.ZERO));
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.RETRIES_EXHAUSTED, 3, TEST_MESSAGE + 3));
+    assertThat(probable.getException()).isInstanceOf(IllegalStateException.class).hasMessage(TEST_MESSAGE + 3);
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void retry_alwaysFailing_shouldExposeAttemptsAsFailureCode() {
+    var probable = Probable.retry(failingTimes(10), RetryPolicy.fixedDelay(3, Duration.ZERO));
+    assertThat(probable.getFailureCode()).isInstanceOf(RetryFailureCode.class);
+    var failureCode = (RetryFailureCode) probable.getFailureCode();
+    assertThat(failureCode.getCode()).isEqualTo(RetryFailureCode.RETRIES_EXHAUSTED);
+    assertThat(failureCode.getAttempts()).isEqualTo(3);
+    assertThat(failureCode.isTimeBudgetExhausted()).isFalse();
+  }
+
+  @Test
+  void retry_notRetryableException_shouldReturnFirstFailure() {
+    var policy = RetryPolicy.fixedDelay(5, Duration.ZERO).retryingOn(UncheckedIOException.class);
+    var probable = Probable.retry(failingTimes(10), policy);
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE + 1);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void retry_nothing_shouldNotRetry() {
+    var probable = Probable.retry(() -> {
+      calls.incrementAndGet();
+      return null;
+    }, RetryPolicy.fixedDelay(5, Duration.ZERO));
+    ProbableAssertions.assertThat(probable).isEmpty();
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void retry_timeBudgetExhausted_shouldStopEarly() {
+    var policy = RetryPolicy.fixedDelay(100, Duration.ofMillis(20)).withTimeBudget(Duration.ofMillis(50));
+    var probable = Probable.retry(failingTimes(100), policy);
+    assertThat(probable.hasFailed()).isTrue();
+    assertThat(probable.getMessage()).startsWith("Time budget of PT0.05S exhausted after");
+    assertThat(calls.get()).isBetween(1, 3);
+    var failureCode = (RetryFailureCode) probable.getFailureCode();
+    assertThat(failureCode.isTimeBudgetExhausted()).isTrue();
+    assertThat(failureCode.getAttempts()).isEqualTo(calls.get());
+  }
+
+  @Test
+  void retry_invalidMaxAttempts_shouldReturnFailureWithoutCallingSupplier() {
+    var probable = Probable.retry(failingTimes(0), RetryPolicy.fixedDelay(0, Duration.ZERO));
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.INVALID_MAX_ATTEMPTS, 0));
+    assertThat(calls).hasValue(0);
+  }
+
+  @Test
+  void retry_interrupted_shouldReturnFailure() {
+    Thread.currentThread().interrupt();
+    var probable = Probable.retry(failingTimes(10), RetryPolicy.fixedDelay(5, Duration.ofSeconds(10)));
+    assertThat(Thread.interrupted()).isTrue();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.INTERRUPTED_WHILE_RETRYING, 2));
+  }
+
+  @Test
+  void delayNanos_exponentialBackoff_shouldDoubleUpToMaxDelay() {
+    var policy = RetryPolicy.exponentialBackoff(10, Duration.ofNanos(100), Duration.ofNanos(500));
+    assertThat(policy.delayNanos(1)).isEqualTo(100);
+    assertThat(policy.delayNanos(2)).isEqualTo(200);
+    assertThat(policy.delayNanos(3)).isEqualTo(400);
+    assertThat(policy.delayNanos(4)).isEqualTo(500);
+  }
+
+  @Test
+  void delayNanos_withJitter_shouldStayWithinBounds() {
+    var policy = RetryPolicy.exponentialBackoff(10, Duration.ofNanos(1000), Duration.ofNanos(1000)).withJitter(0.5);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(policy.delayNanos(1)).isBetween(500L, 1000L);
+    }
+  }
+
+  @Test
+  void retryAsync_succeedsAfterFailures_shouldCompleteWithValue() {
+    var policy = RetryPolicy.exponentialBackoff(5, Duration.ofMillis(1), Duration.ofMillis(10)).withJitter(1);
+    var probable = Probable.retryAsync(failingTimes(3), policy, scheduler).join();
+    ProbableAssertions.assertThat(probable).hasValue(TEST_VALUE);
+    assertThat(calls).hasValue(4);
+  }
+
+  @Test
+  void retryAsync_alwaysFailing_shouldCompleteWithFailure() {
+    var probable = Probable.retryAsync(failingTimes(10), RetryPolicy.fixedDelay(2, Duration.ZERO), scheduler).join();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.RETRIES_EXHAUSTED, 2, TEST_MESSAGE + 2));
+  }
+
+  @Test
+  void retryAsync_rejectedByScheduler_shouldCompleteWithFailure() {
+    scheduler.shutdown();
+    var probable = Probable.retryAsync(failingTimes(0), RetryPolicy.fixedDelay(2, Duration.ZERO), scheduler).join();
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.RETRY_REJECTED, 1));
+  }
+
+  private Supplier<String> failingTimes(int failures) {
+    return () -> {
+      var call = calls.incrementAndGet();
+      if (call <= failures) {
+        throw new IllegalStateException(TEST_MESSAGE + call);
+      }
+      return TEST_VALUE;
+    };
+  }
+}
@@ -0,0 +1,151 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ProbableSingleFlightTests {
+
+  private final ProbableSingleFlight<String, String> singleFlight = ProbableSingleFlight.create();
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final AtomicInteger calls = new AtomicInteger();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final Queue<Thread> joiners = new ConcurrentLinkedQueue<>();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void of_concurrentCallersOfSameKey_shouldShareOneSupplier() throws Exception {
+    var first = executor.submit(() -> singleFlight.of("key", blocking(() -> TEST_VALUE)));
+    awaitInFlight(1);
+    var others = new ArrayList<Future<Probable<String>>>();
+    for (int i = 0; i < 10; i++) {
+      others.add(joining(() -> singleFlight.of("key", blocking(() -> "other"))));
+    }
+    awaitJoined(10);
+    release.countDown();
+    var outcome = first.get(5, TimeUnit.SECONDS);
+    ProbableAssertions.assertThat(outcome).hasValue(TEST_VALUE);
+    for (var other : others) {
+      assertThat(other.get(5, TimeUnit.SECONDS)).isSameAs(outcome);
+    }
+    assertThat(calls).hasValue(1);
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void of_failure_shouldBeSharedAsSameInstance() throws Exception {
+    Supplier<String> failing = () -> {throw new IllegalStateException(TEST_MESSAGE);};
+    var first = executor.submit(() -> singleFlight.of("key", blocking(failing)));
+    awaitInFlight(1);
+    var second = joining(() -> singleFlight.of("key", blocking(() -> TEST_VALUE)));
+    awaitJoined(1);
+    release.countDown();
+    var outcome = first.get(5, TimeUnit.SECONDS);
+    ProbableAssertions.assertThat(outcome).hasFailed().hasMessage(TEST_MESSAGE);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(outcome);
+  }
+
+  @Test
+  void of_differentKeys_shouldNotWaitForEachOther() {
+    executor.submit(() -> singleFlight.of("slow", blocking(() -> TEST_VALUE)));
+    awaitInFlight(1);
+    ProbableAssertions.assertThat(singleFlight.of("fast", () -> "fast")).hasValue("fast");
+    release.countDown();
+  }
+
+  @Test
+  void of_sequentialCalls_shouldRunSupplierEveryTime() {
+    singleFlight.of("key", () -> calls.incrementAndGet() + "");
+    singleFlight.of("key", () -> calls.incrementAndGet() + "");
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void ofAsync_concurrentCallers_shouldShareOneSupplier() throws Exception {
+    CompletableFuture<Probable<String>> first = singleFlight.ofAsync("key", blocking(() -> TEST_VALUE), executor);
+    awaitInFlight(1);
+    var second = singleFlight.ofAsync("key", blocking(() -> "other"), executor);
+    second.cancel(true);
+    var third = singleFlight.ofAsync("key", blocking(() -> "other"), executor);
+    release.countDown();
+    ProbableAssertions.assertThat(first.get(5, TimeUnit.SECONDS)).hasValue(TEST_VALUE);
+    assertThat(third.get(5, TimeUnit.SECONDS)).isSameAs(first.get());
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void ofAsync_rejectingExecutor_shouldCompleteWithFailure() {
+    var rejecting = Executors.newSingleThreadExecutor();
+    rejecting.shutdown();
+    var outcome = singleFlight.ofAsync("key", () -> TEST_VALUE, rejecting).join();
+    assertThat(outcome.hasFailed()).isTrue();
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  private <T> Supplier<T> blocking(Supplier<T> supplier) {
+    return () -> {
+      calls.incrementAndGet();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return supplier.get();
+    };
+  }
+
+  /**
+   * Submit a task that registers its thread before it calls the single flight, so {@link #awaitJoined(int)} can tell
+   * when it waits for the running supplier.
+   */
+  private <T> Future<T> joining(Callable<T> task) {
+    return executor.submit(() -> {
+      joiners.add(Thread.currentThread());
+      return task.call();
+    });
+  }
+
+  /**
+   * Wait until the given number of joining tasks have started and each of them is parked on the running flight.
+   * A task that would run its own (blocking) supplier waits with a timeout instead, so it is never counted.
+   */
+  private void awaitJoined(int count) {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (joiners.size() < count || !joiners.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("callers did not join the running supplier");
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  private void awaitInFlight(int count) {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (singleFlight.getInFlightCount() < count || calls.get() < count) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("supplier did not start");
+      }
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class ProbableTimeoutTests {
+
+  @Test
+  void of_fastSupplier_shouldReturnValue() {
+    var probable = Probable.of(() -> TEST_VALUE, Duration.ofSeconds(5));
+    ProbableAssertions.assertThat(probable).hasValue(TEST_VALUE);
+  }
+
+  @Test
+  void of_throwingSupplier_shouldReturnFailure() {
+    var probable = Probable.of(() -> {throw new IllegalStateException(TEST_MESSAGE);}, Duration.ofSeconds(5));
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+    assertThat(probable.getException()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void of_slowSupplier_shouldReturnFailureAndInterruptSupplier() throws InterruptedException {
+    var interrupted = new CountDownLatch(1);
+    var timeout = Duration.ofMillis(50);
+    var start = System.nanoTime();
+    var probable = Probable.of(() -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return TEST_VALUE;
+    }, timeout);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(String.format(Messages.TIMED_OUT, timeout));
+    assertThat(probable.getException()).isInstanceOf(TimeoutException.class);
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void of_givenExecutor_shouldRunSupplierOnExecutor() {
+    var executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "timeout-test"));
+    try {
+      var probable = Probable.of(() -> Thread.currentThread().getName(), Duration.ofSeconds(5), executor);
+      ProbableAssertions.assertThat(probable).hasValue("timeout-test");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void of_rejectingExecutor_shouldReturnFailure() {
+    var executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    var probable = Probable.of(() -> TEST_VALUE, Duration.ofSeconds(5), executor);
+    assertThat(probable.hasFailed()).isTrue();
+  }
+}
@@ -0,0 +1,87 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ProbableTraceTests {
+
+  @AfterEach
+  void tearDown() {
+    ProbableTrace.disable();
+  }
+
+  @Test
+  void getTrace_disabled_shouldBeEmpty() {
+    var probable = Probable.of(TEST_VALUE).map(String::length);
+    assertThat(probable.getTrace().isEmpty()).isTrue();
+    assertThat(probable.getTrace()).hasToString("");
+  }
+
+  @Test
+  void getTrace_enabled_shouldContainAppliedOperations() {
+    ProbableTrace.enable();
+    var probable = Probable.of(TEST_VALUE)
+                           .map(String::length)
+                           .test(x -> x > 0, TEST_MESSAGE)
+                           .flatMap(x -> Probable.of(x * 2))
+                           .test(x -> x > 100, TEST_MESSAGE)
+                           .map(Object::toString);
+    ProbableAssertions.assertThat(probable).hasFailed();
+    var trace = probable.getTrace();
+    assertThat(trace.size()).isEqualTo(4);
+    assertThat(trace.getOperation(0)).isEqualTo(ProbableOperation.OF);
+    assertThat(trace.getOperation(3)).isEqualTo(ProbableOperation.TEST);
+    assertThat(trace.getCallSite(0)).isNull();
+    assertThat(trace).hasToString("OF -> MAP -> FLAT_MAP -> TEST");
+    assertThat(probable).isInstanceOf(Probable.Failure.class);
+  }
+
+  @Test
+  void getTrace_exceptionInThenAccept_shouldEndWithThenAccept() {
+    ProbableTrace.enable();
+    var probable = Probable.of(TEST_VALUE).thenAccept(x -> {throw new IllegalStateException(TEST_MESSAGE);});
+    assertThat(probable.getTrace()).hasToString("OF -> THEN_ACCEPT");
+    ProbableAssertions.assertThat(probable).hasFailed();
+  }
+
+  @Test
+  void getTrace_sharedInstances_shouldNotBeModified() {
+    ProbableTrace.enable();
+    var traced = Probable.of(true);
+    ProbableTrace.disable();
+    assertThat(traced.getTrace().size()).isEqualTo(1);
+    assertThat(Probable.of(true).getTrace().isEmpty()).isTrue();
+  }
+
+  @Test
+  void getTrace_longChain_shouldDropOldestSteps() {
+    ProbableTrace.enable();
+    var probable = Probable.of(0);
+    for (int i = 0; i < ProbableTrace.MAX_DEPTH + 5; i++) {
+      probable = probable.map(x -> x + 1);
+    }
+    var trace = probable.getTrace();
+    assertThat(trace.size()).isEqualTo(ProbableTrace.MAX_DEPTH);
+    assertThat(trace.getDroppedCount()).isEqualTo(6);
+    assertThat(trace.getOperation(0)).isEqualTo(ProbableOperation.MAP);
+    assertThat(trace.toString()).startsWith("(6 more) -> MAP");
+    assertThatThrownBy(() -> trace.getOperation(ProbableTrace.MAX_DEPTH))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void getTrace_withCallSites_shouldContainCaller() {
+    ProbableTrace.enableWithCallSites();
+    var probable = Probable.of(TEST_VALUE).map(String::length);
+    var trace = probable.getTrace();
+    assertThat(trace.getCallSite(0)).contains(ProbableTraceTests.class.getName());
+    assertThat(trace.getCallSite(1)).contains("getTrace_withCallSites_shouldContainCaller");
+  }
+
+}
@@ -0,0 +1,91 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.probably.testutil.ProbableAssertions;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ProbableTraversalTests {
+
+  private final List<Integer> input = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+  @Test
+  void traverse_allValues_shouldReturnValuesInOrder() {
+    var probable = Probable.traverse(input, x -> Probable.of(x * 2));
+    assertThat(probable.get()).hasSize(input.size()).startsWith(0, 2, 4).endsWith(19_998);
+  }
+
+  @Test
+  void traverse_failure_shouldStopAtFirstFailure() {
+    var calls = new AtomicInteger();
+    var probable = Probable.traverse(input, x -> {
+      calls.incrementAndGet();
+      return x == 10 ? Probable.failure("failed at %d", x) : Probable.of(x);
+    });
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage("failed at 10");
+    assertThat(calls).hasValue(11);
+  }
+
+  @Test
+  void traverse_throwingFunction_shouldReturnFailure() {
+    var probable = Probable.traverse(input, x -> {throw new IllegalStateException(TEST_MESSAGE);});
+    ProbableAssertions.assertThat(probable)
+                      .hasFailed()
+                      .hasMessage(TEST_MESSAGE);
+  }
+
+  @Test
+  void traverseParallel_allValues_shouldEqualSequential() {
+    var sequential = Probable.traverse(input, x -> Probable.of(x + 1));
+    var parallel = Probable.traverseParallel(input, x -> Probable.of(x + 1));
+    assertThat(parallel.get()).isEqualTo(sequential.get());
+  }
+
+  @Test
+  void traverseParallel_nothing_shouldContributeNull() {
+    var probable = Probable.traverseParallel(List.of(1, 2, 3), x -> x == 2 ? Probable.nothing() : Probable.of(x));
+    assertThat(probable.get()).containsExactly(1, null, 3);
+  }
+
+  @Test
+  void traverseParallel_multipleFailures_shouldReturnFirstFailureInInputOrder() {
+    var pool = new ForkJoinPool(8);
+    try {
+      for (int run = 0; run < 20; run++) {
+        var probable = Probable.traverseParallel(input, x -> x % 1000 == 999
+          ? Probable.failure("failed at %d", x)
+          : Probable.of(x), pool);
+        ProbableAssertions.assertThat(probable)
+                          .hasFailed()
+                          .hasMessage("failed at 999");
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void traverseParallel_failure_shouldSkipLaterElements() {
+    var calls = new AtomicInteger();
+    var probable = Probable.traverseParallel(input, x -> {
+      calls.incrementAndGet();
+      return x == 0 ? Probable.failure(TEST_MESSAGE) : Probable.of(x);
+    }, new ForkJoinPool(1));
+    ProbableAssertions.assertThat(probable).hasFailed();
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void traverse_empty_shouldReturnEmptyList() {
+    assertThat(Probable.traverseParallel(List.<Integer>of(), Probable::of).get()).isEmpty();
+  }
+
+}
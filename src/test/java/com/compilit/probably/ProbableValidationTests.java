@@ -0,0 +1,89 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.ProbableAssertions.assertThat;
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static com.compilit.probably.testutil.TestValue.TEST_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.probably.testutil.TestFailureCode;
+import org.junit.jupiter.api.Test;
+
+class ProbableValidationTests {
+
+  @Test
+  void result_allRulesPass_shouldReturnValue() {
+    var validation = Probable.validate(TEST_VALUE)
+                             .check(x -> !x.isEmpty(), "value is empty")
+                             .check(x -> x.length() < 100, TestFailureCode.INVALID_FORMAT);
+    assertThat(validation.getViolationCount()).isZero();
+    assertThat(validation.result()).hasValue(TEST_VALUE);
+    assertThat(validation.result().getViolations()).isEmpty();
+  }
+
+  @Test
+  void result_rulesFail_shouldReturnFailureWithAllViolations() {
+    var probable = Probable.validate(TEST_VALUE)
+                           .check(String::isEmpty, "value is not empty")
+                           .check(x -> x.length() > 100, "value %s is too short", TEST_VALUE)
+                           .check(x -> x.startsWith("test"), "value does not start with test")
+                           .check(x -> false, TestFailureCode.MISSING_FIELD, "name")
+                           .check(x -> false, TestFailureCode.INVALID_FORMAT)
+                           .result();
+    assertThat(probable).hasFailed();
+    var violations = probable.getViolations();
+    assertThat(violations).hasSize(4);
+    assertThat(violations.get(0).getMessage()).isEqualTo("value is not empty");
+    assertThat(violations.get(0).getFailureCode()).isNull();
+    assertThat(violations.get(1).getMessage()).isEqualTo("value test value is too short");
+    assertThat(violations.get(2).getFailureCode()).isEqualTo(TestFailureCode.MISSING_FIELD);
+    assertThat(violations.get(2).getMessage()).isEqualTo("field name is missing");
+    assertThat(violations.get(3).getFailureCode()).isEqualTo(TestFailureCode.INVALID_FORMAT);
+    assertThat(probable.getMessage()).startsWith("Validation failed with 4 violation(s): [value is not empty, ");
+    assertThatThrownBy(() -> violations.add(violations.get(0))).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void check_ruleThrows_shouldRecordViolation() {
+    var probable = Probable.validate(TEST_VALUE)
+                           .check(x -> {throw new IllegalStateException(TEST_MESSAGE);}, "not reached")
+                           .result();
+    assertThat(probable).hasFailed();
+    assertThat(probable.getViolations().get(0).getMessage()).isEqualTo(TEST_MESSAGE);
+  }
+
+  @Test
+  void check_nullValue_shouldSkipRulesAndReturnNothing() {
+    var probable = Probable.<String>validate(null)
+                           .check(String::isEmpty, "value is not empty")
+                           .result();
+    assertThat(probable).isEmpty();
+  }
+
+  @Test
+  void check_manyViolations_shouldKeepAll() {
+    var validation = Probable.validate(TEST_VALUE);
+    for (int i = 0; i < 20; i++) {
+      validation.check(x -> false, "rule %d", i);
+    }
+    var violations = validation.result().getViolations();
+    assertThat(violations).hasSize(20);
+    assertThat(violations.get(19).getMessage()).isEqualTo("rule 19");
+  }
+
+  @Test
+  void getViolations_otherProbables_shouldBeEmpty() {
+    assertThat(Probable.of(TEST_VALUE).getViolations()).isEmpty();
+    assertThat(Probable.failure(TEST_MESSAGE).getViolations()).isEmpty();
+    assertThat(Probable.nothing().getViolations()).isEmpty();
+  }
+
+  @Test
+  void check_nullArguments_shouldThrow() {
+    var validation = Probable.validate(TEST_VALUE);
+    assertThatThrownBy(() -> validation.check(null, TEST_MESSAGE)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> validation.check(x -> true, (String) null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> validation.check(x -> true, (FailureCode) null)).isInstanceOf(NullPointerException.class);
+  }
+
+}
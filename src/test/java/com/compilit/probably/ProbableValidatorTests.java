@@ -0,0 +1,105 @@
+package com.compilit.probably;
+
+import static com.compilit.probably.testutil.ProbableAssertions.assertThat;
+import static com.compilit.probably.testutil.TestValue.TEST_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.compilit.probably.testutil.TestFailureCode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ProbableValidatorTests {
+
+  private final ProbableValidator<String> validator = Probable.<String>validator()
+                                                             .rule("notEmpty", x -> !x.isEmpty(), "value is empty")
+                                                             .rule("short", x -> x.length() < 5, "value is too long")
+                                                             .rule("format", x -> x.matches("[a-z]*"),
+                                                                   TestFailureCode.INVALID_FORMAT);
+
+  @Test
+  void validate_list_shouldReportEveryRecord() {
+    var report = validator.validate(List.of("abc", "", "ABCDEF", "ab1"));
+    assertThat(report.size()).isEqualTo(4);
+    assertThat(report.getValidCount()).isEqualTo(1);
+    assertThat(report.getInvalidCount()).isEqualTo(3);
+    assertThat(report.isValid(0)).isTrue();
+    assertThat(report.getViolatedRules(1)).containsExactly("notEmpty");
+    assertThat(report.getViolatedRules(2)).containsExactly("short", "format");
+    assertThat(report.invalidIndices().toArray()).containsExactly(1, 2, 3);
+    assertThat(report.getViolationCounts()).containsExactly(
+      entry("notEmpty", 1L),
+      entry("short", 1L),
+      entry("format", 2L)
+    );
+    assertThat(report.getViolationCount("format")).isEqualTo(2);
+  }
+
+  @Test
+  void getOutcome_shouldMatchApply() {
+    var report = validator.validate(new String[] {"abc", "ABCDEF"});
+    assertThat(report.getOutcome(0)).hasValue("abc");
+    var failure = report.getOutcome(1);
+    assertThat(failure).hasFailed();
+    assertThat(failure.getViolations()).hasSize(2);
+    assertThat(failure.getViolations().get(1).getFailureCode()).isEqualTo(TestFailureCode.INVALID_FORMAT);
+    assertThat(failure.getMessage()).isEqualTo(validator.apply("ABCDEF").getMessage());
+  }
+
+  @Test
+  void validateInParallel_shouldMatchSequential() {
+    var records = IntStream.range(0, 10_000)
+                           .mapToObj(i -> i % 7 == 0 ? "" : "a" + (i % 1000))
+                           .collect(Collectors.toList());
+    var sequential = validator.validate(records);
+    var parallel = validator.validateInParallel(records);
+    var stream = validator.validate(records.parallelStream());
+    assertThat(parallel.getViolationCounts()).isEqualTo(sequential.getViolationCounts());
+    assertThat(stream.getViolationCounts()).isEqualTo(sequential.getViolationCounts());
+    assertThat(parallel.invalidIndices().toArray()).isEqualTo(sequential.invalidIndices().toArray());
+    assertThat(stream.getInvalidCount()).isEqualTo(sequential.getInvalidCount());
+  }
+
+  @Test
+  void validate_moreThan64Rules_shouldCountEveryRule() {
+    var wide = Probable.<Integer>validator();
+    for (int i = 0; i < 100; i++) {
+      var limit = i;
+      wide = wide.rule("rule" + i, x -> x > limit, "value is not above " + limit);
+    }
+    var report = wide.validate(Arrays.asList(50, 200));
+    assertThat(report.isValid(1)).isTrue();
+    assertThat(report.getViolatedRules(0)).hasSize(50).startsWith("rule50").endsWith("rule99");
+    assertThat(report.getViolationCount("rule99")).isEqualTo(1);
+    assertThat(report.getOutcome(0).getViolations()).hasSize(50);
+  }
+
+  @Test
+  void apply_ruleThrows_shouldCountAsViolated() {
+    var throwing = Probable.<String>validator()
+                           .rule("throws", x -> {throw new IllegalStateException(TEST_MESSAGE);}, TEST_MESSAGE);
+    assertThat(throwing.apply("abc")).hasFailed();
+    assertThat(throwing.validate(List.of("abc")).getViolationCount("throws")).isEqualTo(1);
+  }
+
+  @Test
+  void validate_nullRecord_shouldBeValidNothing() {
+    var report = validator.validate(Arrays.asList("abc", null));
+    assertThat(report.isValid(1)).isTrue();
+    assertThat(report.getOutcome(1)).isEmpty();
+    assertThatThrownBy(() -> report.getOutcome(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void rule_nullArguments_shouldThrow() {
+    assertThatThrownBy(() -> validator.rule(null, x -> true, TEST_MESSAGE)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> validator.rule("rule", null, TEST_MESSAGE)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> validator.rule("rule", x -> true, (String) null))
+      .isInstanceOf(NullPointerException.class);
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.compilit.probably.testutil;
+
+import com.compilit.probably.FailureCode;
+
+public enum TestFailureCode implements FailureCode {
+
+  MISSING_FIELD(1, "field %s is missing"),
+  INVALID_FORMAT(2, "invalid format");
+
+  private final int code;
+  private final String messageTemplate;
+
+  TestFailureCode(int code, String messageTemplate) {
+    this.code = code;
+    this.messageTemplate = messageTemplate;
+  }
+
+  @Override
+  public int getCode() {
+    return code;
+  }
+
+  @Override
+  public String getMessageTemplate() {
+    return messageTemplate;
+  }
+}